@@ -1,7 +1,11 @@
 package com.github.hyansts.preparedsqlbuilder.db;
 
+import java.util.Collection;
+
 import com.github.hyansts.preparedsqlbuilder.query.SqlScalarSubquery;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlArrayValue;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlInListPadding;
 
 import static com.github.hyansts.preparedsqlbuilder.sql.SqlConditionOperator.*;
 
@@ -15,6 +19,14 @@ public interface DbComparableField<T> extends DbSortableField {
 		return new SqlCondition(this, EQ, val);
 	}
 
+	/**
+	 * @param val the value to compare to, or {@code null} to skip the comparison.
+	 * @return the equality condition, or {@link SqlCondition#empty()} if the value is {@code null}.
+	 */
+	default SqlCondition eqIfPresent(T val) {
+		return val == null ? SqlCondition.empty() : eq(val);
+	}
+
 	default SqlCondition ne(DbComparableField<T> tf) {
 		return new SqlCondition(this, NE, tf);
 	}
@@ -23,6 +35,10 @@ public interface DbComparableField<T> extends DbSortableField {
 		return new SqlCondition(this, NE, val);
 	}
 
+	default SqlCondition neIfPresent(T val) {
+		return val == null ? SqlCondition.empty() : ne(val);
+	}
+
 	default SqlCondition lt(DbComparableField<T> tf) {
 		return new SqlCondition(this, LT, tf);
 	}
@@ -31,6 +47,10 @@ public interface DbComparableField<T> extends DbSortableField {
 		return new SqlCondition(this, LT, val);
 	}
 
+	default SqlCondition ltIfPresent(T val) {
+		return val == null ? SqlCondition.empty() : lt(val);
+	}
+
 	default SqlCondition gt(DbComparableField<T> tf) {
 		return new SqlCondition(this, GT, tf);
 	}
@@ -39,6 +59,10 @@ public interface DbComparableField<T> extends DbSortableField {
 		return new SqlCondition(this, GT, val);
 	}
 
+	default SqlCondition gtIfPresent(T val) {
+		return val == null ? SqlCondition.empty() : gt(val);
+	}
+
 	default SqlCondition ge(DbComparableField<T> tf) {
 		return new SqlCondition(this, GE, tf);
 	}
@@ -47,6 +71,10 @@ public interface DbComparableField<T> extends DbSortableField {
 		return new SqlCondition(this, GE, val);
 	}
 
+	default SqlCondition geIfPresent(T val) {
+		return val == null ? SqlCondition.empty() : ge(val);
+	}
+
 	default SqlCondition le(DbComparableField<T> tf) {
 		return new SqlCondition(this, LE, tf);
 	}
@@ -55,6 +83,10 @@ public interface DbComparableField<T> extends DbSortableField {
 		return new SqlCondition(this, LE, val);
 	}
 
+	default SqlCondition leIfPresent(T val) {
+		return val == null ? SqlCondition.empty() : le(val);
+	}
+
 	default SqlCondition between(DbComparableField<T> tf1, DbComparableField<T> tf2) {
 		return new SqlCondition(this, BETWEEN, tf1, AND, tf2);
 	}
@@ -95,6 +127,10 @@ public interface DbComparableField<T> extends DbSortableField {
 		return new SqlCondition(this, LIKE, val);
 	}
 
+	default SqlCondition likeIfPresent(T val) {
+		return val == null ? SqlCondition.empty() : like(val);
+	}
+
 	default SqlCondition notLike(DbComparableField<T> tf) {
 		return new SqlCondition(this, NOT_LIKE, tf);
 	}
@@ -115,17 +151,62 @@ public interface DbComparableField<T> extends DbSortableField {
 		return new SqlCondition(this, IN, values);
 	}
 
+	default SqlCondition in(Iterable<T> values, SqlInListPadding padding) {
+		return new SqlCondition(this, IN, padding.pad(values));
+	}
+
+	/**
+	 * @param values the values to match, or {@code null} or an empty list to skip the comparison.
+	 * @return the IN condition, or {@link SqlCondition#empty()} if there are no values.
+	 */
+	default SqlCondition inIfPresent(Collection<T> values) {
+		return values == null || values.isEmpty() ? SqlCondition.empty() : in(values);
+	}
+
 	default SqlCondition in(SqlScalarSubquery<T> subquery) {
 		return new SqlCondition(this, IN, subquery);
 	}
 
+	/**
+	 * Creates a condition matching any of the given values through a single array parameter: {@code "field = ANY(?)"}.
+	 * Unlike {@link #in(Iterable)}, the SQL is the same regardless of the number of values. The database must support
+	 * array parameters, such as PostgreSQL or H2, queries rendered in the other dialects reject the condition, see
+	 * {@link com.github.hyansts.preparedsqlbuilder.sql.SqlDialect#supportsArrayComparison()}.
+	 *
+	 * @param values the values to match.
+	 * @return the condition, its only value is a {@link SqlArrayValue}.
+	 */
+	default SqlCondition inArray(Iterable<T> values) {
+		return new SqlCondition(this, EQ_ANY, new SqlArrayValue<>(values));
+	}
+
 	default SqlCondition notIn(Iterable<T> values) {
 		return new SqlCondition(this, NOT_IN, values);
 	}
 
+	default SqlCondition notIn(Iterable<T> values, SqlInListPadding padding) {
+		return new SqlCondition(this, NOT_IN, padding.pad(values));
+	}
+
+	default SqlCondition notInIfPresent(Collection<T> values) {
+		return values == null || values.isEmpty() ? SqlCondition.empty() : notIn(values);
+	}
+
 	default SqlCondition notIn(SqlScalarSubquery<T> subquery) {
 		return new SqlCondition(this, NOT_IN, subquery);
 	}
 
+	/**
+	 * Creates a condition matching none of the given values through a single array parameter:
+	 * {@code "field <> ALL(?)"}.
+	 *
+	 * @param values the values not to match.
+	 * @return the condition, its only value is a {@link SqlArrayValue}.
+	 * @see #inArray(Iterable)
+	 */
+	default SqlCondition notInArray(Iterable<T> values) {
+		return new SqlCondition(this, NE_ALL, new SqlArrayValue<>(values));
+	}
+
 	DbComparableField<T> mapTo(DbTableLike tableLike);
 }
@@ -1,5 +1,45 @@
 package com.github.hyansts.preparedsqlbuilder.db;
 
+/**
+ * Extracts the values of fields from a source of data, usually the current row of a result set.
+ * <p>
+ * The primitive variants are used when populating primitive fields, implementations backed by sources that can read
+ * primitive values directly, such as {@code ResultSet.getInt}, should override them to avoid boxing every value. By
+ * default, they unbox the value returned by {@link #extract(DbField)}, converting {@code null} to the default value of
+ * the primitive type, {@link #isNull(DbField)} tells those apart from actual zeroes.
+ */
 public interface DbFieldExtractor {
 	<T> T extract(DbField<T> field);
-}
\ No newline at end of file
+
+	default int extractInt(DbField<Integer> field) {
+		Integer value = extract(field);
+		return value == null ? 0 : value;
+	}
+
+	default long extractLong(DbField<Long> field) {
+		Long value = extract(field);
+		return value == null ? 0L : value;
+	}
+
+	default double extractDouble(DbField<Double> field) {
+		Double value = extract(field);
+		return value == null ? 0.0 : value;
+	}
+
+	default boolean extractBoolean(DbField<Boolean> field) {
+		Boolean value = extract(field);
+		return value != null && value;
+	}
+
+	/**
+	 * Checks whether the value of the field is {@code null}. It's called right after the field is read through one of
+	 * the primitive methods. By default, the value is extracted again, implementations backed by a {@code ResultSet}
+	 * should override it to return {@code wasNull()} instead, so nullable primitive columns are not read twice.
+	 *
+	 * @param field the field that was just read.
+	 * @return {@code true} if the value of the field is {@code null}.
+	 */
+	default boolean isNull(DbField<?> field) {
+		return extract(field) == null;
+	}
+}
@@ -7,6 +7,15 @@ public interface DbFieldOrder {
 
 	SqlSortOrder getOrder();
 
+	/**
+	 * @return the expression of the ordered field to be compared in a WHERE clause, which is the full qualification of
+	 * the field rather than its alias. Defaults to the label, {@code null} if the field can't be compared in a WHERE
+	 * clause, e.g.: a window function.
+	 */
+	default String getFieldQualification() {
+		return getFieldLabel();
+	}
+
 	default String getDefinition() {
 		return getOrder() != null ? getFieldLabel() + getOrder().toString() : getFieldLabel();
 	}
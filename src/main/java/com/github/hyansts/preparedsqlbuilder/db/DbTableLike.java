@@ -1,8 +1,19 @@
 package com.github.hyansts.preparedsqlbuilder.db;
 
+import com.github.hyansts.preparedsqlbuilder.sql.SqlDialect;
+
 public interface DbTableLike {
 	String getDefinition();
 
+	/**
+	 * @param dialect the dialect of the query the table is referenced in.
+	 * @return the definition of the table in the given dialect, e.g.: {@code "employees e"} in Oracle, which has no AS
+	 * keyword before table aliases.
+	 */
+	default String getDefinition(SqlDialect dialect) {
+		return getDefinition();
+	}
+
 	String getAlias();
 
 	DbTableLike as(String alias);
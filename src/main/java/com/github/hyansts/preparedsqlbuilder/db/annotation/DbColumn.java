@@ -0,0 +1,23 @@
+package com.github.hyansts.preparedsqlbuilder.db.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a field of a {@link DbTableModel} entity to a column of its table.
+ * <p>
+ * The field is read and written through its getter and setter methods, following the JavaBeans naming conventions. If
+ * the field is not private, it's accessed directly instead.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface DbColumn {
+
+	/**
+	 * @return the name of the column in the database. Defaults to the name of the field.
+	 */
+	String value() default "";
+
+}
@@ -0,0 +1,13 @@
+package com.github.hyansts.preparedsqlbuilder.db.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the {@link DbColumn} field holding the primary key of a {@link DbTableModel} entity.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface DbPrimaryKey { }
@@ -0,0 +1,35 @@
+package com.github.hyansts.preparedsqlbuilder.db.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link com.github.hyansts.preparedsqlbuilder.db.DbEntity} class to have its table model generated at compile
+ * time by the {@link com.github.hyansts.preparedsqlbuilder.processor.DbTableModelProcessor}.
+ * <p>
+ * The generated class extends {@link com.github.hyansts.preparedsqlbuilder.db.impl.MappedDbTable}, it declares a
+ * {@link com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField} for every field of the entity annotated with
+ * {@link DbColumn} and maps them to the entity.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface DbTableModel {
+
+	/**
+	 * @return the name of the table in the database.
+	 */
+	String name();
+
+	/**
+	 * @return the table prefix, usually the database name or the schema name. No prefix is used if blank.
+	 */
+	String prefix() default "";
+
+	/**
+	 * @return the simple name of the generated class. Defaults to the entity name followed by "DbTable".
+	 */
+	String className() default "";
+
+}
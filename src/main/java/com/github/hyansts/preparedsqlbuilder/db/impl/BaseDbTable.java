@@ -1,10 +1,9 @@
 package com.github.hyansts.preparedsqlbuilder.db.impl;
 
 import com.github.hyansts.preparedsqlbuilder.db.DbTable;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlTableHint;
 import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
 
-import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.AS;
-
 /**
  * The base class for a database table model implementation.
  * <p>
@@ -18,14 +17,16 @@ import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.AS;
  * prefix is most commonly used to specify the database name or the schema name. When the prefix is specified, the table
  * name is formatted as "table_prefix.table_name" to reference the table in the SQL statement.
  * <p>
- * A table alias can be specified using the {@link #as(String)} method. The table alias is used to reference the table
- * in the SQL statement.
+ * Table models are immutable, so they can be static singletons shared between threads. A table alias is specified
+ * using the {@link #as(String)} method, and index hints using the {@link #withHints(SqlTableHint...)} method, both
+ * return a {@link DbTableView} of this table, through which the fields are qualified by the alias.
  */
 public abstract class BaseDbTable implements DbTable {
 
+	private static final SqlTableHint[] NO_HINTS = new SqlTableHint[0];
+
 	private final String tableName;
 	private final String tablePrefix;
-	private String tableAlias;
 
 	protected BaseDbTable(String name) {
 		this.tableName = name;
@@ -37,10 +38,24 @@ public abstract class BaseDbTable implements DbTable {
 		this.tablePrefix = prefix;
 	}
 
+	/**
+	 * @param alias the alias of the table.
+	 * @return a new view of this table with the given alias, this table is not modified.
+	 */
 	@Override
-	public DbTable as(String alias) {
-		this.tableAlias = alias;
-		return this;
+	public DbTableView as(String alias) {
+		return new DbTableView(this, alias, NO_HINTS);
+	}
+
+	/**
+	 * Attaches index hints to this table, rendered after the table definition in the FROM and JOIN clauses:
+	 * {@code "employees USE INDEX (idx_age)"}.
+	 *
+	 * @param hints the hints to be attached.
+	 * @return a new view of this table with the given hints, this table is not modified.
+	 */
+	public DbTableView withHints(SqlTableHint... hints) {
+		return new DbTableView(this, null, hints.clone());
 	}
 
 	/**
@@ -50,10 +65,10 @@ public abstract class BaseDbTable implements DbTable {
 	public String getTableName() { return this.tableName; }
 
 	/**
-	 * @return table alias as defined using the {@link #as(String)} method.
+	 * @return {@code null}, table models have no alias, only their views returned by {@link #as(String)} do.
 	 */
 	@Override
-	public String getAlias() { return this.tableAlias; }
+	public String getAlias() { return null; }
 
 	/**
 	 * @return the table prefix as defined in the constructor. Usually, this is the database name or the schema name.
@@ -62,12 +77,11 @@ public abstract class BaseDbTable implements DbTable {
 	public String getTablePrefix() { return this.tablePrefix; }
 
 	/**
-	 * @return the table definition as: {@code "table_prefix.table_name AS table_alias"}. If no alias is defined, simply
-	 * returns the full table name.
+	 * @return the table definition, which is the full table name.
 	 */
 	@Override
 	public String getDefinition() {
-		return StringUtil.isBlank(this.tableAlias) ? getFullTableName() : getFullTableName() + AS + this.tableAlias;
+		return getFullTableName();
 	}
 
 	/**
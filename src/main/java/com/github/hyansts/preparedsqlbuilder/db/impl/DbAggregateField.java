@@ -7,7 +7,8 @@ import com.github.hyansts.preparedsqlbuilder.db.DbFieldOrder;
 import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlAggregator;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlSortOrder;
-import com.github.hyansts.preparedsqlbuilder.util.StringHolder;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlWindow;
+import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
 
 import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.AS;
 
@@ -24,14 +25,31 @@ public class DbAggregateField<T> implements DbComparableField<T> {
 
 	private final SqlAggregator aggregator;
 	private final DbField<?> field;
-	private final StringHolder alias = new StringHolder();
+	private final String alias;
 	private final Class<T> type;
 
 	public DbAggregateField(SqlAggregator aggregator, DbField<?> field, Class<T> type) {
+		this(aggregator, field, (aggregator + "_" + field.getFieldName()).toLowerCase(), type);
+	}
+
+	private DbAggregateField(SqlAggregator aggregator, DbField<?> field, String alias, Class<T> type) {
 		this.aggregator = aggregator;
 		this.field = field;
+		this.alias = alias;
 		this.type = type;
-		this.alias.setValue((aggregator + "_" + field.getFieldName()).toLowerCase());
+	}
+
+	/**
+	 * Computes this aggregate over a window instead of the rows of a group, so each row keeps its own values next to
+	 * the aggregate of its window, e.g.: a running total with {@code amount.sum().over(SqlWindow.empty().orderBy(date.asc()))}.
+	 * <p>
+	 * The window field has the same alias as this field.
+	 *
+	 * @param window the window of the aggregate.
+	 * @return a new window field with this aggregate function.
+	 */
+	public DbWindowField<T> over(SqlWindow window) {
+		return new DbWindowField<>(this.field, this::getFullQualification, this.alias, window, this.type);
 	}
 
 	/**
@@ -65,7 +83,7 @@ public class DbAggregateField<T> implements DbComparableField<T> {
 	 */
 	@Override
 	public String getDefinition() {
-		return this.alias.isBlank() ? getFullQualification() : getFullQualification() + AS + this.alias;
+		return StringUtil.isBlank(this.alias) ? getFullQualification() : getFullQualification() + AS + this.alias;
 	}
 
 	/**
@@ -73,10 +91,10 @@ public class DbAggregateField<T> implements DbComparableField<T> {
 	 */
 	@Override
 	public String getLabel() {
-		if (this.alias.isBlank()) {
+		if (StringUtil.isBlank(this.alias)) {
 			throw new IllegalStateException("Aggregate function must have an alias to be referenced: " + getFullQualification());
 		}
-		return this.alias.getValue();
+		return this.alias;
 	}
 
 	/**
@@ -88,13 +106,12 @@ public class DbAggregateField<T> implements DbComparableField<T> {
 	}
 
 	/**
-	 * @param alias the alias to be set to this field.
-	 * @return this field with the alias set.
+	 * @param alias the alias of the field.
+	 * @return a copy of this field with the alias set, this field is not modified.
 	 */
 	@Override
-	public DbFieldLike as(String alias) {
-		this.alias.setValue(alias);
-		return this;
+	public DbAggregateField<T> as(String alias) {
+		return new DbAggregateField<>(this.aggregator, this.field, alias, this.type);
 	}
 
 	/**
@@ -0,0 +1,25 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+
+/**
+ * Represents a column holding {@code boolean} values.
+ * <p>
+ * When mapped through {@link DbFieldMapping#mapBooleanField}, the column is read with {@link
+ * DbFieldExtractor#extractBoolean(com.github.hyansts.preparedsqlbuilder.db.DbField)} and written to the entity without
+ * boxing.
+ */
+public class DbBooleanField extends DbTableField<Boolean> {
+
+	public DbBooleanField(String name, DbTableLike table) {
+		super(name, table, Boolean.class);
+	}
+
+	/**
+	 * @param extractor the extractor to read the value from.
+	 * @return the value of this field.
+	 */
+	public boolean extractFrom(DbFieldExtractor extractor) { return extractor.extractBoolean(this); }
+
+}
@@ -0,0 +1,31 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.util.function.Predicate;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+
+/**
+ * A {@link DbFieldAccessor} for {@code boolean} fields, extracting and assigning the values without boxing them.
+ */
+public class DbBooleanFieldAccessor<E> extends DbFieldAccessor<E, Boolean> {
+
+	@FunctionalInterface
+	public interface ObjBooleanConsumer<E> {
+		void accept(E entity, boolean value);
+	}
+
+	private final DbBooleanField field;
+	private final ObjBooleanConsumer<E> setter;
+
+	public DbBooleanFieldAccessor(DbBooleanField field, Predicate<E> getter, ObjBooleanConsumer<E> setter) {
+		super(field, getter::test, setter::accept);
+		this.field = field;
+		this.setter = setter;
+	}
+
+	@Override
+	public void extract(DbFieldExtractor extractor, E entity) {
+		this.setter.accept(entity, extractor.extractBoolean(this.field));
+	}
+
+}
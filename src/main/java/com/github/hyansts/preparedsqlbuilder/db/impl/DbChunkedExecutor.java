@@ -0,0 +1,150 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
+
+/**
+ * Runs an UPDATE or DELETE statement limited to a chunk of rows repeatedly, until a chunk affects fewer rows than the
+ * chunk size, so a large purge holds its locks and grows the transaction log one chunk at a time.
+ * <p>
+ * The statement must only match the rows that were not yet affected, which is always true for DELETE statements. For
+ * UPDATE statements, the condition must no longer match the updated rows, otherwise the same rows are updated forever.
+ * The statement is usually created by {@link DbTableMapping#deleteInChunks} or {@link DbTableMapping#updateInChunks},
+ * which limit it through a primary key subquery, and invalidate the cache of the mapping after each chunk.
+ * <p>
+ * Each chunk should be committed by the executor, e.g. by running it in auto-commit mode, so other transactions can
+ * proceed between chunks. An optional pause between chunks leaves room for the regular load of the database.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * employees.getMapping()
+ *          .deleteInChunks(employees.is_active.eq(false), 1000)
+ *          .withPause(Duration.ofMillis(50))
+ *          .onProgress(progress -> log.info("{} rows deleted, {} rows/s", progress.affectedRows(), progress.rowsPerSecond()))
+ *          .execute(query -> run(query));
+ * // executed until done: "DELETE FROM employees WHERE id IN (SELECT id FROM employees WHERE is_active = ? LIMIT ?)"}
+ * </pre>
+ */
+public class DbChunkedExecutor {
+
+	/**
+	 * The progress of a chunked execution after a chunk has been executed.
+	 *
+	 * @param chunks       the number of chunks executed so far.
+	 * @param affectedRows the number of rows affected so far.
+	 * @param elapsed      the time elapsed since the execution started, including the pauses.
+	 */
+	public record Progress(long chunks, long affectedRows, Duration elapsed) {
+
+		/**
+		 * @return the number of rows affected per second since the execution started.
+		 */
+		public double rowsPerSecond() {
+			long nanos = this.elapsed.toNanos();
+			return nanos == 0 ? 0 : this.affectedRows * 1_000_000_000.0 / nanos;
+		}
+	}
+
+	private final PreparedSql statement;
+	private final int chunkSize;
+	private final LongSupplier clock;
+	private final Runnable afterChunk;
+	private Duration pause = Duration.ZERO;
+	private Consumer<Progress> progressListener = progress -> { };
+
+	/**
+	 * @param statement the statement to be executed, limited to a chunk of rows.
+	 * @param chunkSize the maximum number of rows affected by each execution of the statement.
+	 */
+	public DbChunkedExecutor(PreparedSql statement, int chunkSize) {
+		this(statement, chunkSize, () -> { });
+	}
+
+	DbChunkedExecutor(PreparedSql statement, int chunkSize, Runnable afterChunk) {
+		this(statement, chunkSize, System::nanoTime, afterChunk);
+	}
+
+	DbChunkedExecutor(PreparedSql statement, int chunkSize, LongSupplier clock, Runnable afterChunk) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+		}
+		this.statement = statement;
+		this.chunkSize = chunkSize;
+		this.clock = clock;
+		this.afterChunk = afterChunk;
+	}
+
+	/**
+	 * @param pause how long to wait between chunks.
+	 * @return this executor.
+	 */
+	public DbChunkedExecutor withPause(Duration pause) {
+		if (pause.isNegative()) {
+			throw new IllegalArgumentException("Pause must not be negative: " + pause);
+		}
+		this.pause = pause;
+		return this;
+	}
+
+	/**
+	 * @param progressListener called after each chunk with the progress so far.
+	 * @return this executor.
+	 */
+	public DbChunkedExecutor onProgress(Consumer<Progress> progressListener) {
+		this.progressListener = progressListener;
+		return this;
+	}
+
+	/**
+	 * @return the statement executed for each chunk.
+	 */
+	public PreparedSql getStatement() {
+		return this.statement;
+	}
+
+	/**
+	 * Executes the statement chunk by chunk, in the calling thread, until a chunk affects fewer rows than the chunk
+	 * size.
+	 *
+	 * @param executor runs the statement, commits it and returns the number of affected rows.
+	 * @return the progress of the whole execution.
+	 */
+	public Progress execute(ToIntFunction<PreparedSql> executor) {
+		long start = this.clock.getAsLong();
+		long chunks = 0;
+		long affectedRows = 0;
+		while (true) {
+			int affected;
+			try {
+				affected = executor.applyAsInt(this.statement);
+			} finally {
+				this.afterChunk.run();
+			}
+			chunks++;
+			affectedRows += affected;
+			Progress progress = new Progress(chunks, affectedRows, Duration.ofNanos(this.clock.getAsLong() - start));
+			this.progressListener.accept(progress);
+			if (affected < this.chunkSize) {
+				return progress;
+			}
+			pause();
+		}
+	}
+
+	private void pause() {
+		if (this.pause.isZero()) {
+			return;
+		}
+		try {
+			Thread.sleep(this.pause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while pausing between chunks", e);
+		}
+	}
+
+}
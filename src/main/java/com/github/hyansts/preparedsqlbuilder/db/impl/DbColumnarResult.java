@@ -0,0 +1,389 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbField;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+
+/**
+ * Holds the rows of a query result in a column oriented layout, meant for analytical queries that read many rows but
+ * don't need entities.
+ * <p>
+ * Each field becomes a column, stored according to its type:
+ * <ul>
+ *     <li>{@code Integer}, {@code Long} and {@code Double} fields are stored as primitive arrays and read through the
+ *     primitive methods of {@link DbFieldExtractor}, so no value is boxed.</li>
+ *     <li>{@code String} fields are dictionary encoded: each distinct string is stored once and the rows hold an
+ *     {@code int} code referencing it.</li>
+ *     <li>Fields of any other type are stored as objects.</li>
+ * </ul>
+ * Columns grow in fixed size chunks, so adding rows never copies the values already stored. Null values are tracked in
+ * a bitmap per column.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * DbColumnarResult result = new DbColumnarResult(sales.region, sales.amount);
+ * while (resultSet.next()) {
+ *     result.addRow(extractor);
+ * }
+ * double[] amounts = result.getDoubleColumn(sales.amount);}
+ * </pre>
+ */
+public class DbColumnarResult {
+
+	private static final int CHUNK_SHIFT = 12;
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	private final Map<DbField<?>, Column> columns = new HashMap<>();
+	private final Column[] columnOrder;
+	private int size;
+
+	public DbColumnarResult(DbField<?>... fields) {
+		this.columnOrder = new Column[fields.length];
+		for (int i = 0; i < fields.length; i++) {
+			Column column = createColumn(fields[i]);
+			if (this.columns.put(fields[i], column) != null) {
+				throw new IllegalArgumentException("Field was given more than once: " + fields[i].getLabel());
+			}
+			this.columnOrder[i] = column;
+		}
+	}
+
+	/**
+	 * Reads the value of every field from the extractor and appends them as a new row.
+	 *
+	 * @param extractor the extractor positioned at the row to be read.
+	 */
+	public void addRow(DbFieldExtractor extractor) {
+		int chunk = this.size >>> CHUNK_SHIFT;
+		int offset = this.size & CHUNK_MASK;
+		for (Column column : this.columnOrder) {
+			if (offset == 0) {
+				column.addChunk();
+			}
+			column.read(extractor, chunk, offset);
+		}
+		this.size++;
+	}
+
+	/**
+	 * @return the number of rows.
+	 */
+	public int size() { return this.size; }
+
+	/**
+	 * @param field the field of the column.
+	 * @param row   the index of the row.
+	 * @return {@code true} if the value of the field is {@code null} in the given row.
+	 */
+	public boolean isNull(DbField<?> field, int row) {
+		checkRow(row);
+		return getColumn(field).isNull(row >>> CHUNK_SHIFT, row & CHUNK_MASK);
+	}
+
+	/**
+	 * @return the value of the field in the given row, or {@code 0} if it's {@code null}.
+	 */
+	public int getInt(DbField<Integer> field, int row) {
+		checkRow(row);
+		return getColumn(field, IntColumn.class).chunks.get(row >>> CHUNK_SHIFT)[row & CHUNK_MASK];
+	}
+
+	/**
+	 * @return the value of the field in the given row, or {@code 0} if it's {@code null}.
+	 */
+	public long getLong(DbField<Long> field, int row) {
+		checkRow(row);
+		return getColumn(field, LongColumn.class).chunks.get(row >>> CHUNK_SHIFT)[row & CHUNK_MASK];
+	}
+
+	/**
+	 * @return the value of the field in the given row, or {@code 0} if it's {@code null}.
+	 */
+	public double getDouble(DbField<Double> field, int row) {
+		checkRow(row);
+		return getColumn(field, DoubleColumn.class).chunks.get(row >>> CHUNK_SHIFT)[row & CHUNK_MASK];
+	}
+
+	/**
+	 * @return the value of the field in the given row, boxing it if the column is primitive.
+	 */
+	public <T> T get(DbField<T> field, int row) {
+		checkRow(row);
+		return field.getType().cast(getColumn(field).get(row >>> CHUNK_SHIFT, row & CHUNK_MASK));
+	}
+
+	/**
+	 * @return a copy of all the values of the column, {@code null} values are {@code 0}.
+	 */
+	public int[] getIntColumn(DbField<Integer> field) {
+		IntColumn column = getColumn(field, IntColumn.class);
+		int[] values = new int[this.size];
+		for (int i = 0; i < column.chunks.size(); i++) {
+			System.arraycopy(column.chunks.get(i), 0, values, i << CHUNK_SHIFT, chunkLength(i));
+		}
+		return values;
+	}
+
+	/**
+	 * @return a copy of all the values of the column, {@code null} values are {@code 0}.
+	 */
+	public long[] getLongColumn(DbField<Long> field) {
+		LongColumn column = getColumn(field, LongColumn.class);
+		long[] values = new long[this.size];
+		for (int i = 0; i < column.chunks.size(); i++) {
+			System.arraycopy(column.chunks.get(i), 0, values, i << CHUNK_SHIFT, chunkLength(i));
+		}
+		return values;
+	}
+
+	/**
+	 * @return a copy of all the values of the column, {@code null} values are {@code 0}.
+	 */
+	public double[] getDoubleColumn(DbField<Double> field) {
+		DoubleColumn column = getColumn(field, DoubleColumn.class);
+		double[] values = new double[this.size];
+		for (int i = 0; i < column.chunks.size(); i++) {
+			System.arraycopy(column.chunks.get(i), 0, values, i << CHUNK_SHIFT, chunkLength(i));
+		}
+		return values;
+	}
+
+	/**
+	 * @return a copy of the dictionary codes of all the rows of a {@code String} column, {@code null} values are
+	 * {@code -1}. The codes are indexes of the list returned by {@link #getDictionary(DbField)}.
+	 */
+	public int[] getStringCodes(DbField<String> field) {
+		StringColumn column = getColumn(field, StringColumn.class);
+		int[] codes = new int[this.size];
+		for (int i = 0; i < column.chunks.size(); i++) {
+			System.arraycopy(column.chunks.get(i), 0, codes, i << CHUNK_SHIFT, chunkLength(i));
+		}
+		return codes;
+	}
+
+	/**
+	 * @return the distinct values of a {@code String} column, in the order they were first read.
+	 */
+	public List<String> getDictionary(DbField<String> field) {
+		return Collections.unmodifiableList(getColumn(field, StringColumn.class).dictionary);
+	}
+
+	private int chunkLength(int chunk) {
+		return Math.min(CHUNK_SIZE, this.size - (chunk << CHUNK_SHIFT));
+	}
+
+	private void checkRow(int row) {
+		if (row < 0 || row >= this.size) {
+			throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + this.size);
+		}
+	}
+
+	private Column getColumn(DbField<?> field) {
+		Column column = this.columns.get(field);
+		if (column == null) {
+			throw new IllegalArgumentException("Field is not part of the result: " + field.getLabel());
+		}
+		return column;
+	}
+
+	private <C extends Column> C getColumn(DbField<?> field, Class<C> columnType) {
+		Column column = getColumn(field);
+		if (!columnType.isInstance(column)) {
+			throw new IllegalArgumentException("Field of type " + field.getType().getSimpleName()
+													   + " can't be read as " + columnType.getSimpleName() + ": "
+													   + field.getLabel());
+		}
+		return columnType.cast(column);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Column createColumn(DbField<?> field) {
+		Class<?> type = field.getType();
+		if (type == Integer.class) {
+			return new IntColumn((DbField<Integer>) field);
+		} else if (type == Long.class) {
+			return new LongColumn((DbField<Long>) field);
+		} else if (type == Double.class) {
+			return new DoubleColumn((DbField<Double>) field);
+		} else if (type == String.class) {
+			return new StringColumn((DbField<String>) field);
+		}
+		return new ObjectColumn(field);
+	}
+
+	private abstract static class Column {
+
+		private final List<long[]> nulls = new ArrayList<>();
+
+		void addChunk() {
+			this.nulls.add(new long[CHUNK_SIZE >>> 6]);
+		}
+
+		void setNull(int chunk, int offset) {
+			this.nulls.get(chunk)[offset >>> 6] |= 1L << offset;
+		}
+
+		boolean isNull(int chunk, int offset) {
+			return (this.nulls.get(chunk)[offset >>> 6] & (1L << offset)) != 0;
+		}
+
+		abstract void read(DbFieldExtractor extractor, int chunk, int offset);
+
+		abstract Object get(int chunk, int offset);
+	}
+
+	private static final class IntColumn extends Column {
+
+		private final DbField<Integer> field;
+		private final List<int[]> chunks = new ArrayList<>();
+
+		IntColumn(DbField<Integer> field) { this.field = field; }
+
+		@Override
+		void addChunk() {
+			super.addChunk();
+			this.chunks.add(new int[CHUNK_SIZE]);
+		}
+
+		@Override
+		void read(DbFieldExtractor extractor, int chunk, int offset) {
+			this.chunks.get(chunk)[offset] = extractor.extractInt(this.field);
+			if (extractor.isNull(this.field)) {
+				setNull(chunk, offset);
+			}
+		}
+
+		@Override
+		Object get(int chunk, int offset) {
+			return isNull(chunk, offset) ? null : this.chunks.get(chunk)[offset];
+		}
+	}
+
+	private static final class LongColumn extends Column {
+
+		private final DbField<Long> field;
+		private final List<long[]> chunks = new ArrayList<>();
+
+		LongColumn(DbField<Long> field) { this.field = field; }
+
+		@Override
+		void addChunk() {
+			super.addChunk();
+			this.chunks.add(new long[CHUNK_SIZE]);
+		}
+
+		@Override
+		void read(DbFieldExtractor extractor, int chunk, int offset) {
+			this.chunks.get(chunk)[offset] = extractor.extractLong(this.field);
+			if (extractor.isNull(this.field)) {
+				setNull(chunk, offset);
+			}
+		}
+
+		@Override
+		Object get(int chunk, int offset) {
+			return isNull(chunk, offset) ? null : this.chunks.get(chunk)[offset];
+		}
+	}
+
+	private static final class DoubleColumn extends Column {
+
+		private final DbField<Double> field;
+		private final List<double[]> chunks = new ArrayList<>();
+
+		DoubleColumn(DbField<Double> field) { this.field = field; }
+
+		@Override
+		void addChunk() {
+			super.addChunk();
+			this.chunks.add(new double[CHUNK_SIZE]);
+		}
+
+		@Override
+		void read(DbFieldExtractor extractor, int chunk, int offset) {
+			this.chunks.get(chunk)[offset] = extractor.extractDouble(this.field);
+			if (extractor.isNull(this.field)) {
+				setNull(chunk, offset);
+			}
+		}
+
+		@Override
+		Object get(int chunk, int offset) {
+			return isNull(chunk, offset) ? null : this.chunks.get(chunk)[offset];
+		}
+	}
+
+	private static final class StringColumn extends Column {
+
+		private final DbField<String> field;
+		private final List<int[]> chunks = new ArrayList<>();
+		private final List<String> dictionary = new ArrayList<>();
+		private final Map<String, Integer> codes = new HashMap<>();
+
+		StringColumn(DbField<String> field) { this.field = field; }
+
+		@Override
+		void addChunk() {
+			super.addChunk();
+			this.chunks.add(new int[CHUNK_SIZE]);
+		}
+
+		@Override
+		void read(DbFieldExtractor extractor, int chunk, int offset) {
+			String value = extractor.extract(this.field);
+			if (value == null) {
+				this.chunks.get(chunk)[offset] = -1;
+				setNull(chunk, offset);
+				return;
+			}
+			Integer code = this.codes.get(value);
+			if (code == null) {
+				code = this.dictionary.size();
+				this.dictionary.add(value);
+				this.codes.put(value, code);
+			}
+			this.chunks.get(chunk)[offset] = code;
+		}
+
+		@Override
+		Object get(int chunk, int offset) {
+			int code = this.chunks.get(chunk)[offset];
+			return code < 0 ? null : this.dictionary.get(code);
+		}
+	}
+
+	private static final class ObjectColumn extends Column {
+
+		private final DbField<?> field;
+		private final List<Object[]> chunks = new ArrayList<>();
+
+		ObjectColumn(DbField<?> field) { this.field = field; }
+
+		@Override
+		void addChunk() {
+			super.addChunk();
+			this.chunks.add(new Object[CHUNK_SIZE]);
+		}
+
+		@Override
+		void read(DbFieldExtractor extractor, int chunk, int offset) {
+			Object value = extractor.extract(this.field);
+			this.chunks.get(chunk)[offset] = value;
+			if (value == null) {
+				setNull(chunk, offset);
+			}
+		}
+
+		@Override
+		Object get(int chunk, int offset) {
+			return this.chunks.get(chunk)[offset];
+		}
+	}
+
+}
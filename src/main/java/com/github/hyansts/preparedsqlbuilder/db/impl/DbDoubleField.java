@@ -0,0 +1,25 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+
+/**
+ * Represents a column holding {@code double} values.
+ * <p>
+ * When mapped through {@link DbFieldMapping#mapDoublePrimaryKey} or {@link DbFieldMapping#mapDoubleField}, the column
+ * is read with {@link DbFieldExtractor#extractDouble(com.github.hyansts.preparedsqlbuilder.db.DbField)} and written to
+ * the entity without boxing.
+ */
+public class DbDoubleField extends DbTableField<Double> {
+
+	public DbDoubleField(String name, DbTableLike table) {
+		super(name, table, Double.class);
+	}
+
+	/**
+	 * @param extractor the extractor to read the value from.
+	 * @return the value of this field.
+	 */
+	public double extractFrom(DbFieldExtractor extractor) { return extractor.extractDouble(this); }
+
+}
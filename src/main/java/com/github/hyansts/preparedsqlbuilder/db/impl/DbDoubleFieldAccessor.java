@@ -0,0 +1,27 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+
+/**
+ * A {@link DbFieldAccessor} for {@code double} fields, extracting and assigning the values without boxing them.
+ */
+public class DbDoubleFieldAccessor<E> extends DbFieldAccessor<E, Double> {
+
+	private final DbDoubleField field;
+	private final ObjDoubleConsumer<E> setter;
+
+	public DbDoubleFieldAccessor(DbDoubleField field, ToDoubleFunction<E> getter, ObjDoubleConsumer<E> setter) {
+		super(field, getter::applyAsDouble, setter::accept);
+		this.field = field;
+		this.setter = setter;
+	}
+
+	@Override
+	public void extract(DbFieldExtractor extractor, E entity) {
+		this.setter.accept(entity, extractor.extractDouble(this.field));
+	}
+
+}
@@ -0,0 +1,124 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded in-memory cache of entities indexed by their primary key values.
+ * <p>
+ * Entries are evicted in least recently used order once the maximum size is reached, and expire after the configured
+ * time to live has elapsed since they were stored. Expired entries are removed lazily when they are looked up.
+ * <p>
+ * The cache is meant to be used through {@link DbTableMapping#enableCache(int, Duration)}, which keeps it in sync with
+ * the statements built by the mapping. All the methods are thread-safe.
+ * <p>
+ * Every invalidation bumps a generation counter. An entity loaded concurrently with an invalidation is stored through
+ * {@link #put(List, Object, long)} with the generation read before loading it, so it's dropped instead of outliving the
+ * change that invalidated it.
+ *
+ * @param <E> the type of the cached entities.
+ */
+public class DbEntityCache<E> {
+
+	private record Entry<E>(E entity, long expiresAt) { }
+
+	private final Map<List<Object>, Entry<E>> entries;
+	private final long timeToLiveNanos;
+	private final LongSupplier clock;
+	private long generation;
+
+	public DbEntityCache(int maximumSize, Duration timeToLive) {
+		this(maximumSize, timeToLive, System::nanoTime);
+	}
+
+	DbEntityCache(int maximumSize, Duration timeToLive, LongSupplier clock) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("Cache maximum size must be positive: " + maximumSize);
+		}
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.clock = clock;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, Entry<E>> eldest) {
+				return size() > maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * @param primaryKey the primary key values of the entity, in the order they were mapped.
+	 * @return the cached entity, or {@code null} if it's not cached or has expired.
+	 */
+	public synchronized E get(List<Object> primaryKey) {
+		Entry<E> entry = this.entries.get(primaryKey);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt - this.clock.getAsLong() <= 0) {
+			this.entries.remove(primaryKey);
+			return null;
+		}
+		return entry.entity;
+	}
+
+	/**
+	 * Stores the entity in the cache, evicting the least recently used entry if the cache is full.
+	 *
+	 * @param primaryKey the primary key values of the entity, in the order they were mapped.
+	 * @param entity     the entity to be cached.
+	 */
+	public synchronized void put(List<Object> primaryKey, E entity) {
+		this.entries.put(primaryKey, new Entry<>(entity, this.clock.getAsLong() + this.timeToLiveNanos));
+	}
+
+	/**
+	 * Stores the entity in the cache, unless it was invalidated after the given generation was read.
+	 *
+	 * @param primaryKey the primary key values of the entity, in the order they were mapped.
+	 * @param entity     the entity to be cached.
+	 * @param generation the {@link #generation()} read before the entity was loaded.
+	 * @return {@code true} if the entity was stored, {@code false} if it was dropped as possibly stale.
+	 */
+	public synchronized boolean put(List<Object> primaryKey, E entity, long generation) {
+		if (generation != this.generation) {
+			return false;
+		}
+		put(primaryKey, entity);
+		return true;
+	}
+
+	/**
+	 * @return the current generation, which changes every time an entry or the whole cache is invalidated.
+	 */
+	public synchronized long generation() {
+		return this.generation;
+	}
+
+	/**
+	 * @param primaryKey the primary key values of the entity to be removed from the cache.
+	 */
+	public synchronized void invalidate(List<Object> primaryKey) {
+		this.entries.remove(primaryKey);
+		this.generation++;
+	}
+
+	/**
+	 * Removes all the entries from the cache.
+	 */
+	public synchronized void invalidateAll() {
+		this.entries.clear();
+		this.generation++;
+	}
+
+	/**
+	 * @return the number of entries currently in the cache, including the ones that have expired but were not yet
+	 * looked up.
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+}
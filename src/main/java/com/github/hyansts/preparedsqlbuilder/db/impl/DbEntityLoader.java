@@ -0,0 +1,149 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbEntity;
+import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
+
+/**
+ * Coalesces primary key lookups into batched {@link DbTableMapping#selectByIdsQuery(java.util.Collection)} queries.
+ * <p>
+ * Each call to {@link #load(Object)} registers a lookup and returns a future for its entity. The pending lookups are
+ * dispatched as a single query once the time window since the first one has elapsed, once the maximum batch size is
+ * reached, or when {@link #dispatch()} is called. Each batch has its own time window, cancelled when the batch is
+ * dispatched earlier. The resulting entities are then matched back to the lookups by their primary key, lookups without
+ * a matching entity are completed with {@code null}. If the batch fails, all its lookups are completed exceptionally.
+ * <p>
+ * Lookups for the same primary key issued in the same batch share the same future. This class is thread-safe, it's
+ * meant to be shared by the threads (or virtual threads) serving concurrent requests, so their lookups end up in the
+ * same round trip to the database.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * DbEntityLoader<Employee, Integer> loader =
+ *         employees.getMapping().createLoader(query -> run(query), 100, Duration.ofMillis(2));
+ *
+ * CompletableFuture<Employee> john = loader.load(1);
+ * CompletableFuture<Employee> jane = loader.load(2);
+ * // a single query is executed: "SELECT * FROM employees WHERE id IN (?, ?)"}
+ * </pre>
+ *
+ * @param <E>  the type of the entities.
+ * @param <ID> the type of the primary key.
+ */
+public class DbEntityLoader<E extends DbEntity, ID> {
+
+	private record Lookup<E, ID>(ID id, CompletableFuture<E> future) { }
+
+	private final DbTableMapping<E, ID, ?> mapping;
+	private final Function<PreparedSql, List<E>> executor;
+	private final int maxBatchSize;
+	private final Executor delayedDispatcher;
+	private Map<List<Object>, Lookup<E, ID>> pending = new LinkedHashMap<>();
+	private CompletableFuture<Void> scheduledDispatch;
+
+	DbEntityLoader(DbTableMapping<E, ID, ?> mapping, Function<PreparedSql, List<E>> executor, int maxBatchSize,
+				   Duration window) {
+		this(mapping, executor, maxBatchSize,
+			 CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, Thread::startVirtualThread));
+	}
+
+	/**
+	 * @param delayedDispatcher runs the dispatch of each batch once its time window has elapsed.
+	 */
+	DbEntityLoader(DbTableMapping<E, ID, ?> mapping, Function<PreparedSql, List<E>> executor, int maxBatchSize,
+				   Executor delayedDispatcher) {
+		if (maxBatchSize <= 0) {
+			throw new IllegalArgumentException("Batch size must be positive: " + maxBatchSize);
+		}
+		this.mapping = mapping;
+		this.executor = executor;
+		this.maxBatchSize = maxBatchSize;
+		this.delayedDispatcher = delayedDispatcher;
+	}
+
+	/**
+	 * Registers a lookup for the entity with the given primary key.
+	 *
+	 * @param id the primary key of the entity.
+	 * @return a future completed with the entity, or with {@code null} if it was not found.
+	 */
+	public CompletableFuture<E> load(ID id) {
+		List<Object> primaryKey = this.mapping.getPrimaryKey(id);
+		boolean fullBatch;
+		Lookup<E, ID> lookup;
+		synchronized (this) {
+			lookup = this.pending.get(primaryKey);
+			if (lookup != null) {
+				return lookup.future;
+			}
+			lookup = new Lookup<>(id, new CompletableFuture<>());
+			this.pending.put(primaryKey, lookup);
+			fullBatch = this.pending.size() >= this.maxBatchSize;
+			if (this.pending.size() == 1 && !fullBatch) {
+				Map<List<Object>, Lookup<E, ID>> batch = this.pending;
+				this.scheduledDispatch = CompletableFuture.runAsync(() -> dispatch(batch), this.delayedDispatcher);
+			}
+		}
+		if (fullBatch) {
+			dispatch();
+		}
+		return lookup.future;
+	}
+
+	/**
+	 * Executes the pending lookups right away, in the calling thread. Does nothing if there are no pending lookups.
+	 */
+	public void dispatch() {
+		dispatch(null);
+	}
+
+	/**
+	 * @param expected the batch the time window was started for, or {@code null} to dispatch any pending batch.
+	 */
+	private void dispatch(Map<List<Object>, Lookup<E, ID>> expected) {
+		Map<List<Object>, Lookup<E, ID>> batch;
+		CompletableFuture<Void> timer;
+		synchronized (this) {
+			if (this.pending.isEmpty() || expected != null && this.pending != expected) {
+				return;
+			}
+			batch = this.pending;
+			timer = this.scheduledDispatch;
+			this.pending = new LinkedHashMap<>();
+			this.scheduledDispatch = null;
+		}
+		if (timer != null) {
+			timer.cancel(false);
+		}
+
+		try {
+			List<ID> ids = new ArrayList<>(batch.size());
+			for (Lookup<E, ID> lookup : batch.values()) {
+				ids.add(lookup.id);
+			}
+			List<E> entities = this.executor.apply(this.mapping.selectByIdsQuery(ids));
+
+			Map<List<Object>, E> entitiesByKey = new HashMap<>();
+			for (E entity : entities) {
+				entitiesByKey.put(this.mapping.getFieldMapping().getPrimaryKey(entity), entity);
+			}
+			batch.forEach((primaryKey, lookup) -> lookup.future.complete(entitiesByKey.get(primaryKey)));
+		} catch (Throwable e) {
+			batch.values().forEach(lookup -> lookup.future.completeExceptionally(e));
+			if (e instanceof Error error) {
+				throw error;
+			}
+		}
+	}
+
+}
@@ -30,6 +30,10 @@ public class DbFieldAccessor<E, T> {
 		return this.field.eq(value);
 	}
 
+	public DbTableField<T> getField() {
+		return this.field;
+	}
+
 	public void extract(DbFieldExtractor extractor, E entity) {
 		T value = extractor.extract(this.field);
 		this.setter.accept(entity, value);
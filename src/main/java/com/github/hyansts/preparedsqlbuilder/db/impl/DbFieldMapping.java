@@ -1,14 +1,23 @@
 package com.github.hyansts.preparedsqlbuilder.db.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import com.github.hyansts.preparedsqlbuilder.db.DbEntity;
 import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
 import com.github.hyansts.preparedsqlbuilder.db.DbFieldValue;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlConditionOperator;
 
 public class DbFieldMapping<E extends DbEntity> {
 
@@ -17,6 +26,7 @@ public class DbFieldMapping<E extends DbEntity> {
 	private record Entry<E>(DbFieldAccessor<E, ?> accessor, FieldMappingType type) { }
 
 	private final List<Entry<E>> mapping = new ArrayList<>();
+	private BiConsumer<E, DbFieldExtractor> populator;
 
 	public <T> DbFieldMapping<E> mapPrimaryKey(DbTableField<T> field, Function<E, T> getter, BiConsumer<E, T> setter) {
 		this.mapping.add(new Entry<>(new DbFieldAccessor<>(field, getter, setter), FieldMappingType.PRIMARY_KEY));
@@ -28,13 +38,86 @@ public class DbFieldMapping<E extends DbEntity> {
 		return this;
 	}
 
+	public DbFieldMapping<E> mapIntPrimaryKey(DbIntField field, ToIntFunction<E> getter, ObjIntConsumer<E> setter) {
+		this.mapping.add(new Entry<>(new DbIntFieldAccessor<>(field, getter, setter), FieldMappingType.PRIMARY_KEY));
+		return this;
+	}
+
+	public DbFieldMapping<E> mapIntField(DbIntField field, ToIntFunction<E> getter, ObjIntConsumer<E> setter) {
+		this.mapping.add(new Entry<>(new DbIntFieldAccessor<>(field, getter, setter), FieldMappingType.FIELD));
+		return this;
+	}
+
+	public DbFieldMapping<E> mapLongPrimaryKey(DbLongField field, ToLongFunction<E> getter, ObjLongConsumer<E> setter) {
+		this.mapping.add(new Entry<>(new DbLongFieldAccessor<>(field, getter, setter), FieldMappingType.PRIMARY_KEY));
+		return this;
+	}
+
+	public DbFieldMapping<E> mapLongField(DbLongField field, ToLongFunction<E> getter, ObjLongConsumer<E> setter) {
+		this.mapping.add(new Entry<>(new DbLongFieldAccessor<>(field, getter, setter), FieldMappingType.FIELD));
+		return this;
+	}
+
+	public DbFieldMapping<E> mapDoublePrimaryKey(DbDoubleField field, ToDoubleFunction<E> getter, ObjDoubleConsumer<E> setter) {
+		this.mapping.add(new Entry<>(new DbDoubleFieldAccessor<>(field, getter, setter), FieldMappingType.PRIMARY_KEY));
+		return this;
+	}
+
+	public DbFieldMapping<E> mapDoubleField(DbDoubleField field, ToDoubleFunction<E> getter, ObjDoubleConsumer<E> setter) {
+		this.mapping.add(new Entry<>(new DbDoubleFieldAccessor<>(field, getter, setter), FieldMappingType.FIELD));
+		return this;
+	}
+
+	public DbFieldMapping<E> mapBooleanField(DbBooleanField field, Predicate<E> getter, DbBooleanFieldAccessor.ObjBooleanConsumer<E> setter) {
+		this.mapping.add(new Entry<>(new DbBooleanFieldAccessor<>(field, getter, setter), FieldMappingType.FIELD));
+		return this;
+	}
+
+	/**
+	 * Populates the entities with the given function instead of going through the accessor of each mapped field, e.g.:
+	 * generated code setting every field in a single call. The function must populate every mapped field.
+	 *
+	 * @param populator sets the fields of the entity to the values read from the extractor.
+	 * @return this mapping.
+	 */
+	public DbFieldMapping<E> populateWith(BiConsumer<E, DbFieldExtractor> populator) {
+		this.populator = populator;
+		return this;
+	}
+
 	public E populateEntity(E entity, DbFieldExtractor extractor) {
+		if (this.populator != null) {
+			this.populator.accept(entity, extractor);
+			return entity;
+		}
 		for (Entry<E> entry : this.mapping) {
 			entry.accessor.extract(extractor, entity);
 		}
 		return entity;
 	}
 
+	public List<DbTableField<?>> getFields() {
+		return this.mapping.stream().<DbTableField<?>>map(entry -> entry.accessor.getField()).toList();
+	}
+
+	public List<DbTableField<?>> getPrimaryKeyFields() {
+		List<DbTableField<?>> primaryKeyFields = this.mapping.stream()
+															 .filter(entry -> entry.type == FieldMappingType.PRIMARY_KEY)
+															 .<DbTableField<?>>map(entry -> entry.accessor.getField())
+															 .toList();
+		if (primaryKeyFields.isEmpty()) {
+			throw new IllegalStateException("Primary key not mapped");
+		}
+		return primaryKeyFields;
+	}
+
+	public List<DbTableField<?>> getNonPrimaryKeyFields() {
+		return this.mapping.stream()
+						   .filter(entry -> entry.type != FieldMappingType.PRIMARY_KEY)
+						   .<DbTableField<?>>map(entry -> entry.accessor.getField())
+						   .toList();
+	}
+
 	public DbFieldValue<?>[] getPrimaryKeyValues(E entity) {
 		return this.mapping.stream()
 						   .filter(entry -> entry.type == FieldMappingType.PRIMARY_KEY)
@@ -42,6 +125,13 @@ public class DbFieldMapping<E extends DbEntity> {
 						   .toArray(DbFieldValue[]::new);
 	}
 
+	public List<Object> getPrimaryKey(E entity) {
+		return this.mapping.stream()
+						   .filter(entry -> entry.type == FieldMappingType.PRIMARY_KEY)
+						   .<Object>map(entry -> entry.accessor.getFieldValue(entity).getValue())
+						   .toList();
+	}
+
 	public DbFieldValue<?>[] getNonPrimaryKeyValues(E entity) {
 		return this.mapping.stream()
 						   .filter(entry -> entry.type != FieldMappingType.PRIMARY_KEY)
@@ -55,6 +145,15 @@ public class DbFieldMapping<E extends DbEntity> {
 						   .toArray(DbFieldValue[]::new);
 	}
 
+	public SqlCondition getPrimaryKeyInCondition(Collection<E> entities) {
+		List<DbTableField<?>> primaryKeyFields = getPrimaryKeyFields();
+		if (entities.isEmpty()) {
+			throw new IllegalArgumentException("At least one entity is required to build the primary key condition");
+		}
+		List<List<Object>> primaryKeys = entities.stream().map(this::getPrimaryKey).toList();
+		return new SqlCondition(primaryKeyFields, SqlConditionOperator.IN, primaryKeys);
+	}
+
 	public SqlCondition getPrimaryKeyCondition(E entity) {
 		SqlCondition condition = null;
 		for (Entry<E> entry : this.mapping) {
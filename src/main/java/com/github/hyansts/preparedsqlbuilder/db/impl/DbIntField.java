@@ -0,0 +1,25 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+
+/**
+ * Represents a column holding {@code int} values.
+ * <p>
+ * When mapped through {@link DbFieldMapping#mapIntPrimaryKey} or {@link DbFieldMapping#mapIntField}, the column is
+ * read with {@link DbFieldExtractor#extractInt(com.github.hyansts.preparedsqlbuilder.db.DbField)} and written to the
+ * entity without boxing.
+ */
+public class DbIntField extends DbTableField<Integer> {
+
+	public DbIntField(String name, DbTableLike table) {
+		super(name, table, Integer.class);
+	}
+
+	/**
+	 * @param extractor the extractor to read the value from.
+	 * @return the value of this field.
+	 */
+	public int extractFrom(DbFieldExtractor extractor) { return extractor.extractInt(this); }
+
+}
@@ -0,0 +1,27 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+
+/**
+ * A {@link DbFieldAccessor} for {@code int} fields, extracting and assigning the values without boxing them.
+ */
+public class DbIntFieldAccessor<E> extends DbFieldAccessor<E, Integer> {
+
+	private final DbIntField field;
+	private final ObjIntConsumer<E> setter;
+
+	public DbIntFieldAccessor(DbIntField field, ToIntFunction<E> getter, ObjIntConsumer<E> setter) {
+		super(field, getter::applyAsInt, setter::accept);
+		this.field = field;
+		this.setter = setter;
+	}
+
+	@Override
+	public void extract(DbFieldExtractor extractor, E entity) {
+		this.setter.accept(entity, extractor.extractInt(this.field));
+	}
+
+}
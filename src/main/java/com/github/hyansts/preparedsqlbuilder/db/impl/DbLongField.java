@@ -0,0 +1,25 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+
+/**
+ * Represents a column holding {@code long} values.
+ * <p>
+ * When mapped through {@link DbFieldMapping#mapLongPrimaryKey} or {@link DbFieldMapping#mapLongField}, the column is
+ * read with {@link DbFieldExtractor#extractLong(com.github.hyansts.preparedsqlbuilder.db.DbField)} and written to the
+ * entity without boxing.
+ */
+public class DbLongField extends DbTableField<Long> {
+
+	public DbLongField(String name, DbTableLike table) {
+		super(name, table, Long.class);
+	}
+
+	/**
+	 * @param extractor the extractor to read the value from.
+	 * @return the value of this field.
+	 */
+	public long extractFrom(DbFieldExtractor extractor) { return extractor.extractLong(this); }
+
+}
@@ -0,0 +1,27 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+
+/**
+ * A {@link DbFieldAccessor} for {@code long} fields, extracting and assigning the values without boxing them.
+ */
+public class DbLongFieldAccessor<E> extends DbFieldAccessor<E, Long> {
+
+	private final DbLongField field;
+	private final ObjLongConsumer<E> setter;
+
+	public DbLongFieldAccessor(DbLongField field, ToLongFunction<E> getter, ObjLongConsumer<E> setter) {
+		super(field, getter::applyAsLong, setter::accept);
+		this.field = field;
+		this.setter = setter;
+	}
+
+	@Override
+	public void extract(DbFieldExtractor extractor, E entity) {
+		this.setter.accept(entity, extractor.extractLong(this.field));
+	}
+
+}
@@ -0,0 +1,232 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbEntity;
+import com.github.hyansts.preparedsqlbuilder.db.DbField;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+import com.github.hyansts.preparedsqlbuilder.query.FromStep;
+import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
+import com.github.hyansts.preparedsqlbuilder.query.SqlQuery;
+import com.github.hyansts.preparedsqlbuilder.query.impl.SqlQueryFactory;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
+
+/**
+ * A one-to-many relationship between two mapped tables, where a foreign key in the child table references a field of
+ * the parent table, usually its primary key.
+ * <p>
+ * It allows fetching the parents along with their children in a single query, by left joining the child table, instead
+ * of issuing one query per parent. The resulting rows are then hydrated back into parent entities, de-duplicated by
+ * their primary key, with the children attached to them.
+ * <p>
+ * As both tables are selected in the same query, they must have distinct aliases so their fields can be told apart.
+ * The aliases are given with {@link #as(String, String)}, which returns a new relationship bound to views of both
+ * tables, the relationship itself is immutable and can be shared between threads.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * DbOneToMany<Department, Employee> employeesOfDepartment =
+ *         departments.getMapping().oneToMany(employees, employees.departmentId, departments.id, Department::addEmployee)
+ *                    .as("d", "e");
+ * DbTableView d = employeesOfDepartment.getParentTable();
+ *
+ * PreparedSql query = employeesOfDepartment.joinFetchQuery(from -> from.where(d.getField(departments.name).like("R%")));
+ * // "SELECT d.id AS d_id, d.name AS d_name, e.id AS e_id, e.name AS e_name, e.department_id AS e_department_id
+ * //  FROM departments AS d LEFT JOIN employees AS e ON d.id = e.department_id WHERE d.name LIKE ?"
+ *
+ * List<Department> result = employeesOfDepartment.hydrate(rows);}
+ * </pre>
+ *
+ * @param <E> the type of the parent entities.
+ * @param <C> the type of the child entities.
+ * @see DbTableMapping#oneToMany(MappedDbTable, DbTableField, DbTableField, BiConsumer)
+ */
+public class DbOneToMany<E extends DbEntity, C extends DbEntity> {
+
+	private final DbTableMapping<E, ?, ?> parent;
+	private final DbTableMapping<C, ?, ?> child;
+	private final DbTableField<?> foreignKey;
+	private final DbTableField<?> referencedField;
+	private final BiConsumer<E, C> attach;
+	private final DbTableView parentTable;
+	private final DbTableView childTable;
+	private final Map<DbField<?>, DbField<?>> parentFields;
+	private final Map<DbField<?>, DbField<?>> childFields;
+	private final List<DbField<?>> parentPrimaryKey;
+
+	<K> DbOneToMany(DbTableMapping<E, ?, ?> parent, DbTableMapping<C, ?, ?> child, DbTableField<K> foreignKey,
+					DbTableField<K> referencedField, BiConsumer<E, C> attach) {
+		this(parent, child, foreignKey, referencedField, attach, parent.getTable().as(null), child.getTable().as(null));
+		if (referencedField.getTableLike() != parent.getTable()) {
+			throw new IllegalArgumentException("Referenced field does not belong to the parent table: "
+													   + referencedField.getFieldName());
+		}
+		if (foreignKey.getTableLike() != child.getTable()) {
+			throw new IllegalArgumentException("Foreign key does not belong to the child table: "
+													   + foreignKey.getFieldName());
+		}
+	}
+
+	private DbOneToMany(DbTableMapping<E, ?, ?> parent, DbTableMapping<C, ?, ?> child, DbTableField<?> foreignKey,
+						DbTableField<?> referencedField, BiConsumer<E, C> attach, DbTableView parentTable,
+						DbTableView childTable) {
+		this.parent = parent;
+		this.child = child;
+		this.foreignKey = foreignKey;
+		this.referencedField = referencedField;
+		this.attach = attach;
+		this.parentTable = parentTable;
+		this.childTable = childTable;
+		this.parentFields = bindFields(parent, parentTable);
+		this.childFields = bindFields(child, childTable);
+		this.parentPrimaryKey = parent.getFieldMapping().getPrimaryKeyFields().stream()
+									  .<DbField<?>>map(this.parentFields::get)
+									  .toList();
+	}
+
+	/**
+	 * @param parentAlias the alias of the parent table.
+	 * @param childAlias  the alias of the child table.
+	 * @return a new relationship between views of both tables with the given aliases, this one is not modified.
+	 */
+	public DbOneToMany<E, C> as(String parentAlias, String childAlias) {
+		return new DbOneToMany<>(this.parent, this.child, this.foreignKey, this.referencedField, this.attach,
+								 this.parentTable.as(parentAlias), this.childTable.as(childAlias));
+	}
+
+	/**
+	 * @return the view of the parent table selected by the join-fetch query, to reference its fields in the query.
+	 */
+	public DbTableView getParentTable() { return this.parentTable; }
+
+	/**
+	 * @return the view of the child table selected by the join-fetch query, to reference its fields in the query.
+	 */
+	public DbTableView getChildTable() { return this.childTable; }
+
+	/**
+	 * @return a query selecting all the parents along with their children.
+	 */
+	public PreparedSql joinFetchQuery() {
+		return joinFetchQuery(from -> from);
+	}
+
+	/**
+	 * Creates a query selecting the fields mapped in both tables, in the order returned by {@link #getSelectedFields()},
+	 * from the parent table left joined with the child table. Parents without children are returned with the child
+	 * fields set to {@code null}.
+	 *
+	 * @param query a function completing the query after the join, e.g. by adding a WHERE clause.
+	 * @return the join-fetch query.
+	 */
+	public PreparedSql joinFetchQuery(Function<FromStep<SqlQuery>, PreparedSql> query) {
+		String parentAlias = this.parentTable.getAlias();
+		String childAlias = this.childTable.getAlias();
+		if (StringUtil.isBlank(parentAlias) || StringUtil.isBlank(childAlias) || parentAlias.equals(childAlias)) {
+			throw new IllegalStateException("Join-fetch requires the parent and child tables to have distinct aliases");
+		}
+		FromStep<SqlQuery> from = SqlQueryFactory.createQuery(this.parent.getDialect())
+												 .select(getSelectedFields().toArray(DbTableField[]::new))
+												 .from(this.parentTable)
+												 .leftJoin(this.childTable)
+												 .on(joinCondition(this.parentTable.getField(this.referencedField),
+																   this.childTable.getField(this.foreignKey)));
+		return query.apply(from);
+	}
+
+	/**
+	 * @return the fields selected by the join-fetch query in their column order: the fields mapped in the parent table
+	 * followed by the ones mapped in the child table, qualified by the aliases of the tables. Each column is labelled
+	 * by the alias of its table and its name, e.g.: {@code "d.id AS d_id"}, so the columns of both tables sharing the
+	 * same name can be read by label from the result set.
+	 */
+	public List<DbTableField<?>> getSelectedFields() {
+		List<DbTableField<?>> fields = new ArrayList<>();
+		for (DbField<?> field : this.parentFields.values()) {
+			fields.add((DbTableField<?>) field);
+		}
+		for (DbField<?> field : this.childFields.values()) {
+			fields.add((DbTableField<?>) field);
+		}
+		return fields;
+	}
+
+	/**
+	 * Maps the rows returned by the join-fetch query to parent entities. The primary key of the parent is read first,
+	 * rows of a parent that was already mapped only contribute their child, so each parent is created once and returned
+	 * in the order it first appeared. Rows where the foreign key is {@code null} carry no child. The columns are read by
+	 * the labels of {@link #getSelectedFields()}.
+	 *
+	 * @param rows the extractors of the resulting rows, in order.
+	 * @return the distinct parent entities with their children attached.
+	 */
+	public List<E> hydrate(Iterable<? extends DbFieldExtractor> rows) {
+		Map<List<Object>, E> parents = new LinkedHashMap<>();
+		DbField<?> foreignKey = this.childFields.get(this.foreignKey);
+		for (DbFieldExtractor row : rows) {
+			List<Object> primaryKey = new ArrayList<>(this.parentPrimaryKey.size());
+			for (DbField<?> field : this.parentPrimaryKey) {
+				primaryKey.add(row.extract(field));
+			}
+			E entity = parents.computeIfAbsent(primaryKey,
+											   key -> this.parent.mapToEntity(bindExtractor(row, this.parentFields)));
+			if (row.extract(foreignKey) != null) {
+				this.attach.accept(entity, this.child.mapToEntity(bindExtractor(row, this.childFields)));
+			}
+		}
+		return new ArrayList<>(parents.values());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K> SqlCondition joinCondition(DbTableField<K> referencedField, DbTableField<?> foreignKey) {
+		return referencedField.eq((DbTableField<K>) foreignKey);
+	}
+
+	private static Map<DbField<?>, DbField<?>> bindFields(DbTableMapping<?, ?, ?> mapping, DbTableView table) {
+		Map<DbField<?>, DbField<?>> fields = new LinkedHashMap<>();
+		for (DbTableField<?> field : mapping.getFieldMapping().getFields()) {
+			DbTableField<?> bound = table.getField(field);
+			fields.put(field, StringUtil.isBlank(table.getAlias())
+									  ? bound : bound.as(table.getAlias() + "_" + field.getFieldName()));
+		}
+		return fields;
+	}
+
+	/**
+	 * Reads the mapped fields of a table from a row through the fields bound to the view of the table, so they are
+	 * read by their column labels.
+	 */
+	private static DbFieldExtractor bindExtractor(DbFieldExtractor row, Map<DbField<?>, DbField<?>> fields) {
+		return new DbFieldExtractor() {
+			@Override
+			public <T> T extract(DbField<T> field) { return row.extract(bind(field)); }
+
+			@Override
+			public int extractInt(DbField<Integer> field) { return row.extractInt(bind(field)); }
+
+			@Override
+			public long extractLong(DbField<Long> field) { return row.extractLong(bind(field)); }
+
+			@Override
+			public double extractDouble(DbField<Double> field) { return row.extractDouble(bind(field)); }
+
+			@Override
+			public boolean extractBoolean(DbField<Boolean> field) { return row.extractBoolean(bind(field)); }
+
+			@Override
+			public boolean isNull(DbField<?> field) { return row.isNull(bind(field)); }
+
+			@SuppressWarnings("unchecked")
+			private <T> DbField<T> bind(DbField<T> field) {
+				return (DbField<T>) fields.getOrDefault(field, field);
+			}
+		};
+	}
+
+}
@@ -1,5 +1,7 @@
 package com.github.hyansts.preparedsqlbuilder.db.impl;
 
+import java.util.Objects;
+
 import com.github.hyansts.preparedsqlbuilder.db.DbComparableField;
 import com.github.hyansts.preparedsqlbuilder.db.DbField;
 import com.github.hyansts.preparedsqlbuilder.db.DbFieldLike;
@@ -9,7 +11,8 @@ import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
 import com.github.hyansts.preparedsqlbuilder.db.DbWritableField;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlAggregator;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlSortOrder;
-import com.github.hyansts.preparedsqlbuilder.util.StringHolder;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlWindow;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlWindowFunction;
 import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
 
 import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.AS;
@@ -19,26 +22,27 @@ import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.AS;
  * <p>
  * This class is designed to provide a way to define table fields and used them in SQL queries.
  * <p>
- * Fields are identified by their name, the table where the field is defined, and an optional alias.
+ * Fields are identified by their name, the table where the field is defined, and an optional alias. Fields are
+ * immutable, so table models can be shared between threads: {@link #as(String)} returns an aliased copy of the field,
+ * and {@link DbTableView#getField(DbTableField)} the field bound to an aliased table.
  * <p>
  * Fields also have a generic type, this is the Java representation of the column type, this is not the same as your SQL
  * database type, but rather the type the data will be converted to when the column is fetched.
  */
 public class DbTableField<T> implements DbField<T>, DbWritableField<T>, DbComparableField<T> {
 
-	private final StringHolder fieldName;
-	private final StringHolder alias = new StringHolder();
+	private final String fieldName;
+	private final String alias;
 	private final DbTableLike table;
 	private final Class<T> type;
 
 	public DbTableField(String name, DbTableLike table, Class<T> type) {
-		this.fieldName = new StringHolder(name);
-		this.table = table;
-		this.type = type;
+		this(name, null, table, type);
 	}
 
-	DbTableField(StringHolder name, DbTableLike table, Class<T> type) {
+	private DbTableField(String name, String alias, DbTableLike table, Class<T> type) {
 		this.fieldName = name;
+		this.alias = alias;
 		this.table = table;
 		this.type = type;
 	}
@@ -78,12 +82,86 @@ public class DbTableField<T> implements DbField<T>, DbWritableField<T>, DbCompar
 		return new DbAggregateField<>(SqlAggregator.SUM, this, Double.class);
 	}
 
+	/**
+	 * Numbers the rows of each partition of the window, starting at 1. This field only determines the table the window
+	 * function is selected from and its default alias, e.g.: "row_number_id".
+	 *
+	 * @param window the window of the function.
+	 * @return a new window field with the ROW_NUMBER function.
+	 */
+	public DbWindowField<Long> rowNumber(SqlWindow window) {
+		return windowField(SqlWindowFunction.ROW_NUMBER, window, Long.class);
+	}
+
+	/**
+	 * Ranks the rows of each partition of the window, with gaps after ties. This field only determines the table the
+	 * window function is selected from and its default alias, e.g.: "rank_id".
+	 *
+	 * @param window the window of the function.
+	 * @return a new window field with the RANK function.
+	 */
+	public DbWindowField<Long> rank(SqlWindow window) {
+		return windowField(SqlWindowFunction.RANK, window, Long.class);
+	}
+
+	/**
+	 * Ranks the rows of each partition of the window, without gaps after ties. This field only determines the table the
+	 * window function is selected from and its default alias, e.g.: "dense_rank_id".
+	 *
+	 * @param window the window of the function.
+	 * @return a new window field with the DENSE_RANK function.
+	 */
+	public DbWindowField<Long> denseRank(SqlWindow window) {
+		return windowField(SqlWindowFunction.DENSE_RANK, window, Long.class);
+	}
+
+	/**
+	 * @param window the window of the function.
+	 * @return a new window field with the value of this field in the previous row of the partition.
+	 */
+	public DbWindowField<T> lag(SqlWindow window) {
+		return lag(1, window);
+	}
+
+	/**
+	 * @param offset the number of rows before the current one.
+	 * @param window the window of the function.
+	 * @return a new window field with the value of this field in the given row before the current one in the partition.
+	 */
+	public DbWindowField<T> lag(int offset, SqlWindow window) {
+		return new DbWindowField<>(this, () -> SqlWindowFunction.LAG.applyTo(getFullQualification(), offset),
+								   (SqlWindowFunction.LAG + "_" + getFieldName()).toLowerCase(), window, this.type);
+	}
+
+	/**
+	 * @param window the window of the function.
+	 * @return a new window field with the value of this field in the next row of the partition.
+	 */
+	public DbWindowField<T> lead(SqlWindow window) {
+		return lead(1, window);
+	}
+
+	/**
+	 * @param offset the number of rows after the current one.
+	 * @param window the window of the function.
+	 * @return a new window field with the value of this field in the given row after the current one in the partition.
+	 */
+	public DbWindowField<T> lead(int offset, SqlWindow window) {
+		return new DbWindowField<>(this, () -> SqlWindowFunction.LEAD.applyTo(getFullQualification(), offset),
+								   (SqlWindowFunction.LEAD + "_" + getFieldName()).toLowerCase(), window, this.type);
+	}
+
+	private <R> DbWindowField<R> windowField(SqlWindowFunction function, SqlWindow window, Class<R> type) {
+		return new DbWindowField<>(this, function::applyTo, (function + "_" + getFieldName()).toLowerCase(), window,
+								   type);
+	}
+
 	/**
 	 * @return a new DbFieldOrder with the ascending order of this field.
 	 */
 	@Override
 	public DbFieldOrder asc() {
-		return new DbTableFieldOrder(getLabel(), SqlSortOrder.ASC);
+		return new DbTableFieldOrder(getLabel(), getFullQualification(), SqlSortOrder.ASC);
 	}
 
 	/**
@@ -91,16 +169,16 @@ public class DbTableField<T> implements DbField<T>, DbWritableField<T>, DbCompar
 	 */
 	@Override
 	public DbFieldOrder desc() {
-		return new DbTableFieldOrder(getLabel(), SqlSortOrder.DESC);
+		return new DbTableFieldOrder(getLabel(), getFullQualification(), SqlSortOrder.DESC);
 	}
 
 	/**
-	 * @return this field with the alias set.
+	 * @param alias the alias of the field.
+	 * @return a copy of this field with the alias set, this field is not modified.
 	 */
 	@Override
-	public DbFieldLike as(String alias) {
-		this.alias.setValue(alias);
-		return this;
+	public DbTableField<T> as(String alias) {
+		return new DbTableField<>(this.fieldName, alias, this.table, this.type);
 	}
 
 	/**
@@ -110,16 +188,15 @@ public class DbTableField<T> implements DbField<T>, DbWritableField<T>, DbCompar
 	 * @return a new DbFieldValue with the value given.
 	 */
 	@Override
-	public DbFieldValue<T> value(T value) { return new DbTableFieldValue<>(this.fieldName.getValue(), value); }
+	public DbFieldValue<T> value(T value) { return new DbTableFieldValue<>(this.fieldName, value); }
 
 	/**
 	 * @return the full qualification of this field, which is the result of combining the table with the field name.
 	 */
 	@Override
 	public String getFullQualification() {
-		String fieldName = this.fieldName.getValueOrDefault();
 		return this.table == null || StringUtil.isBlank(this.table.getAlias())
-					   ? fieldName : this.table.getAlias() + "." + fieldName;
+					   ? this.fieldName : this.table.getAlias() + "." + this.fieldName;
 	}
 
 	/**
@@ -127,7 +204,7 @@ public class DbTableField<T> implements DbField<T>, DbWritableField<T>, DbCompar
 	 */
 	@Override
 	public String getLabel() {
-		return this.alias.isBlank() ? this.getFullQualification() : this.alias.getValue();
+		return StringUtil.isBlank(this.alias) ? this.getFullQualification() : this.alias;
 	}
 
 	/**
@@ -138,14 +215,14 @@ public class DbTableField<T> implements DbField<T>, DbWritableField<T>, DbCompar
 	 */
 	@Override
 	public String getDefinition() {
-		return this.alias.isBlank() ? getFullQualification() : getFullQualification() + AS + this.alias;
+		return StringUtil.isBlank(this.alias) ? getFullQualification() : getFullQualification() + AS + this.alias;
 	}
 
 	/**
 	 * @return the name of this field.
 	 */
 	@Override
-	public String getFieldName() { return this.fieldName.getValueOrDefault(); }
+	public String getFieldName() { return this.fieldName; }
 
 	/**
 	 * @return the table where this field is defined.
@@ -173,8 +250,23 @@ public class DbTableField<T> implements DbField<T>, DbWritableField<T>, DbCompar
 	 */
 	@Override
 	public DbComparableField<T> mapTo(DbTableLike tableLike) {
-		this.alias.setDefaultHolder(this.fieldName);
-		return new DbTableField<>(this.alias, tableLike, this.type);
+		return new DbTableField<>(StringUtil.isBlank(this.alias) ? this.fieldName : this.alias, tableLike, this.type);
+	}
+
+	/**
+	 * Fields are equal when they have the same name, alias and type, and belong to equal tables, so the field bound to a
+	 * {@link DbTableView} by each call of {@link DbTableView#getField(DbTableField)} is equal to the previous ones.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof DbTableField<?> other && Objects.equals(this.fieldName, other.fieldName)
+					   && Objects.equals(this.alias, other.alias) && Objects.equals(this.table, other.table)
+					   && this.type == other.type;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.fieldName, this.alias, this.table, this.type);
 	}
 
 	/**
@@ -11,10 +11,16 @@ import com.github.hyansts.preparedsqlbuilder.sql.SqlSortOrder;
 public class DbTableFieldOrder implements DbFieldOrder {
 
 	private final String fieldLabel;
+	private final String fieldQualification;
 	private final SqlSortOrder sortOrder;
 
 	public DbTableFieldOrder(String fieldLabel, SqlSortOrder sortOrder) {
+		this(fieldLabel, fieldLabel, sortOrder);
+	}
+
+	public DbTableFieldOrder(String fieldLabel, String fieldQualification, SqlSortOrder sortOrder) {
 		this.fieldLabel = fieldLabel;
+		this.fieldQualification = fieldQualification;
 		this.sortOrder = sortOrder;
 	}
 
@@ -23,6 +29,11 @@ public class DbTableFieldOrder implements DbFieldOrder {
 		return fieldLabel;
 	}
 
+	@Override
+	public String getFieldQualification() {
+		return fieldQualification;
+	}
+
 	@Override
 	public SqlSortOrder getOrder() {
 		return sortOrder;
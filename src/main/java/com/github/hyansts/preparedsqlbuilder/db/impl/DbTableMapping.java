@@ -1,23 +1,49 @@
 package com.github.hyansts.preparedsqlbuilder.db.impl;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import com.github.hyansts.preparedsqlbuilder.db.DbEntity;
 import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldOrder;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldValue;
+import com.github.hyansts.preparedsqlbuilder.query.CombiningOperation;
 import com.github.hyansts.preparedsqlbuilder.query.DeleteStep;
 import com.github.hyansts.preparedsqlbuilder.query.FromStep;
 import com.github.hyansts.preparedsqlbuilder.query.InsertStep;
 import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
 import com.github.hyansts.preparedsqlbuilder.query.SqlQuery;
+import com.github.hyansts.preparedsqlbuilder.query.SetStep;
+import com.github.hyansts.preparedsqlbuilder.query.SqlScalarSubquery;
 import com.github.hyansts.preparedsqlbuilder.query.UpdateStep;
+import com.github.hyansts.preparedsqlbuilder.query.ValuesStep;
 import com.github.hyansts.preparedsqlbuilder.query.impl.SqlQueryFactory;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlAggregator;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlDialect;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlKeysetCursor;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlWindow;
 
 public class DbTableMapping<E extends DbEntity, ID, T extends MappedDbTable<E, ID, T>> {
 
+	public static final String TOTAL_COUNT_LABEL = "total_count";
+	private static final String SELECT_WITH_TOTAL = "*, " + SqlAggregator.COUNT.applyTo("*") + SqlKeyword.OVER
+															+ SqlWindow.empty() + SqlKeyword.AS + TOTAL_COUNT_LABEL;
+
 	private final T table;
 	private final Function<ID, E> entityFromId;
 	private final DbFieldMapping<E> fieldMapping;
+	private volatile DbEntityCache<E> cache;
+	private volatile SqlDialect dialect;
 
 	public DbTableMapping(T table, Function<ID, E> entityFromId, DbFieldMapping<E> fieldMapping) {
 		this.table = table;
@@ -25,6 +51,81 @@ public class DbTableMapping<E extends DbEntity, ID, T extends MappedDbTable<E, I
 		this.fieldMapping = fieldMapping;
 	}
 
+	/**
+	 * Enables an in-memory cache of entities for primary key lookups made through {@link #selectById(Object, Function)}.
+	 * <p>
+	 * Cached entries are invalidated after a statement that may change them is executed through this mapping:
+	 * {@link #insert(DbEntity, ToIntFunction)}, {@link #update(DbEntity, ToIntFunction)},
+	 * {@link #delete(Object, ToIntFunction)} and the like invalidate the entry of the affected primary key, while the
+	 * custom statements, e.g.: {@link #update(BiFunction, ToIntFunction)}, invalidate the whole cache, as the affected
+	 * keys are not known. The statements only built by this mapping, e.g.: {@link #updateQuery(DbEntity)}, don't
+	 * invalidate anything, and neither do changes made without going through this mapping, which are only picked up
+	 * once the entries expire or are invalidated through {@link #getCache()}.
+	 * <p>
+	 * When the statements run in a transaction, an entry may be loaded again between their execution and the commit,
+	 * so the affected entries should be invalidated again once the transaction is committed.
+	 * <p>
+	 * Entities returned from the cache are shared, they should be treated as read-only. This is best suited for
+	 * reference tables that are read very often and seldom change.
+	 *
+	 * @param maximumSize the maximum number of entities to keep, the least recently used ones are evicted first.
+	 * @param timeToLive  how long an entity is kept after being loaded.
+	 * @return this mapping.
+	 */
+	public DbTableMapping<E, ID, T> enableCache(int maximumSize, Duration timeToLive) {
+		this.cache = new DbEntityCache<>(maximumSize, timeToLive);
+		return this;
+	}
+
+	/**
+	 * Renders the queries built by this mapping in the given dialect, instead of the one selected with
+	 * {@link SqlQueryFactory#setDialect(SqlDialect)}.
+	 *
+	 * @param dialect the dialect of the database the table belongs to.
+	 * @return this mapping.
+	 */
+	public DbTableMapping<E, ID, T> useDialect(SqlDialect dialect) {
+		this.dialect = Objects.requireNonNull(dialect);
+		return this;
+	}
+
+	/**
+	 * @return the dialect the queries built by this mapping are rendered in.
+	 */
+	public SqlDialect getDialect() {
+		SqlDialect currentDialect = this.dialect;
+		return currentDialect == null ? SqlQueryFactory.getDialect() : currentDialect;
+	}
+
+	/**
+	 * Finds an entity by its primary key, using the cache enabled through {@link #enableCache(int, Duration)} if any.
+	 * <p>
+	 * If the entity is not cached, the {@link #selectByIdQuery(Object)} is passed to the given executor and the
+	 * returned entity is cached. {@code null} results are not cached, nor are entities whose cache entry was invalidated
+	 * while they were being loaded.
+	 *
+	 * @param id       the primary key of the entity.
+	 * @param executor a function that executes the query and maps the resulting row to an entity, or returns
+	 *                 {@code null} if there's none.
+	 * @return the entity found, or {@code null} if there's none.
+	 */
+	public E selectById(ID id, Function<PreparedSql, E> executor) {
+		DbEntityCache<E> currentCache = this.cache;
+		if (currentCache == null) {
+			return executor.apply(selectByIdQuery(id));
+		}
+		List<Object> primaryKey = getPrimaryKey(id);
+		long generation = currentCache.generation();
+		E entity = currentCache.get(primaryKey);
+		if (entity == null) {
+			entity = executor.apply(selectByIdQuery(id));
+			if (entity != null) {
+				currentCache.put(primaryKey, entity, generation);
+			}
+		}
+		return entity;
+	}
+
 	public E mapToEntity(DbFieldExtractor extractor) {
 		E entity = this.entityFromId.apply(null);
 		this.fieldMapping.populateEntity(entity, extractor);
@@ -33,52 +134,446 @@ public class DbTableMapping<E extends DbEntity, ID, T extends MappedDbTable<E, I
 
 	public PreparedSql selectByIdQuery(ID id) {
 		E entity = this.entityFromId.apply(id);
-		return SqlQueryFactory.createQuery().select().from(table).where(fieldMapping.getPrimaryKeyCondition(entity));
+		return SqlQueryFactory.createQuery(getDialect()).select().from(table).where(fieldMapping.getPrimaryKeyCondition(entity));
+	}
+
+	/**
+	 * Creates a query selecting all the entities with the given primary keys in a single statement.
+	 * <p>
+	 * Single column primary keys are rendered as {@code "id IN (?, ?, ...)"}, while composite primary keys are rendered
+	 * as row values: {@code "(id1, id2) IN ((?, ?), (?, ?), ...)"}.
+	 *
+	 * @param ids the primary keys of the entities, must not be empty.
+	 * @return the query selecting the entities.
+	 */
+	public PreparedSql selectByIdsQuery(Collection<ID> ids) {
+		List<E> entities = ids.stream().map(this.entityFromId).toList();
+		return SqlQueryFactory.createQuery(getDialect()).select().from(table).where(fieldMapping.getPrimaryKeyInCondition(entities));
+	}
+
+	/**
+	 * Creates a loader that coalesces the primary key lookups issued within a short time window into a single
+	 * {@link #selectByIdsQuery(Collection)}.
+	 *
+	 * @param executor     a function that executes the query and maps all the resulting rows to entities.
+	 * @param maxBatchSize the maximum number of primary keys per query, reaching it dispatches the query right away.
+	 * @param window       how long to wait for more lookups after the first one before dispatching the query.
+	 * @return a new loader for this mapping.
+	 * @see DbEntityLoader
+	 */
+	public DbEntityLoader<E, ID> createLoader(Function<PreparedSql, List<E>> executor, int maxBatchSize, Duration window) {
+		return new DbEntityLoader<>(this, executor, maxBatchSize, window);
+	}
+
+	/**
+	 * Declares a one-to-many relationship from this table to the given child table, allowing both to be fetched in a
+	 * single query.
+	 *
+	 * @param childTable      the table of the child entities.
+	 * @param foreignKey      the field of the child table referencing this table.
+	 * @param referencedField the field of this table referenced by the foreign key, usually the primary key.
+	 * @param attach          a function attaching a child entity to its parent.
+	 * @return the relationship.
+	 * @see DbOneToMany
+	 */
+	public <C extends DbEntity, K> DbOneToMany<E, C> oneToMany(MappedDbTable<C, ?, ?> childTable, DbTableField<K> foreignKey,
+															   DbTableField<K> referencedField, BiConsumer<E, C> attach) {
+		return new DbOneToMany<>(this, childTable.getMapping(), foreignKey, referencedField, attach);
 	}
 
 	public PreparedSql selectAllQuery() {
-		return SqlQueryFactory.createQuery().select().from(table);
+		return SqlQueryFactory.createQuery(getDialect()).select().from(table);
+	}
+
+	/**
+	 * Creates a query selecting a page of entities ordered by their primary key, using keyset pagination.
+	 *
+	 * @param after    the cursor of the last entity of the previous page, or {@code null} for the first page.
+	 * @param pageSize the maximum number of entities in the page.
+	 * @return the query selecting the page.
+	 * @see #getCursor(DbEntity)
+	 */
+	public PreparedSql selectPageQuery(SqlKeysetCursor after, int pageSize) {
+		DbFieldOrder[] orders = fieldMapping.getPrimaryKeyFields().stream()
+											.map(DbTableField::asc)
+											.toArray(DbFieldOrder[]::new);
+		return SqlQueryFactory.createQuery(getDialect()).select().from(table).orderBy(orders).seekAfter(after).limit(pageSize);
+	}
+
+	/**
+	 * @param entity the last entity of a page selected by {@link #selectPageQuery(SqlKeysetCursor, int)}.
+	 * @return the cursor to select the next page.
+	 */
+	public SqlKeysetCursor getCursor(E entity) {
+		return SqlKeysetCursor.of(fieldMapping.getPrimaryKey(entity));
 	}
 
 	public PreparedSql selectQuery(BiFunction<FromStep<SqlQuery>, T, PreparedSql> query) {
-		return query.apply(SqlQueryFactory.createQuery().select().from(table), table);
+		return query.apply(SqlQueryFactory.createQuery(getDialect()).select().from(table), table);
 	}
 
 	public PreparedSql selectCountQuery(BiFunction<FromStep<SqlQuery>, T, PreparedSql> query) {
-		return query.apply(SqlQueryFactory.createQuery().selectCount().from(table), table);
+		return query.apply(SqlQueryFactory.createQuery(getDialect()).selectCount().from(table), table);
+	}
+
+	/**
+	 * Creates the query counting all the rows of a listing, from the same function that builds the listing with
+	 * {@link #selectQuery(BiFunction)}. The ORDER BY, LIMIT and OFFSET clauses are left out, and so are the LEFT JOINs
+	 * on a primary key that are not referenced in the rest of the query.
+	 *
+	 * @param query the function building the listing query.
+	 * @return the query counting the rows of the listing, resulting in a single column.
+	 * @see SqlQueryFactory#createCountQuery()
+	 */
+	public PreparedSql countQuery(BiFunction<FromStep<SqlQuery>, T, PreparedSql> query) {
+		return query.apply(SqlQueryFactory.createCountQuery(getDialect()).select().from(table), table);
+	}
+
+	/**
+	 * Creates a page query that also returns the total number of rows matching it, ignoring LIMIT and OFFSET, in the
+	 * {@value #TOTAL_COUNT_LABEL} column of every row: {@code "SELECT *, COUNT(*) OVER () AS total_count FROM ..."}.
+	 *
+	 * @param query the function building the page query.
+	 * @return the page query with the total count of rows.
+	 */
+	public PreparedSql selectWithTotalQuery(BiFunction<FromStep<SqlQuery>, T, PreparedSql> query) {
+		return query.apply(SqlQueryFactory.createQuery(getDialect()).select(SELECT_WITH_TOTAL).from(table), table);
+	}
+
+	/**
+	 * Creates a query checking whether any row matches the given condition, without counting them:
+	 * {@code "SELECT EXISTS (SELECT 1 FROM table WHERE ...)"}.
+	 *
+	 * @param condition the condition to be matched.
+	 * @return the existence check query, resulting in a single boolean column.
+	 */
+	public PreparedSql existsQuery(SqlCondition condition) {
+		return SqlQueryFactory.createQuery(getDialect()).select("1").from(table).where(condition).exists();
+	}
+
+	/**
+	 * Creates a query checking whether the given query results in any row: {@code "SELECT EXISTS (SELECT 1 FROM table ...)"}.
+	 *
+	 * @param query a function that completes the given query, e.g. with joins and a WHERE clause.
+	 * @return the existence check query, resulting in a single boolean column.
+	 */
+	public PreparedSql existsQuery(BiFunction<FromStep<SqlQuery>, T, CombiningOperation<SqlQuery>> query) {
+		return query.apply(SqlQueryFactory.createQuery(getDialect()).select("1").from(table), table).exists();
+	}
+
+	/**
+	 * Checks whether any row matches the given condition by passing the {@link #existsQuery(SqlCondition)} to the
+	 * given executor.
+	 *
+	 * @param condition the condition to be matched.
+	 * @param executor  a function that executes the query and returns its boolean result.
+	 * @return whether any row matches the condition.
+	 */
+	public boolean exists(SqlCondition condition, Predicate<PreparedSql> executor) {
+		return executor.test(existsQuery(condition));
 	}
 
 	public PreparedSql insertQuery(E entity) {
-		return SqlQueryFactory.createQuery()
+		return SqlQueryFactory.createQuery(getDialect())
 							  .insertInto(table)
 							  .values(fieldMapping.getAllFieldValues(entity));
 	}
 
+	/**
+	 * Creates a single INSERT statement with a row for each of the given entities:
+	 * {@code "INSERT INTO table (...) VALUES (...), (...), ..."}.
+	 *
+	 * @param entities the entities to be inserted, at least one is required.
+	 * @return the insert statement.
+	 */
+	public PreparedSql insertAllQuery(Collection<E> entities) {
+		if (entities.isEmpty()) {
+			throw new IllegalArgumentException("At least one entity is required");
+		}
+		InsertStep insert = SqlQueryFactory.createQuery(getDialect()).insertInto(table);
+		ValuesStep values = null;
+		for (E entity : entities) {
+			DbFieldValue<?>[] fieldValues = fieldMapping.getAllFieldValues(entity);
+			values = values == null ? insert.values(fieldValues) : values.values(fieldValues);
+		}
+		return values;
+	}
+
+	/**
+	 * Creates an INSERT statement that updates the non primary key fields of the existing row instead when the primary
+	 * key already exists: {@code "INSERT INTO table (...) VALUES (...) ON CONFLICT (id) DO UPDATE SET field = EXCLUDED.field"}.
+	 *
+	 * @param entity the entity to be inserted or updated.
+	 * @return the upsert statement.
+	 */
+	public PreparedSql upsertQuery(E entity) {
+		return SqlQueryFactory.createQuery(getDialect())
+							  .insertInto(table)
+							  .values(fieldMapping.getAllFieldValues(entity))
+							  .onConflict(fieldMapping.getPrimaryKeyFields().toArray(DbTableField[]::new))
+							  .doUpdateSet(fieldMapping.getNonPrimaryKeyFields().toArray(DbTableField[]::new));
+	}
+
 	public PreparedSql insertQuery(BiFunction<InsertStep, T, PreparedSql> query) {
-		return query.apply(SqlQueryFactory.createQuery().insertInto(table), table);
+		return query.apply(SqlQueryFactory.createQuery(getDialect()).insertInto(table), table);
 	}
 
 	public PreparedSql updateQuery(E entity) {
-		return SqlQueryFactory.createQuery()
+		return SqlQueryFactory.createQuery(getDialect())
 							  .update(table)
 							  .set(fieldMapping.getNonPrimaryKeyValues(entity))
 							  .where(fieldMapping.getPrimaryKeyCondition(entity));
 	}
 
 	public PreparedSql updateQuery(BiFunction<UpdateStep, T, PreparedSql> query) {
-		return query.apply(SqlQueryFactory.createQuery().update(table), table);
+		return query.apply(SqlQueryFactory.createQuery(getDialect()).update(table), table);
 	}
 
 	public PreparedSql deleteQuery(ID id) {
 		E entity = this.entityFromId.apply(id);
-		return SqlQueryFactory.createQuery().deleteFrom(table).where(fieldMapping.getPrimaryKeyCondition(entity));
+		return SqlQueryFactory.createQuery(getDialect()).deleteFrom(table).where(fieldMapping.getPrimaryKeyCondition(entity));
 	}
 
 	public PreparedSql deleteQuery(BiFunction<DeleteStep, T, PreparedSql> query) {
-		return query.apply(SqlQueryFactory.createQuery().deleteFrom(table), table);
+		return query.apply(SqlQueryFactory.createQuery(getDialect()).deleteFrom(table), table);
+	}
+
+	/**
+	 * Inserts the entity by passing the {@link #insertQuery(DbEntity)} to the given executor, then invalidates its cache
+	 * entry.
+	 *
+	 * @param entity   the entity to be inserted.
+	 * @param executor a function that executes the statement and returns the number of affected rows.
+	 * @return the number of affected rows.
+	 */
+	public int insert(E entity, ToIntFunction<PreparedSql> executor) {
+		try {
+			return executor.applyAsInt(insertQuery(entity));
+		} finally {
+			invalidateCache(entity);
+		}
+	}
+
+	/**
+	 * Inserts the entities by passing the {@link #insertAllQuery(Collection)} to the given executor, then invalidates
+	 * their cache entries.
+	 *
+	 * @param entities the entities to be inserted, at least one is required.
+	 * @param executor a function that executes the statement and returns the number of affected rows.
+	 * @return the number of affected rows.
+	 */
+	public int insertAll(Collection<E> entities, ToIntFunction<PreparedSql> executor) {
+		try {
+			return executor.applyAsInt(insertAllQuery(entities));
+		} finally {
+			entities.forEach(this::invalidateCache);
+		}
+	}
+
+	/**
+	 * Inserts or updates the entity by passing the {@link #upsertQuery(DbEntity)} to the given executor, then
+	 * invalidates its cache entry.
+	 *
+	 * @param entity   the entity to be inserted or updated.
+	 * @param executor a function that executes the statement and returns the number of affected rows.
+	 * @return the number of affected rows.
+	 */
+	public int upsert(E entity, ToIntFunction<PreparedSql> executor) {
+		try {
+			return executor.applyAsInt(upsertQuery(entity));
+		} finally {
+			invalidateCache(entity);
+		}
+	}
+
+	/**
+	 * Passes the custom {@link #insertQuery(BiFunction)} to the given executor, then invalidates the whole cache, as the
+	 * statement may update existing rows, e.g.: on conflict.
+	 *
+	 * @param query    a function completing the INSERT statement.
+	 * @param executor a function that executes the statement and returns the number of affected rows.
+	 * @return the number of affected rows.
+	 */
+	public int insert(BiFunction<InsertStep, T, PreparedSql> query, ToIntFunction<PreparedSql> executor) {
+		try {
+			return executor.applyAsInt(insertQuery(query));
+		} finally {
+			invalidateCache();
+		}
+	}
+
+	/**
+	 * Updates the entity by passing the {@link #updateQuery(DbEntity)} to the given executor, then invalidates its cache
+	 * entry.
+	 *
+	 * @param entity   the entity to be updated.
+	 * @param executor a function that executes the statement and returns the number of affected rows.
+	 * @return the number of affected rows.
+	 */
+	public int update(E entity, ToIntFunction<PreparedSql> executor) {
+		try {
+			return executor.applyAsInt(updateQuery(entity));
+		} finally {
+			invalidateCache(entity);
+		}
+	}
+
+	/**
+	 * Passes the custom {@link #updateQuery(BiFunction)} to the given executor, then invalidates the whole cache, as the
+	 * affected keys are not known.
+	 *
+	 * @param query    a function completing the UPDATE statement.
+	 * @param executor a function that executes the statement and returns the number of affected rows.
+	 * @return the number of affected rows.
+	 */
+	public int update(BiFunction<UpdateStep, T, PreparedSql> query, ToIntFunction<PreparedSql> executor) {
+		try {
+			return executor.applyAsInt(updateQuery(query));
+		} finally {
+			invalidateCache();
+		}
+	}
+
+	/**
+	 * Deletes the entity with the given primary key by passing the {@link #deleteQuery(Object)} to the given executor,
+	 * then invalidates its cache entry.
+	 *
+	 * @param id       the primary key of the entity.
+	 * @param executor a function that executes the statement and returns the number of affected rows.
+	 * @return the number of affected rows.
+	 */
+	public int delete(ID id, ToIntFunction<PreparedSql> executor) {
+		try {
+			return executor.applyAsInt(deleteQuery(id));
+		} finally {
+			invalidateCache(this.entityFromId.apply(id));
+		}
+	}
+
+	/**
+	 * Passes the custom {@link #deleteQuery(BiFunction)} to the given executor, then invalidates the whole cache, as the
+	 * affected keys are not known.
+	 *
+	 * @param query    a function completing the DELETE statement.
+	 * @param executor a function that executes the statement and returns the number of affected rows.
+	 * @return the number of affected rows.
+	 */
+	public int delete(BiFunction<DeleteStep, T, PreparedSql> query, ToIntFunction<PreparedSql> executor) {
+		try {
+			return executor.applyAsInt(deleteQuery(query));
+		} finally {
+			invalidateCache();
+		}
+	}
+
+	/**
+	 * Creates an executor deleting the rows matching the given condition in chunks of the given size, each one limited
+	 * through a primary key subquery:
+	 * {@code "DELETE FROM table WHERE id IN (SELECT id FROM table WHERE ... LIMIT ?)"}, or with a trailing limit if
+	 * the dialect {@link SqlDialect#supportsModificationLimit() supports it}:
+	 * {@code "DELETE FROM table WHERE ... LIMIT ?"}.
+	 * <p>
+	 * The whole cache is invalidated after each chunk, as the affected keys are not known.
+	 *
+	 * @param condition the condition of the rows to be deleted.
+	 * @param chunkSize the maximum number of rows deleted by each statement.
+	 * @return the chunked executor.
+	 * @throws IllegalArgumentException if the condition is {@link SqlCondition#empty()}.
+	 */
+	public DbChunkedExecutor deleteInChunks(SqlCondition condition, int chunkSize) {
+		SqlDialect dialect = getDialect();
+		DeleteStep delete = SqlQueryFactory.createQuery(dialect).deleteFrom(table);
+		if (dialect.supportsModificationLimit()) {
+			return chunkedExecutor(limit(delete.where(requireChunkCondition(condition)), chunkSize, dialect), chunkSize);
+		}
+		return chunkedExecutor(delete.where(primaryKeyChunk(condition, chunkSize)), chunkSize);
+	}
+
+	/**
+	 * Creates an executor updating the rows matching the given condition in chunks of the given size, each one limited
+	 * through a primary key subquery:
+	 * {@code "UPDATE table SET ... WHERE id IN (SELECT id FROM table WHERE ... LIMIT ?)"}, or with a trailing limit if
+	 * the dialect {@link SqlDialect#supportsModificationLimit() supports it}:
+	 * {@code "UPDATE table SET ... WHERE ... LIMIT ?"}.
+	 * <p>
+	 * The condition must no longer match the updated rows, so each chunk picks rows that were not yet updated. The
+	 * whole cache is invalidated after each chunk, as the affected keys are not known.
+	 *
+	 * @param condition the condition of the rows to be updated.
+	 * @param chunkSize the maximum number of rows updated by each statement.
+	 * @param fields    the fields to be updated and their values.
+	 * @return the chunked executor.
+	 * @throws IllegalArgumentException if the condition is {@link SqlCondition#empty()}.
+	 */
+	public DbChunkedExecutor updateInChunks(SqlCondition condition, int chunkSize, DbFieldValue<?>... fields) {
+		SqlDialect dialect = getDialect();
+		SetStep update = SqlQueryFactory.createQuery(dialect).update(table).set(fields);
+		if (dialect.supportsModificationLimit()) {
+			return chunkedExecutor(limit(update.where(requireChunkCondition(condition)), chunkSize, dialect), chunkSize);
+		}
+		return chunkedExecutor(update.where(primaryKeyChunk(condition, chunkSize)), chunkSize);
+	}
+
+	private DbChunkedExecutor chunkedExecutor(PreparedSql statement, int chunkSize) {
+		return new DbChunkedExecutor(statement, chunkSize, this::invalidateCache);
+	}
+
+	private static PreparedSql limit(PreparedSql statement, int chunkSize, SqlDialect dialect) {
+		List<Object> values = new ArrayList<>(statement.getValues());
+		values.add(chunkSize);
+		return new LimitedStatement(statement.getSql() + dialect.limit(false), values);
+	}
+
+	private static SqlCondition requireChunkCondition(SqlCondition condition) {
+		if (condition.isEmpty()) {
+			throw new IllegalArgumentException("Chunked statements require a non-empty condition");
+		}
+		return condition;
+	}
+
+	private SqlCondition primaryKeyChunk(SqlCondition condition, int chunkSize) {
+		List<DbTableField<?>> primaryKeyFields = fieldMapping.getPrimaryKeyFields();
+		if (primaryKeyFields.size() != 1) {
+			throw new IllegalStateException("Chunked statements require a single primary key field: " + primaryKeyFields);
+		}
+		return primaryKeyChunk(primaryKeyFields.getFirst(), condition, chunkSize);
+	}
+
+	private <K> SqlCondition primaryKeyChunk(DbTableField<K> primaryKey, SqlCondition condition, int chunkSize) {
+		SqlScalarSubquery<K> chunk = SqlQueryFactory.createScalarSubquery(getDialect());
+		chunk.select(primaryKey).from(table).where(requireChunkCondition(condition)).limit(chunkSize);
+		return primaryKey.in(chunk);
+	}
+
+	List<Object> getPrimaryKey(ID id) {
+		return fieldMapping.getPrimaryKey(this.entityFromId.apply(id));
+	}
+
+	private void invalidateCache(E entity) {
+		DbEntityCache<E> currentCache = this.cache;
+		if (currentCache != null) {
+			currentCache.invalidate(fieldMapping.getPrimaryKey(entity));
+		}
+	}
+
+	private void invalidateCache() {
+		DbEntityCache<E> currentCache = this.cache;
+		if (currentCache != null) {
+			currentCache.invalidateAll();
+		}
 	}
 
 	public T getTable() { return table; }
 	public DbFieldMapping<E> getFieldMapping() { return fieldMapping; }
+	public DbEntityCache<E> getCache() { return cache; }
+
+	private record LimitedStatement(String sql, List<Object> values) implements PreparedSql {
+
+		@Override
+		public String getSql() { return this.sql; }
+
+		@Override
+		public List<Object> getValues() { return this.values; }
+	}
 
-}
\ No newline at end of file
+}
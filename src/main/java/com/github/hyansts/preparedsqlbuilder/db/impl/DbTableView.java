@@ -0,0 +1,130 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.util.Objects;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbTable;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlDialect;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlTableHint;
+import com.github.hyansts.preparedsqlbuilder.sql.StandardSqlDialect;
+import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
+
+import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.TABLE_AS;
+
+/**
+ * An immutable view of a table model with an alias and index hints, created with {@link BaseDbTable#as(String)} or
+ * {@link BaseDbTable#withHints(SqlTableHint...)}. The table model itself is never modified, so it can be a static
+ * singleton shared between threads, each query aliasing it as needed.
+ * <p>
+ * The fields of the table are referenced through the view with {@link #getField(DbTableField)}, which returns the
+ * field qualified by the alias of the view.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * DbTableView e = employees.as("e");
+ * query.select(e.getField(employees.name)).from(e).where(e.getField(employees.age).gt(18));}
+ * </pre>
+ * Expected SQL: {@code "SELECT e.name FROM employees AS e WHERE e.age > ?"}
+ * <p>
+ * Views of the same table with the same alias are equal, so the fields of one can be selected from the other.
+ */
+public final class DbTableView implements DbTable {
+
+	private final BaseDbTable table;
+	private final String alias;
+	private final SqlTableHint[] hints;
+
+	DbTableView(BaseDbTable table, String alias, SqlTableHint[] hints) {
+		this.table = table;
+		this.alias = alias;
+		this.hints = hints;
+	}
+
+	/**
+	 * @param alias the alias of the table.
+	 * @return a new view of the table with the given alias and the hints of this view.
+	 */
+	@Override
+	public DbTableView as(String alias) {
+		return new DbTableView(this.table, alias, this.hints);
+	}
+
+	/**
+	 * Attaches index hints to the table, rendered after the table definition in the FROM and JOIN clauses:
+	 * {@code "employees AS e USE INDEX (idx_age)"}.
+	 *
+	 * @param hints the hints to be attached, none to remove the current ones.
+	 * @return a new view of the table with the alias of this view and the given hints.
+	 */
+	public DbTableView withHints(SqlTableHint... hints) {
+		return new DbTableView(this.table, this.alias, hints.clone());
+	}
+
+	/**
+	 * Binds a field of the table to this view, so it's qualified by the alias of the view: {@code "e.age"}.
+	 *
+	 * @param field a field of the table, or of another view of it.
+	 * @param <T>   the type of the field.
+	 * @return a field with the same name and type, defined to this view, equal to the fields bound to equal views.
+	 */
+	public <T> DbTableField<T> getField(DbTableField<T> field) {
+		if (field.getTableLike() != this.table
+					&& !(field.getTableLike() instanceof DbTableView view && view.table == this.table)) {
+			throw new IllegalArgumentException("Field does not belong to the table " + this.table.getTableName() + ": "
+													   + field.getFieldName());
+		}
+		return new DbTableField<>(field.getFieldName(), this, field.getType());
+	}
+
+	/**
+	 * @return the table model of this view.
+	 */
+	public BaseDbTable getTable() { return this.table; }
+
+	@Override
+	public String getTableName() { return this.table.getTableName(); }
+
+	@Override
+	public String getAlias() { return this.alias; }
+
+	@Override
+	public String getTablePrefix() { return this.table.getTablePrefix(); }
+
+	@Override
+	public String getFullTableName() { return this.table.getFullTableName(); }
+
+	/**
+	 * @return the table definition as: {@code "table_prefix.table_name AS table_alias"}, followed by the hints of this
+	 * view. If no alias is defined, the full table name is used instead.
+	 */
+	@Override
+	public String getDefinition() {
+		return getDefinition(StandardSqlDialect.GENERIC);
+	}
+
+	/**
+	 * @param dialect the dialect of the query the table is referenced in.
+	 * @return the table definition, with the alias keyword and the hints rendered in the given dialect.
+	 */
+	@Override
+	public String getDefinition(SqlDialect dialect) {
+		StringBuilder definition = new StringBuilder(getFullTableName());
+		if (!StringUtil.isBlank(this.alias)) {
+			definition.append(dialect.token(TABLE_AS)).append(this.alias);
+		}
+		for (SqlTableHint hint : this.hints) {
+			definition.append(dialect.tableHint(hint));
+		}
+		return definition.toString();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof DbTableView other && this.table == other.table && Objects.equals(this.alias, other.alias);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * System.identityHashCode(this.table) + Objects.hashCode(this.alias);
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.util.function.Supplier;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbComparableField;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldLike;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldOrder;
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlSortOrder;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlWindow;
+import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
+
+import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.AS;
+import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.OVER;
+
+/**
+ * Represents a window function in a query, e.g.: "ROW_NUMBER() OVER (PARTITION BY department_id ORDER BY salary DESC)".
+ * <p>
+ * Window functions can only be selected, so filtering by them requires selecting them in a derived table subquery and
+ * referencing them in the outer query with {@link com.github.hyansts.preparedsqlbuilder.query.SqlSubquery#getField}.
+ * <p>
+ * Like aggregate fields, window fields have an alias by default, defined as "function_field", e.g.: "row_number_id"
+ * when applying "ROW_NUMBER" to a field named "id". A new alias can be set using the {@link #as(String)} method.
+ */
+public class DbWindowField<T> implements DbComparableField<T> {
+
+	private final DbFieldLike field;
+	private final Supplier<String> function;
+	private final SqlWindow window;
+	private final String alias;
+	private final Class<T> type;
+
+	DbWindowField(DbFieldLike field, Supplier<String> function, String alias, SqlWindow window, Class<T> type) {
+		this.field = field;
+		this.function = function;
+		this.window = window;
+		this.alias = alias;
+		this.type = type;
+	}
+
+	/**
+	 * @return a DbFieldOrder with the ascending order of this field, which can't be used for keyset pagination as
+	 * window functions can't be compared in a WHERE clause.
+	 */
+	@Override
+	public DbFieldOrder asc() {
+		return new DbTableFieldOrder(getLabel(), null, SqlSortOrder.ASC);
+	}
+
+	/**
+	 * @return a DbFieldOrder with the descending order of this field, which can't be used for keyset pagination as
+	 * window functions can't be compared in a WHERE clause.
+	 */
+	@Override
+	public DbFieldOrder desc() {
+		return new DbTableFieldOrder(getLabel(), null, SqlSortOrder.DESC);
+	}
+
+	/**
+	 * @return the full qualification of this field, which is the window function followed by its window.
+	 */
+	@Override
+	public String getFullQualification() {
+		return this.function.get() + OVER + this.window.getDefinition();
+	}
+
+	/**
+	 * @return the definition of this field, which is the full qualification associated with the alias. If no alias is
+	 * set, only the full qualification is returned.
+	 */
+	@Override
+	public String getDefinition() {
+		return StringUtil.isBlank(this.alias) ? getFullQualification() : getFullQualification() + AS + this.alias;
+	}
+
+	/**
+	 * @return the label of this field, which is its alias.
+	 */
+	@Override
+	public String getLabel() {
+		if (StringUtil.isBlank(this.alias)) {
+			throw new IllegalStateException("Window function must have an alias to be referenced: " + getFullQualification());
+		}
+		return this.alias;
+	}
+
+	/**
+	 * @return the table where the original field is defined.
+	 */
+	@Override
+	public DbTableLike getTableLike() {
+		return this.field.getTableLike();
+	}
+
+	/**
+	 * @param alias the alias of the field.
+	 * @return a copy of this field with the alias set, this field is not modified.
+	 */
+	@Override
+	public DbWindowField<T> as(String alias) {
+		return new DbWindowField<>(this.field, this.function, alias, this.window, this.type);
+	}
+
+	/**
+	 * Generates a new DbTableField named after the alias of this field, defined to the given table. This is how the
+	 * result of a window function selected in a derived table subquery is filtered in the outer query.
+	 *
+	 * @param tableLike the table to be mapped to.
+	 * @return a DbTableField named after this field, defined to the given table.
+	 */
+	@Override
+	public DbComparableField<T> mapTo(DbTableLike tableLike) {
+		return new DbTableField<>(this.alias, tableLike, this.type);
+	}
+
+}
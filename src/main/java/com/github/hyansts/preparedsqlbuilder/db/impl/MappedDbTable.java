@@ -1,6 +1,5 @@
 package com.github.hyansts.preparedsqlbuilder.db.impl;
 
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 import com.github.hyansts.preparedsqlbuilder.db.DbEntity;
@@ -8,7 +7,7 @@ import com.github.hyansts.preparedsqlbuilder.db.DbEntity;
 public abstract class MappedDbTable<E extends DbEntity, ID, T extends MappedDbTable<E, ID, T>> extends BaseDbTable {
 
 	private final DbTableMapping<E, ID, T> mapping;
-	private final AtomicBoolean initialized = new AtomicBoolean(false);
+	private volatile boolean initialized;
 
 	@SuppressWarnings("unchecked")
 	protected MappedDbTable(String name, Function<ID, E> entityFromId) {
@@ -24,9 +23,18 @@ public abstract class MappedDbTable<E extends DbEntity, ID, T extends MappedDbTa
 
 	public abstract void mapToTable(DbFieldMapping<E> fieldMapping);
 
+	/**
+	 * @return the mapping of this table, the fields are mapped on the first call. Other threads calling this method in
+	 * the meantime wait for the fields to be mapped, so a shared table is never seen partially mapped.
+	 */
 	public DbTableMapping<E, ID, T> getMapping() {
-		if (initialized.compareAndSet(false, true)) {
-			this.mapToTable(mapping.getFieldMapping());
+		if (!initialized) {
+			synchronized (mapping) {
+				if (!initialized) {
+					this.mapToTable(mapping.getFieldMapping());
+					initialized = true;
+				}
+			}
 		}
 		return mapping;
 	}
@@ -0,0 +1,315 @@
+package com.github.hyansts.preparedsqlbuilder.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import com.github.hyansts.preparedsqlbuilder.db.annotation.DbColumn;
+import com.github.hyansts.preparedsqlbuilder.db.annotation.DbPrimaryKey;
+import com.github.hyansts.preparedsqlbuilder.db.annotation.DbTableModel;
+import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
+
+/**
+ * An annotation processor that generates the table models of {@link DbTableModel} entities at compile time.
+ * <p>
+ * For each annotated entity, a class extending {@code MappedDbTable} is generated in the same package. It declares a
+ * {@code DbTableField} for every {@link DbColumn} field and maps them in {@code mapToTable} through their getters and
+ * setters, without reflection. Entities are populated by a generated method reading and setting every column in a
+ * single call, the int, long, double and boolean columns of primitive fields through the unboxed extractor methods,
+ * instead of one accessor call per column.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * @DbTableModel(name = "countries")
+ * public class Country implements DbEntity {
+ *     @DbPrimaryKey @DbColumn private Integer id;
+ *     @DbColumn("iso_code") private String isoCode;
+ *     // getters and setters
+ * }
+ *
+ * CountryDbTable countries = new CountryDbTable();
+ * query.select(countries.isoCode).from(countries).where(countries.id.eq(1));}
+ * </pre>
+ * The processor is registered as a service, so it runs whenever this library is on the annotation processor path of
+ * the compiler, which is the class path unless {@code -processorpath} or the {@code annotationProcessorPaths} of the
+ * Maven compiler plugin is set.
+ */
+@SupportedAnnotationTypes("com.github.hyansts.preparedsqlbuilder.db.annotation.DbTableModel")
+public class DbTableModelProcessor extends AbstractProcessor {
+
+	private static final String DB_ENTITY = "com.github.hyansts.preparedsqlbuilder.db.DbEntity";
+
+	private record Column(VariableElement field, String name, String type, boolean primaryKey, String getter,
+						  String setter) {
+
+		String assignment(String value) {
+			return this.setter == null
+						   ? "entity." + this.field.getSimpleName() + " = " + value + ";"
+						   : "entity." + this.setter + "(" + value + ");";
+		}
+
+		String setterStatement(String value) {
+			String assignment = assignment(value);
+			return this.field.asType().getKind().isPrimitive() ? "if (value != null) " + assignment : assignment;
+		}
+
+		/**
+		 * @return the statement setting the field to the value read from the extractor, unboxed when possible.
+		 */
+		String populateStatement() {
+			String fieldName = "this." + this.field.getSimpleName();
+			return switch (this.field.asType().getKind()) {
+				case INT -> assignment("extractor.extractInt(" + fieldName + ")");
+				case LONG -> assignment("extractor.extractLong(" + fieldName + ")");
+				case DOUBLE -> assignment("extractor.extractDouble(" + fieldName + ")");
+				case BOOLEAN -> assignment("extractor.extractBoolean(" + fieldName + ")");
+				default -> this.field.asType().getKind().isPrimitive()
+								   ? "{ " + this.type + " value = extractor.extract(" + fieldName + "); "
+											 + setterStatement("value") + " }"
+								   : assignment("extractor.extract(" + fieldName + ")");
+			};
+		}
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(DbTableModel.class)) {
+			if (element.getKind() != ElementKind.CLASS) {
+				error(element, "@DbTableModel can only be applied to classes");
+				continue;
+			}
+			TypeElement entity = (TypeElement) element;
+			if (isValidEntity(entity)) {
+				generateTable(entity);
+			}
+		}
+		return true;
+	}
+
+	private boolean isValidEntity(TypeElement entity) {
+		TypeMirror dbEntity = processingEnv.getElementUtils().getTypeElement(DB_ENTITY).asType();
+		if (!processingEnv.getTypeUtils().isAssignable(entity.asType(), dbEntity)) {
+			error(entity, "@DbTableModel entity must implement " + DB_ENTITY);
+			return false;
+		}
+		if (entity.getModifiers().contains(Modifier.ABSTRACT) || !entity.getTypeParameters().isEmpty()) {
+			error(entity, "@DbTableModel entity must be a concrete, non-generic class");
+			return false;
+		}
+		if (entity.getNestingKind().isNested() && !entity.getModifiers().contains(Modifier.STATIC)) {
+			error(entity, "@DbTableModel nested entity must be static");
+			return false;
+		}
+		boolean hasNoArgsConstructor = ElementFilter.constructorsIn(entity.getEnclosedElements())
+													.stream()
+													.anyMatch(c -> c.getParameters().isEmpty()
+																		   && !c.getModifiers().contains(Modifier.PRIVATE));
+		if (!hasNoArgsConstructor) {
+			error(entity, "@DbTableModel entity must have a non-private constructor without parameters");
+			return false;
+		}
+		return true;
+	}
+
+	private void generateTable(TypeElement entity) {
+		DbTableModel model = entity.getAnnotation(DbTableModel.class);
+		String packageName = getPackage(entity).getQualifiedName().toString();
+		String entityName = entity.getQualifiedName().toString();
+		String className = StringUtil.isBlank(model.className())
+								   ? entity.getSimpleName() + "DbTable" : model.className();
+
+		List<Column> columns = new ArrayList<>();
+		for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+			DbColumn column = field.getAnnotation(DbColumn.class);
+			if (column == null) {
+				continue;
+			}
+			if (field.getModifiers().contains(Modifier.STATIC)) {
+				error(field, "@DbColumn field must not be static");
+				return;
+			}
+			String getter = findGetter(entity, field);
+			String setter = findSetter(entity, field);
+			if (getter == null || setter == null) {
+				return;
+			}
+			String name = StringUtil.isBlank(column.value()) ? field.getSimpleName().toString() : column.value();
+			columns.add(new Column(field, name, boxedType(field.asType()), field.getAnnotation(DbPrimaryKey.class) != null,
+								   getter, setter.isEmpty() ? null : setter));
+		}
+
+		List<Column> primaryKeys = columns.stream().filter(Column::primaryKey).toList();
+		if (primaryKeys.size() != 1) {
+			error(entity, "@DbTableModel entity must have exactly one @DbPrimaryKey @DbColumn field");
+			return;
+		}
+		Column primaryKey = primaryKeys.get(0);
+
+		String qualifiedClassName = packageName.isEmpty() ? className : packageName + "." + className;
+		try (PrintWriter out = new PrintWriter(processingEnv.getFiler()
+															.createSourceFile(qualifiedClassName, entity)
+															.openWriter())) {
+			if (!packageName.isEmpty()) {
+				out.println("package " + packageName + ";");
+				out.println();
+			}
+			out.println("import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;");
+			out.println("import com.github.hyansts.preparedsqlbuilder.db.impl.DbFieldMapping;");
+			out.println("import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField;");
+			out.println("import com.github.hyansts.preparedsqlbuilder.db.impl.MappedDbTable;");
+			out.println();
+			out.println("/**");
+			out.println(" * Table model of {@link " + entityName + "}, generated by " + getClass().getName() + ".");
+			out.println(" */");
+			out.println("public final class " + className + " extends MappedDbTable<" + entityName + ", "
+								+ primaryKey.type + ", " + className + "> {");
+			out.println();
+			for (Column column : columns) {
+				out.println("\tpublic final DbTableField<" + column.type + "> " + column.field.getSimpleName()
+									+ " = new DbTableField<>(" + literal(column.name) + ", this, " + column.type + ".class);");
+			}
+			out.println();
+			out.println("\tpublic " + className + "() {");
+			out.println(StringUtil.isBlank(model.prefix())
+								? "\t\tsuper(" + literal(model.name()) + ", value -> {"
+								: "\t\tsuper(" + literal(model.name()) + ", " + literal(model.prefix()) + ", value -> {");
+			out.println("\t\t\t" + entityName + " entity = new " + entityName + "();");
+			out.println("\t\t\t" + primaryKey.setterStatement("value"));
+			out.println("\t\t\treturn entity;");
+			out.println("\t\t});");
+			out.println("\t}");
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic void mapToTable(DbFieldMapping<" + entityName + "> fieldMapping) {");
+			for (Column column : columns) {
+				out.println("\t\tfieldMapping." + (column.primaryKey ? "mapPrimaryKey" : "mapField") + "(this."
+									+ column.field.getSimpleName() + ", entity -> " + column.getter + ", (entity, value) -> "
+									+ (column.field.asType().getKind().isPrimitive()
+											   ? "{ " + column.setterStatement("value") + " }"
+											   : column.assignment("value").replaceFirst(";$", ""))
+									+ ");");
+			}
+			out.println("\t\tfieldMapping.populateWith(this::populate);");
+			out.println("\t}");
+			out.println();
+			out.println("\tprivate void populate(" + entityName + " entity, DbFieldExtractor extractor) {");
+			for (Column column : columns) {
+				out.println("\t\t" + column.populateStatement());
+			}
+			out.println("\t}");
+			out.println();
+			out.println("}");
+		} catch (IOException e) {
+			error(entity, "Failed to generate table model: " + e.getMessage());
+		}
+	}
+
+	private String findGetter(TypeElement entity, VariableElement field) {
+		if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+			return "entity." + field.getSimpleName();
+		}
+		String name = capitalize(field.getSimpleName().toString());
+		for (String getterName : List.of("get" + name, "is" + name)) {
+			if (findMethod(entity, getterName, 0) != null) {
+				return "entity." + getterName + "()";
+			}
+		}
+		error(field, "@DbColumn field must be accessible or have a getter: get" + name + "()");
+		return null;
+	}
+
+	/**
+	 * @return the name of the setter method, an empty string if the field is assigned directly, or {@code null} if the
+	 * field can't be written.
+	 */
+	private String findSetter(TypeElement entity, VariableElement field) {
+		if (!field.getModifiers().contains(Modifier.PRIVATE) && !field.getModifiers().contains(Modifier.FINAL)) {
+			return "";
+		}
+		String setterName = "set" + capitalize(field.getSimpleName().toString());
+		if (findMethod(entity, setterName, 1) != null) {
+			return setterName;
+		}
+		error(field, "@DbColumn field must be accessible or have a setter: " + setterName + "(value)");
+		return null;
+	}
+
+	private ExecutableElement findMethod(TypeElement entity, String name, int parameters) {
+		return ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(entity))
+							.stream()
+							.filter(method -> method.getSimpleName().contentEquals(name)
+													  && method.getParameters().size() == parameters
+													  && !method.getModifiers().contains(Modifier.PRIVATE))
+							.findFirst()
+							.orElse(null);
+	}
+
+	private String boxedType(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type)
+								.getQualifiedName().toString();
+		}
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	private PackageElement getPackage(Element element) {
+		return processingEnv.getElementUtils().getPackageOf(element);
+	}
+
+	/**
+	 * @return the text as a Java string literal, with the quotes, backslashes and control characters escaped.
+	 */
+	static String literal(String text) {
+		StringBuilder literal = new StringBuilder(text.length() + 2).append('"');
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+				case '"' -> literal.append("\\\"");
+				case '\\' -> literal.append("\\\\");
+				case '\n' -> literal.append("\\n");
+				case '\r' -> literal.append("\\r");
+				case '\t' -> literal.append("\\t");
+				default -> {
+					if (Character.isISOControl(c)) {
+						literal.append(String.format("\\u%04x", (int) c));
+					} else {
+						literal.append(c);
+					}
+				}
+			}
+		}
+		return literal.append('"').toString();
+	}
+
+	private static String capitalize(String name) {
+		return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+}
@@ -12,4 +12,6 @@ public interface CombiningOperation<T> extends CombinableQuery<T> {
 	UnionStep<T> except(CombinableQuery<T> query);
 
 	UnionStep<T> exceptAll(CombinableQuery<T> query);
+
+	PreparedSql exists();
 }
@@ -0,0 +1,12 @@
+package com.github.hyansts.preparedsqlbuilder.query;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbField;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldValue;
+
+public interface ConflictStep {
+	PreparedSql doNothing();
+
+	PreparedSql doUpdate(DbFieldValue<?>... fields);
+
+	PreparedSql doUpdateSet(DbField<?>... fields);
+}
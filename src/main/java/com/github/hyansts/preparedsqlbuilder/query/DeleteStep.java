@@ -1,7 +1,10 @@
 package com.github.hyansts.preparedsqlbuilder.query;
 
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
 
 public interface DeleteStep extends PreparedSql {
+	ModifyingFromStep using(DbTableLike table);
+
 	PreparedSql where(SqlCondition condition);
 }
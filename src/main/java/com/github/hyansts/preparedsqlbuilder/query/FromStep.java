@@ -18,6 +18,10 @@ public interface FromStep<T> extends CombiningOperation<T> {
 
 	FromStep<T> crossJoin(DbTableLike table);
 
+	FromStep<T> leftJoinLateral(SqlSubquery subquery);
+
+	FromStep<T> crossJoinLateral(SqlSubquery subquery);
+
 	GroupByStep<T> groupBy(DbField<?>... fields);
 
 	HavingStep<T> having(SqlCondition sqlCondition);
@@ -2,10 +2,13 @@ package com.github.hyansts.preparedsqlbuilder.query;
 
 import java.util.function.Consumer;
 
+import com.github.hyansts.preparedsqlbuilder.db.DbField;
 import com.github.hyansts.preparedsqlbuilder.db.DbTable;
 
 public interface InsertStatement {
 	InsertStep insertInto(DbTable table);
 
+	SelectStatement<SqlQuery> insertInto(DbTable table, DbField<?>... fields);
+
 	SqlBatchQuery batchInsert(Consumer<InsertStatement> query);
-}
\ No newline at end of file
+}
@@ -3,5 +3,5 @@ package com.github.hyansts.preparedsqlbuilder.query;
 import com.github.hyansts.preparedsqlbuilder.db.DbFieldValue;
 
 public interface InsertStep {
-	PreparedSql values(DbFieldValue<?>... fields);
+	ValuesStep values(DbFieldValue<?>... fields);
 }
\ No newline at end of file
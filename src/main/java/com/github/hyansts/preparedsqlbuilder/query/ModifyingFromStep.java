@@ -0,0 +1,12 @@
+package com.github.hyansts.preparedsqlbuilder.query;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+
+public interface ModifyingFromStep extends PreparedSql {
+	ModifyingJoinStep innerJoin(DbTableLike table);
+
+	ModifyingJoinStep leftJoin(DbTableLike table);
+
+	PreparedSql where(SqlCondition condition);
+}
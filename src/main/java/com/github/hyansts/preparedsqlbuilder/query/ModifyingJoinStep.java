@@ -0,0 +1,7 @@
+package com.github.hyansts.preparedsqlbuilder.query;
+
+import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+
+public interface ModifyingJoinStep extends PreparedSql {
+	ModifyingFromStep on(SqlCondition condition);
+}
@@ -1,5 +1,11 @@
 package com.github.hyansts.preparedsqlbuilder.query;
 
+import com.github.hyansts.preparedsqlbuilder.sql.SqlKeysetCursor;
+
 public interface OrderByStep<T> extends PreparedSql {
+	SeekStep<T> seekAfter(SqlKeysetCursor cursor);
+
+	SeekStep<T> seekAfter(Object... lastValues);
+
 	LimitStep<T> limit(Integer number);
-}
\ No newline at end of file
+}
@@ -0,0 +1,5 @@
+package com.github.hyansts.preparedsqlbuilder.query;
+
+public interface SeekStep<T> extends PreparedSql {
+	LimitStep<T> limit(Integer number);
+}
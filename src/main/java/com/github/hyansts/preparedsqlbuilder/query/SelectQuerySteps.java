@@ -1,4 +1,5 @@
 package com.github.hyansts.preparedsqlbuilder.query;
 
 public interface SelectQuerySteps<T> extends SelectStep<T>, FromStep<T>, JoinStep<T>, WhereStep<T>, GroupByStep<T>,
-													 HavingStep<T>, OrderByStep<T>, LimitStep<T>, UnionStep<T> { }
\ No newline at end of file
+													 HavingStep<T>, OrderByStep<T>, SeekStep<T>, LimitStep<T>,
+													 UnionStep<T> { }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.github.hyansts.preparedsqlbuilder.query;
 
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
 
-public interface SetStep extends PreparedSql {
+public interface SetStep extends UpdateStep {
+	ModifyingFromStep from(DbTableLike table);
+
 	PreparedSql where(SqlCondition condition);
-}
\ No newline at end of file
+}
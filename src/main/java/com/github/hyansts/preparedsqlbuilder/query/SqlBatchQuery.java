@@ -1,5 +1,12 @@
 package com.github.hyansts.preparedsqlbuilder.query;
 
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 public interface SqlBatchQuery {
@@ -10,4 +17,52 @@ public interface SqlBatchQuery {
 
 	String getSql();
 
-}
\ No newline at end of file
+	/**
+	 * @return the columns of a batch insert, in the order of its values.
+	 * @throws IllegalStateException if this is not a batch insert.
+	 */
+	default List<String> getColumns() {
+		throw new IllegalStateException("Bulk loads are only supported by batch inserts: " + getSql());
+	}
+
+	/**
+	 * @return the statement bulk loading the CSV rows of a batch insert, rendered in the dialect of the batch, e.g.:
+	 * {@code "COPY employees (id, name) FROM STDIN (FORMAT csv)"} in PostgreSQL.
+	 * @throws IllegalStateException    if this is not a batch insert.
+	 * @throws IllegalArgumentException if the dialect of the batch has no bulk load statement.
+	 */
+	default String getLoadSql() {
+		throw new IllegalStateException("Bulk loads are only supported by batch inserts: " + getSql());
+	}
+
+	/**
+	 * Creates a writer streaming the rows of a batch insert as CSV, in the format read by {@link #getLoadSql()}, to be
+	 * consumed by a database bulk loader instead of executing the batch.
+	 *
+	 * @param writer the destination of the rows.
+	 * @return the writer of the rows.
+	 * @throws IllegalStateException if this is not a batch insert.
+	 */
+	default SqlBulkLoadWriter bulkLoad(Writer writer) {
+		throw new IllegalStateException("Bulk loads are only supported by batch inserts: " + getSql());
+	}
+
+	/**
+	 * @param output the destination of the rows, encoded in UTF-8.
+	 * @return the writer of the rows.
+	 * @see #bulkLoad(Writer)
+	 */
+	default SqlBulkLoadWriter bulkLoad(OutputStream output) {
+		return bulkLoad(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * @param channel the destination of the rows, encoded in UTF-8.
+	 * @return the writer of the rows.
+	 * @see #bulkLoad(Writer)
+	 */
+	default SqlBulkLoadWriter bulkLoad(WritableByteChannel channel) {
+		return bulkLoad(new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8)));
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.github.hyansts.preparedsqlbuilder.query;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Streams the rows of a batch insert as CSV, to be read by the bulk loader of a database instead of executing the
+ * batch. Each row is written as soon as it's given, so the rows never need to be held in memory.
+ * <p>
+ * The columns are the fields of the batch insert, in the same order. Values are written with their string
+ * representation, except for {@link BigDecimal}s, written in plain notation. Values containing a delimiter, a quote or
+ * a line break are quoted, with the quotes doubled, and so are the empty strings, so they are not read as
+ * {@code null}. Backslashes are written as they are.
+ * <p>
+ * By default, the rows are written for PostgreSQL's {@code COPY ... FROM STDIN (FORMAT csv)}: nulls are written as an
+ * empty unquoted value and byte arrays in the {@code \x...} hex format of {@code bytea}. After {@link #forLoadData()},
+ * applied to the writers of batches rendered in a dialect loading with LOAD DATA, the rows are written for MySQL's
+ * {@code LOAD DATA ... FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '"' ESCAPED BY '' LINES TERMINATED BY '\n'}:
+ * nulls are written as {@code NULL} and byte arrays are rejected. The empty {@code ESCAPED BY} is required, the default
+ * backslash escaping would change the values containing backslashes.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * try (SqlBulkLoadWriter writer = query.bulkLoad(output)) {
+ *     writer.writeRow(1, "John", 20)
+ *           .writeRow(2, "Doe, Jane", null);
+ * }}
+ * </pre>
+ * Expected output:
+ * <pre>
+ * 1,John,20
+ * 2,"Doe, Jane",
+ * </pre>
+ * <p>
+ * Instances are not thread-safe.
+ */
+public interface SqlBulkLoadWriter extends Closeable, Flushable {
+
+	/**
+	 * Sets the text written for null values, e.g.: {@code "\N"}. String values equal to it are quoted.
+	 *
+	 * @param nullMarker the text written for null values.
+	 * @return the current writer.
+	 */
+	SqlBulkLoadWriter nullAs(String nullMarker);
+
+	/**
+	 * Writes the rows for MySQL's LOAD DATA with the options given above: nulls are written as {@code NULL} and byte
+	 * arrays, which it doesn't decode, are rejected.
+	 *
+	 * @return the current writer.
+	 */
+	SqlBulkLoadWriter forLoadData();
+
+	/**
+	 * Writes a row, with a value for each column of the batch insert in the same order.
+	 *
+	 * @param values the values of the row.
+	 * @return the current writer.
+	 * @throws IOException if the row can't be written.
+	 * @throws IllegalArgumentException if the number of values doesn't match the columns, or a byte array is written
+	 * for LOAD DATA.
+	 */
+	SqlBulkLoadWriter writeRow(Object... values) throws IOException;
+
+	/**
+	 * @return the columns of the rows, in the order their values are written.
+	 */
+	List<String> getColumns();
+
+	/**
+	 * @return the number of rows written so far.
+	 */
+	long getRowCount();
+
+	/**
+	 * Flushes and closes the underlying destination, signaling the end of the data to the bulk loader.
+	 *
+	 * @throws IOException if the destination can't be closed.
+	 */
+	@Override
+	void close() throws IOException;
+
+}
@@ -0,0 +1,10 @@
+package com.github.hyansts.preparedsqlbuilder.query;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbComparableField;
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+
+public interface SqlCommonTable extends DbTableLike {
+	String getName();
+
+	<T> DbComparableField<T> getField(DbComparableField<T> field);
+}
@@ -1,3 +1,8 @@
 package com.github.hyansts.preparedsqlbuilder.query;
 
-public interface SqlQuery extends SelectStatement<SqlQuery>, InsertStatement, UpdateStatement, DeleteStatement { }
\ No newline at end of file
+import com.github.hyansts.preparedsqlbuilder.sql.SqlHint;
+
+public interface SqlQuery extends WithStatement, SelectStatement<SqlQuery>, InsertStatement, UpdateStatement,
+								  DeleteStatement {
+	SqlQuery hint(SqlHint... hints);
+}
\ No newline at end of file
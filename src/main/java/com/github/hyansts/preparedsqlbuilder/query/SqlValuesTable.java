@@ -0,0 +1,8 @@
+package com.github.hyansts.preparedsqlbuilder.query;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbComparableField;
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+
+public interface SqlValuesTable<T> extends DbTableLike, PreparedSql {
+	DbComparableField<T> getColumn();
+}
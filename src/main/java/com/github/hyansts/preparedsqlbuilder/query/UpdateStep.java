@@ -1,7 +1,11 @@
 package com.github.hyansts.preparedsqlbuilder.query;
 
+import com.github.hyansts.preparedsqlbuilder.db.DbField;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldLike;
 import com.github.hyansts.preparedsqlbuilder.db.DbFieldValue;
 
 public interface UpdateStep extends PreparedSql {
 	SetStep set(DbFieldValue<?>... fields);
-}
\ No newline at end of file
+
+	SetStep set(DbField<?> field, DbFieldLike source);
+}
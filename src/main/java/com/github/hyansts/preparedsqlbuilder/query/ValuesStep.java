@@ -0,0 +1,10 @@
+package com.github.hyansts.preparedsqlbuilder.query;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbField;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldValue;
+
+public interface ValuesStep extends PreparedSql {
+	ValuesStep values(DbFieldValue<?>... fields);
+
+	ConflictStep onConflict(DbField<?>... fields);
+}
@@ -0,0 +1,7 @@
+package com.github.hyansts.preparedsqlbuilder.query;
+
+public interface WithStatement {
+	WithStep with(SqlCommonTable table, SqlSubquery query);
+
+	WithStep withRecursive(SqlCommonTable table, SqlSubquery query);
+}
@@ -0,0 +1,3 @@
+package com.github.hyansts.preparedsqlbuilder.query;
+
+public interface WithStep extends WithStatement, SelectStatement<SqlQuery> { }
@@ -1,13 +1,16 @@
 package com.github.hyansts.preparedsqlbuilder.query.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.StringJoiner;
 
+import com.github.hyansts.preparedsqlbuilder.db.DbComparableField;
 import com.github.hyansts.preparedsqlbuilder.db.DbField;
 import com.github.hyansts.preparedsqlbuilder.db.DbFieldLike;
 import com.github.hyansts.preparedsqlbuilder.db.DbFieldOrder;
 import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableView;
 import com.github.hyansts.preparedsqlbuilder.query.CombinableQuery;
 import com.github.hyansts.preparedsqlbuilder.query.CombiningOperation;
 import com.github.hyansts.preparedsqlbuilder.query.FromStep;
@@ -16,6 +19,8 @@ import com.github.hyansts.preparedsqlbuilder.query.HavingStep;
 import com.github.hyansts.preparedsqlbuilder.query.JoinStep;
 import com.github.hyansts.preparedsqlbuilder.query.LimitStep;
 import com.github.hyansts.preparedsqlbuilder.query.OrderByStep;
+import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
+import com.github.hyansts.preparedsqlbuilder.query.SeekStep;
 import com.github.hyansts.preparedsqlbuilder.query.SelectQuerySteps;
 import com.github.hyansts.preparedsqlbuilder.query.SelectStatement;
 import com.github.hyansts.preparedsqlbuilder.query.SelectStep;
@@ -24,8 +29,16 @@ import com.github.hyansts.preparedsqlbuilder.query.SqlSubquery;
 import com.github.hyansts.preparedsqlbuilder.query.UnionStep;
 import com.github.hyansts.preparedsqlbuilder.query.WhereStep;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlAggregator;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlArrayValue;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlConditionOperator;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlDialect;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlHint;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlKeysetCursor;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlSortOrder;
 import com.github.hyansts.preparedsqlbuilder.util.StringTemplateFormatter;
+import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
 
 import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.*;
 
@@ -40,21 +53,42 @@ import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.*;
  * <p>
  * For example, you can define a SELECT statement as follows:
  * <p>
- * {@code query.select(employees.id, employees.name, employees.age).from(employees.as("e"))}
+ * {@code query.select(e.getField(employees.id), e.getField(employees.name)).from(e)}, where {@code e} is the
+ * view {@code employees.as("e")}.
  * <p>
- * Expected SQL: {@code "SELECT e.id, e.name, e.age FROM employees AS e"}
+ * Expected SQL: {@code "SELECT e.id, e.name FROM employees AS e"}
  * <p>
- * Even though you the table alias is defined in the query after the fields are passed to the SELECT statement, the
- * resulting SQL still contains the table alias prefixed to the field names. That is possible because the fields passed
- * to the SELECT statement are stored in the {@link #selectedFields} list, those fields are only processed after
- * referencing their table of origin in the FROM or JOIN clause. Selecting a field from a table that is not present in
- * the query will result in an exception.
+ * The fields passed to the SELECT statement are stored in the {@link #selectedFields} list, those fields are only
+ * processed after referencing their table of origin in the FROM or JOIN clause. Selecting a field from a table that is
+ * not present in the query will result in an exception.
  */
 abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps<T> {
 
 	protected final StringBuilder sql = new StringBuilder(128);
 	protected final List<Object> values = new ArrayList<>();
 	protected final List<DbFieldLike> selectedFields = new ArrayList<>();
+	private final List<DbTableLike> referencedTables = new ArrayList<>();
+	private int filterEnd = -1;
+	private int filterValuesEnd;
+	private int whereStart = -1;
+	private boolean whereHasOr;
+	private boolean combined;
+	private SqlKeyword statement;
+	private boolean grouped;
+	private DbFieldOrder[] fieldOrders;
+	private int hintPosition = -1;
+	private SqlHint[] hints = new SqlHint[0];
+	private int limitStart = -1;
+	private int limitValueIndex;
+	protected final SqlDialect dialect;
+
+	protected BaseSqlBuilder() {
+		this(SqlQueryFactory.getDialect());
+	}
+
+	protected BaseSqlBuilder(SqlDialect dialect) {
+		this.dialect = dialect;
+	}
 
 	/**
 	 * Adds a SELECT clause to the SQL query.
@@ -65,10 +99,10 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 * <p>
 	 * Expected SQL: {@code "SELECT id, name, age"}
 	 * <p>
-	 * If the passed fields belong to a table with an alias, the alias is prefixed to the field name. Table names are
-	 * not prefixed if they don't have an alias.
+	 * If the passed fields are bound to an aliased view of their table, the alias is prefixed to the field name. Table
+	 * names are not prefixed if they don't have an alias.
 	 * <p>
-	 * Example: {@code query.select(employees.id, employees.name).from(employees.as("e"))}
+	 * Example: {@code query.select(e.getField(employees.id), e.getField(employees.name)).from(e)}
 	 * <p>
 	 * Expected SQL: {@code "SELECT e.id, e.name FROM employees AS e"}
 	 *
@@ -77,7 +111,8 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public SelectStep<T> select(DbFieldLike... fields) {
-		this.sql.append(SELECT).append(chainFieldsDefinitions(fields));
+		appendStatementKeyword(SELECT);
+		this.sql.append(chainFieldsDefinitions(fields));
 		return this;
 	}
 
@@ -98,7 +133,8 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public SelectStep<T> select(String expression, DbFieldLike... fields) {
-		this.sql.append(SELECT).append(expression);
+		appendStatementKeyword(SELECT);
+		this.sql.append(expression);
 		if (fields != null && fields.length > 0) {
 			this.sql.append(", ").append(chainFieldsDefinitions(fields));
 		}
@@ -114,10 +150,10 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 * <p>
 	 * Expected SQL: {@code "SELECT DISTINCT name, age"}
 	 * <p>
-	 * If the passed fields belong to a table with an alias, the alias is prefixed to the field name. Table names are
-	 * not prefixed if they don't have an alias.
+	 * If the passed fields are bound to an aliased view of their table, the alias is prefixed to the field name. Table
+	 * names are not prefixed if they don't have an alias.
 	 * <p>
-	 * Example: {@code query.selectDistinct(employees.name, employees.age).from(employees.as("e"))}
+	 * Example: {@code query.selectDistinct(e.getField(employees.name), e.getField(employees.age)).from(e)}
 	 * <p>
 	 * Expected SQL: {@code "SELECT DISTINCT e.name, e.age FROM employees AS e"}
 	 *
@@ -126,7 +162,8 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public SelectStep<T> selectDistinct(DbFieldLike... fields) {
-		this.sql.append(SELECT).append(DISTINCT).append(chainFieldsDefinitions(fields));
+		appendStatementKeyword(SELECT);
+		this.sql.append(DISTINCT).append(chainFieldsDefinitions(fields));
 		return this;
 	}
 
@@ -147,7 +184,8 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public SelectStep<T> selectDistinct(String expression, DbFieldLike... fields) {
-		this.sql.append(SELECT).append(DISTINCT).append(expression);
+		appendStatementKeyword(SELECT);
+		this.sql.append(DISTINCT).append(expression);
 		if (fields != null && fields.length > 0) {
 			this.sql.append(", ").append(chainFieldsDefinitions(fields));
 		}
@@ -165,9 +203,9 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 * <p>
 	 * <b>Table aliases</b>
 	 * <p>
-	 * If the passed field belongs to a table with an alias, the alias is prefixed to the field name.
+	 * If the passed field is bound to an aliased view of its table, the alias is prefixed to the field name.
 	 * <p>
-	 * Example: {@code query.selectCount(employees.id).from(employees.as("e"))}
+	 * Example: {@code query.selectCount(e.getField(employees.id)).from(e)}
 	 * <p>
 	 * Expected SQL: {@code "SELECT COUNT(e.id)"}
 	 *
@@ -176,7 +214,8 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public SelectStep<T> selectCount(DbField<?> field) {
-		this.sql.append(SELECT).append(SqlAggregator.COUNT.applyTo(field.getFullQualification()));
+		appendStatementKeyword(SELECT);
+		this.sql.append(SqlAggregator.COUNT.applyTo(field.getFullQualification()));
 		return this;
 	}
 
@@ -191,7 +230,8 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public SelectStep<T> selectCount() {
-		this.sql.append(SELECT).append(SqlAggregator.COUNT.applyTo("*"));
+		appendStatementKeyword(SELECT);
+		this.sql.append(SqlAggregator.COUNT.applyTo("*"));
 		return this;
 	}
 
@@ -217,8 +257,10 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public FromStep<T> from(DbTableLike table) {
-		this.sql.append(FROM).append(table.getDefinition());
+		checkDialect(table);
+		this.sql.append(FROM).append(table.getDefinition(this.dialect));
 		processFieldDefinition(table);
+		markFilterEnd();
 		return this;
 	}
 
@@ -228,7 +270,7 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 * The passed condition is appended to the current SQL query. Conditions are normally created by comparing fields
 	 * with values or with each other.
 	 * <p>
-	 * Example: {@code query.select().from(employees.as("e").where(employees.age.eq(18))}
+	 * Example: {@code query.select().from(e).where(e.getField(employees.age).eq(18))}
 	 * <p>
 	 * Expected SQL: {@code "SELECT * FROM employees AS e WHERE e.age = ?"}
 	 * <p>
@@ -238,14 +280,30 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 * Example: {@code where(employees.age.eq(18).and(employees.id.eq(10))})}
 	 * <p>
 	 * Expected prepared statement parameter list: {@code [18, 10]}
+	 * <p>
+	 * If the condition is {@link SqlCondition#empty()}, no WHERE clause is added to a SELECT statement. UPDATE and
+	 * DELETE statements reject it instead, as they would affect every row of the table.
 	 *
 	 * @param condition the condition to be added to the WHERE clause.
 	 * @return the current implementation of {@link WhereStep}.
+	 * @throws IllegalArgumentException if the condition is empty and the statement is an UPDATE or a DELETE.
 	 */
 	@Override
 	public WhereStep<T> where(SqlCondition condition) {
+		if (condition.isEmpty()) {
+			if (this.statement == UPDATE || this.statement == DELETE_FROM) {
+				throw new IllegalArgumentException("An empty condition can't filter an UPDATE or DELETE statement: "
+														   + this.sql);
+			}
+			return this;
+		}
 		this.values.addAll(condition.getComparedValues());
-		this.sql.append(WHERE).append(condition);
+		reference(condition);
+		this.sql.append(WHERE);
+		this.whereStart = this.sql.length();
+		this.whereHasOr = condition.isDisjunction();
+		this.sql.append(condition);
+		markFilterEnd();
 		return this;
 	}
 
@@ -263,8 +321,10 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public JoinStep<T> innerJoin(DbTableLike table) {
-		this.sql.append(INNER_JOIN).append(table.getDefinition());
+		checkDialect(table);
+		this.sql.append(INNER_JOIN).append(table.getDefinition(this.dialect));
 		processFieldDefinition(table);
+		markFilterEnd();
 		return this;
 	}
 
@@ -282,8 +342,10 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public JoinStep<T> leftJoin(DbTableLike table) {
-		this.sql.append(LEFT_JOIN).append(table.getDefinition());
+		checkDialect(table);
+		this.sql.append(LEFT_JOIN).append(table.getDefinition(this.dialect));
 		processFieldDefinition(table);
+		markFilterEnd();
 		return this;
 	}
 
@@ -301,8 +363,10 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public JoinStep<T> rightJoin(DbTableLike table) {
-		this.sql.append(RIGHT_JOIN).append(table.getDefinition());
+		checkDialect(table);
+		this.sql.append(RIGHT_JOIN).append(table.getDefinition(this.dialect));
 		processFieldDefinition(table);
+		markFilterEnd();
 		return this;
 	}
 
@@ -320,8 +384,10 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public JoinStep<T> fullJoin(DbTableLike table) {
-		this.sql.append(FULL_JOIN).append(table.getDefinition());
+		checkDialect(table);
+		this.sql.append(FULL_JOIN).append(table.getDefinition(this.dialect));
 		processFieldDefinition(table);
+		markFilterEnd();
 		return this;
 	}
 
@@ -339,8 +405,64 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public FromStep<T> crossJoin(DbTableLike table) {
-		this.sql.append(CROSS_JOIN).append(table.getDefinition());
+		checkDialect(table);
+		this.sql.append(CROSS_JOIN).append(table.getDefinition(this.dialect));
 		processFieldDefinition(table);
+		markFilterEnd();
+		return this;
+	}
+
+	/**
+	 * Adds a LEFT JOIN LATERAL clause to the SQL query, joining each row to the rows of a subquery that may reference
+	 * the fields of the preceding tables. The join condition belongs in the WHERE clause of the subquery, so the join
+	 * itself is always true and rows without a match are kept, as in a LEFT JOIN.
+	 * <p>
+	 * Example: <pre>{@code
+	 * query.select(c.getField(customers.name), latest.getField(orders.total))
+	 *      .from(c)
+	 *      .leftJoinLateral(latest.select(orders.total)
+	 *                             .from(orders)
+	 *                             .where(orders.customer_id.eq(c.getField(customers.id)))
+	 *                             .orderBy(orders.created_at.desc())
+	 *                             .limit(3)
+	 *                             .getQuery().as("o"))}</pre>
+	 * <p>
+	 * Expected SQL: <pre>{@code
+	 * SELECT c.name, o.total FROM customers AS c
+	 * LEFT JOIN LATERAL (SELECT total FROM orders WHERE customer_id = c.id ORDER BY created_at DESC LIMIT ?) AS o ON TRUE}
+	 * </pre>
+	 * As the subquery is correlated with the outer query, its conditions reference the fields of the aliased tables of
+	 * the outer query, {@code c = customers.as("c")} in the example.
+	 *
+	 * @param subquery the correlated subquery to be joined, it must have an alias.
+	 * @return the current implementation of {@link FromStep}.
+	 */
+	@Override
+	public FromStep<T> leftJoinLateral(SqlSubquery subquery) {
+		checkDialect(subquery);
+		this.sql.append(this.dialect.lateralJoin(subquery.getDefinition(this.dialect), true));
+		processFieldDefinition(subquery);
+		markFilterEnd();
+		return this;
+	}
+
+	/**
+	 * Adds a CROSS JOIN LATERAL clause to the SQL query, joining each row to the rows of a subquery that may reference
+	 * the fields of the preceding tables. Rows without a match are discarded, as in an INNER JOIN.
+	 * <p>
+	 * Example: {@code query.select().from(customers.as("c")).crossJoinLateral(latest)}
+	 * <p>
+	 * Expected SQL: {@code "SELECT * FROM customers AS c CROSS JOIN LATERAL (SELECT ...) AS o"}
+	 *
+	 * @param subquery the correlated subquery to be joined, it must have an alias.
+	 * @return the current implementation of {@link FromStep}.
+	 */
+	@Override
+	public FromStep<T> crossJoinLateral(SqlSubquery subquery) {
+		checkDialect(subquery);
+		this.sql.append(this.dialect.lateralJoin(subquery.getDefinition(this.dialect), false));
+		processFieldDefinition(subquery);
+		markFilterEnd();
 		return this;
 	}
 
@@ -354,9 +476,9 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 * Example:
 	 * {@code
 	 * query.select()
-	 *      .from(employees.as("e")
-	 *      .innerJoin(department.as("d")
-	 *      .on(employees.dep_id.eq(department.id)
+	 *      .from(e)
+	 *      .innerJoin(d)
+	 *      .on(e.getField(employees.dep_id).eq(d.getField(department.id)))
 	 * }
 	 * </pre>
 	 * <p>
@@ -367,11 +489,17 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 *
 	 * @param condition the condition to be added to the ON clause.
 	 * @return the current implementation of {@link FromStep}.
+	 * @throws IllegalArgumentException if the condition is {@link SqlCondition#empty()}.
 	 */
 	@Override
 	public FromStep<T> on(SqlCondition condition) {
+		if (condition.isEmpty()) {
+			throw new IllegalArgumentException("The ON clause requires a condition: " + this.sql);
+		}
 		this.values.addAll(condition.getComparedValues());
+		reference(condition);
 		this.sql.append(ON).append(condition);
+		markFilterEnd();
 		return this;
 	}
 
@@ -393,7 +521,9 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 		for (var field : fields) {
 			joinedFields.add(field.getFullQualification());
 		}
+		addReferencedTables(List.of(fields), this.referencedTables);
 		this.sql.append(GROUP_BY).append(joinedFields);
+		this.grouped = true;
 		return this;
 	}
 
@@ -412,13 +542,19 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 * {@code "GROUP BY id HAVING MIN(age) > ?"}
 	 * <p>
 	 * Expected values list: {@code [18]}
+	 * <p>
+	 * If the condition is {@link SqlCondition#empty()}, no HAVING clause is added.
 	 *
 	 * @param condition the condition to be added to the HAVING clause.
 	 * @return the current implementation of {@link HavingStep}.
 	 */
 	@Override
 	public HavingStep<T> having(SqlCondition condition) {
+		if (condition.isEmpty()) {
+			return this;
+		}
 		this.values.addAll(condition.getComparedValues());
+		reference(condition);
 		this.sql.append(HAVING).append(condition);
 		return this;
 	}
@@ -442,6 +578,83 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 			joinedFields.add(fieldOrder.getDefinition());
 		}
 		this.sql.append(ORDER_BY).append(joinedFields);
+		this.fieldOrders = fieldOrders;
+		return this;
+	}
+
+	/**
+	 * Restricts the query to the rows placed after the given cursor in the current ORDER BY, for keyset (seek)
+	 * pagination. Does nothing if the cursor is {@code null}, which stands for the first page.
+	 *
+	 * @param cursor the values of the ORDER BY fields in the last row of the previous page, or {@code null}.
+	 * @return the current implementation of {@link SeekStep}.
+	 * @see #seekAfter(Object...)
+	 */
+	@Override
+	public SeekStep<T> seekAfter(SqlKeysetCursor cursor) {
+		return cursor == null ? this : seekAfter(cursor.getValues().toArray());
+	}
+
+	/**
+	 * Restricts the query to the rows placed after the given values in the current ORDER BY, for keyset (seek)
+	 * pagination. Unlike OFFSET, the rows of the previous pages are not scanned and discarded, so an index on the
+	 * ordered fields can be used to jump straight to the page.
+	 * <p>
+	 * The comparison is added to the WHERE clause, following the sort order of each field. When all the fields are
+	 * sorted in the same direction, it's rendered as a row value comparison if the dialect supports it, otherwise it's
+	 * expanded.
+	 * <p>
+	 * Example: {@code where(employees.age.gt(18)).orderBy(employees.name.asc(), employees.id.asc()).seekAfter("John", 10)}
+	 * <p>
+	 * Expected SQL: {@code "WHERE age > ? AND (name, id) > (?, ?) ORDER BY name ASC, id ASC"}
+	 * <p>
+	 * Example: {@code orderBy(employees.age.desc(), employees.id.asc()).seekAfter(30, 10)}
+	 * <p>
+	 * Expected SQL: {@code "WHERE age < ? OR (age = ? AND id > ?) ORDER BY age DESC, id ASC"}
+	 * <p>
+	 * The ORDER BY should include a unique field, such as the primary key, so that rows sharing the same values are not
+	 * skipped between pages.
+	 *
+	 * @param lastValues the values of the ORDER BY fields in the last row of the previous page, in the same order.
+	 * @return the current implementation of {@link SeekStep}.
+	 */
+	@Override
+	public SeekStep<T> seekAfter(Object... lastValues) {
+		if (this.grouped) {
+			throw new IllegalStateException("Keyset pagination is not supported on grouped queries");
+		}
+		if (this.combined) {
+			throw new IllegalStateException("Keyset pagination is not supported on combined queries, use it in each "
+													+ "query or in a subquery selecting from the combined one");
+		}
+		if (this.filterEnd < 0) {
+			throw new IllegalStateException("Keyset pagination requires a FROM clause");
+		}
+		for (DbFieldOrder fieldOrder : this.fieldOrders) {
+			if (fieldOrder.getFieldQualification() == null) {
+				throw new IllegalStateException("Keyset pagination is not supported on the order of a window function: "
+														+ fieldOrder.getFieldLabel());
+			}
+		}
+		if (lastValues.length != this.fieldOrders.length) {
+			throw new IllegalArgumentException("Expected " + this.fieldOrders.length + " keyset values but got: "
+													   + Arrays.toString(lastValues));
+		}
+		List<Object> seekValues = new ArrayList<>();
+		String seekCondition = buildSeekCondition(lastValues, seekValues);
+		boolean expanded = !isRowValueSeek();
+
+		if (this.whereStart < 0) {
+			this.sql.insert(this.filterEnd, WHERE + seekCondition);
+		} else {
+			if (this.whereHasOr) {
+				this.sql.insert(this.filterEnd, ")").insert(this.whereStart, "(");
+				this.filterEnd += 2;
+			}
+			String condition = expanded ? "(" + seekCondition + ")" : seekCondition;
+			this.sql.insert(this.filterEnd, SqlConditionOperator.AND + condition);
+		}
+		this.values.addAll(this.filterValuesEnd, seekValues);
 		return this;
 	}
 
@@ -456,14 +669,18 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 * Expected SQL: {@code "LIMIT ?"}
 	 * <p>
 	 * Expected values list: {@code [1]}
+	 * <p>
+	 * The clause is rendered in the query's dialect, e.g.: {@code "FETCH NEXT ? ROWS ONLY"} in Oracle.
 	 *
 	 * @param number the limit to be added to the LIMIT clause.
 	 * @return the current implementation of {@link LimitStep}.
 	 */
 	@Override
 	public LimitStep<T> limit(Integer number) {
+		this.limitStart = this.sql.length();
+		this.limitValueIndex = this.values.size();
 		this.values.add(number);
-		this.sql.append(LIMIT).append('?');
+		this.sql.append(this.dialect.limit(this.fieldOrders != null));
 		return this;
 	}
 
@@ -478,14 +695,21 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 * Expected SQL: {@code "LIMIT ? OFFSET ?"}
 	 * <p>
 	 * Expected prepared statement parameter list: {@code [1, 3]}
+	 * <p>
+	 * The clause is rendered along with the LIMIT one in the query's dialect, e.g.:
+	 * {@code "OFFSET ? ROWS FETCH NEXT ? ROWS ONLY"} in Oracle, with the offset's value before the limit's one.
 	 *
 	 * @param number the offset to be added to the OFFSET clause.
 	 * @return the current implementation of {@link CombiningOperation}.
 	 */
 	@Override
 	public CombiningOperation<T> offset(Integer number) {
-		this.values.add(number);
-		this.sql.append(OFFSET).append('?');
+		if (this.limitStart < 0) {
+			throw new IllegalStateException("OFFSET clause must follow a LIMIT clause: " + this.sql);
+		}
+		this.values.add(this.dialect.isOffsetFirst() ? this.limitValueIndex : this.values.size(), number);
+		this.sql.setLength(this.limitStart);
+		this.sql.append(this.dialect.limitOffset(this.fieldOrders != null));
 		return this;
 	}
 
@@ -499,8 +723,7 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public UnionStep<T> union(CombinableQuery<T> query) {
-		this.values.addAll(query.getValues());
-		this.sql.append(UNION).append(query);
+		combine(UNION, query);
 		return this;
 	}
 
@@ -514,8 +737,7 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public UnionStep<T> unionAll(CombinableQuery<T> query) {
-		this.values.addAll(query.getValues());
-		this.sql.append(UNION_ALL).append(query);
+		combine(UNION_ALL, query);
 		return this;
 	}
 
@@ -529,8 +751,7 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public UnionStep<T> intersect(CombinableQuery<T> query) {
-		this.values.addAll(query.getValues());
-		this.sql.append(INTERSECT).append(query);
+		combine(INTERSECT, query);
 		return this;
 	}
 
@@ -544,8 +765,7 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public UnionStep<T> intersectAll(CombinableQuery<T> query) {
-		this.values.addAll(query.getValues());
-		this.sql.append(INTERSECT_ALL).append(query);
+		combine(INTERSECT_ALL, query);
 		return this;
 	}
 
@@ -559,8 +779,7 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public UnionStep<T> except(CombinableQuery<T> query) {
-		this.values.addAll(query.getValues());
-		this.sql.append(EXCEPT).append(query);
+		combine(EXCEPT, query);
 		return this;
 	}
 
@@ -574,8 +793,25 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	 */
 	@Override
 	public UnionStep<T> exceptAll(CombinableQuery<T> query) {
-		this.values.addAll(query.getValues());
-		this.sql.append(EXCEPT_ALL).append(query);
+		combine(EXCEPT_ALL, query);
+		return this;
+	}
+
+	/**
+	 * Turns the current query into an existence check, which the database can answer as soon as it finds the first
+	 * matching row instead of counting all of them. This is meant to be the last call on the query.
+	 * <p>
+	 * Example: {@code query.select("1").from(employees).where(employees.age.gt(60)).exists()}
+	 * <p>
+	 * Expected SQL: {@code "SELECT EXISTS (SELECT 1 FROM employees WHERE age > ?)"}
+	 * <p>
+	 * The query results in a single boolean column.
+	 *
+	 * @return the current query as an existence check.
+	 */
+	@Override
+	public PreparedSql exists() {
+		wrap(this.dialect.existsPrefix(), this.dialect.existsSuffix());
 		return this;
 	}
 
@@ -600,7 +836,7 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	public String getSql() {
 		processFieldDefinition(null);
 		validate();
-		return this.sql.toString();
+		return withHints(this.sql.toString());
 	}
 
 	/**
@@ -614,7 +850,153 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 	@Override
 	public String toString() {
 		processFieldDefinition(null);
-		return this.sql.toString();
+		return withHints(this.sql.toString());
+	}
+
+	private String buildSeekCondition(Object[] lastValues, List<Object> seekValues) {
+		for (Object value : lastValues) {
+			if (value == null) {
+				throw new IllegalArgumentException("Keyset values must not be null: " + Arrays.toString(lastValues));
+			}
+		}
+		if (isRowValueSeek()) {
+			StringJoiner fields = new StringJoiner(", ", "(", ")");
+			StringJoiner placeholders = new StringJoiner(", ", "(", ")");
+			for (int i = 0; i < lastValues.length; i++) {
+				fields.add(this.fieldOrders[i].getFieldQualification());
+				placeholders.add("?");
+				seekValues.add(lastValues[i]);
+			}
+			SqlConditionOperator op = isDescending(this.fieldOrders[0]) ? SqlConditionOperator.LT : SqlConditionOperator.GT;
+			return lastValues.length == 1
+						   ? this.fieldOrders[0].getFieldQualification() + op + "?"
+						   : fields.toString() + op + placeholders;
+		}
+		StringJoiner terms = new StringJoiner(SqlConditionOperator.OR.toString());
+		for (int i = 0; i < lastValues.length; i++) {
+			StringJoiner term = new StringJoiner(SqlConditionOperator.AND.toString());
+			for (int j = 0; j < i; j++) {
+				term.add(this.fieldOrders[j].getFieldQualification() + SqlConditionOperator.EQ + "?");
+				seekValues.add(lastValues[j]);
+			}
+			SqlConditionOperator op = isDescending(this.fieldOrders[i]) ? SqlConditionOperator.LT : SqlConditionOperator.GT;
+			term.add(this.fieldOrders[i].getFieldQualification() + op + "?");
+			seekValues.add(lastValues[i]);
+			terms.add(i == 0 ? term.toString() : "(" + term + ")");
+		}
+		return terms.toString();
+	}
+
+	private boolean isRowValueSeek() {
+		if (this.fieldOrders.length > 1 && !this.dialect.supportsRowValueComparison()) {
+			return false;
+		}
+		for (DbFieldOrder fieldOrder : this.fieldOrders) {
+			if (isDescending(fieldOrder) != isDescending(this.fieldOrders[0])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDescending(DbFieldOrder fieldOrder) {
+		return fieldOrder.getOrder() == SqlSortOrder.DESC;
+	}
+
+	/**
+	 * @return the first keyword of the statement being built, or {@code null} if none was added yet.
+	 */
+	SqlKeyword getStatement() {
+		return this.statement;
+	}
+
+	/**
+	 * Appends the first keyword of a statement, marking the position its hints are rendered at.
+	 *
+	 * @param keyword the keyword starting the statement, e.g.: SELECT or INSERT INTO.
+	 */
+	protected void appendStatementKeyword(SqlKeyword keyword) {
+		if (this.hintPosition < 0) {
+			this.hintPosition = this.sql.length() + keyword.toString().indexOf(' ');
+		}
+		this.statement = keyword;
+		this.sql.append(keyword);
+	}
+
+	/**
+	 * @param hints the optimizer hints of the statement, rendered in a hint comment after its first keyword.
+	 */
+	protected void setHints(SqlHint... hints) {
+		this.hints = hints.clone();
+	}
+
+	/**
+	 * Wraps the current query, which becomes a subquery of the given outer query. The hints stay in the wrapped query.
+	 *
+	 * @param prefix the outer query text preceding the current query.
+	 * @param suffix the outer query text following the current query.
+	 */
+	protected void wrap(String prefix, String suffix) {
+		this.sql.insert(0, prefix).append(suffix);
+		if (this.hintPosition >= 0) {
+			this.hintPosition += prefix.length();
+		}
+	}
+
+	/**
+	 * Replaces the statement starting at the given position, e.g.: an INSERT statement turned into a MERGE one.
+	 *
+	 * @param start     the position of the statement's first keyword.
+	 * @param statement the new statement.
+	 */
+	protected void replaceStatement(int start, String statement) {
+		this.sql.replace(start, this.sql.length(), statement);
+		if (this.hintPosition >= start) {
+			this.hintPosition = start + statement.indexOf(' ');
+		}
+	}
+
+	private String withHints(String sql) {
+		if (this.hints.length == 0 || this.hintPosition < 0) {
+			return sql;
+		}
+		List<String> definitions = new ArrayList<>(this.hints.length);
+		for (SqlHint hint : this.hints) {
+			String definition = this.dialect.hint(hint);
+			if (!definition.isEmpty()) {
+				definitions.add(definition);
+			}
+		}
+		if (definitions.isEmpty()) {
+			return sql;
+		}
+		return sql.substring(0, this.hintPosition) + this.dialect.hintComment(definitions) + sql.substring(this.hintPosition);
+	}
+
+	private void combine(SqlKeyword operator, CombinableQuery<T> query) {
+		checkDialect(query);
+		this.values.addAll(query.getValues());
+		this.sql.append(this.dialect.token(operator)).append(query);
+		this.combined = true;
+	}
+
+	/**
+	 * Rejects a query built in another dialect, as the clauses it already rendered, e.g.: its LIMIT clause, would not
+	 * match the dialect of this query.
+	 *
+	 * @param part a table, field or query to be rendered in this query.
+	 */
+	protected void checkDialect(Object part) {
+		if (part instanceof BaseSqlBuilder<?> builder && !(part instanceof SqlValuesTableBuilder<?>)
+					&& builder.dialect != this.dialect) {
+			throw new IllegalArgumentException("A query built in the " + builder.dialect + " dialect can't be rendered in "
+													   + "a query built in the " + this.dialect + " dialect");
+		}
+	}
+
+	protected void markFilterEnd() {
+		this.filterEnd = this.sql.length();
+		this.filterValuesEnd = this.values.size();
 	}
 
 	protected void validate() {
@@ -633,11 +1015,13 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 		StringJoiner clause = new StringJoiner(", ");
 		for (int i = 0; i < fields.length; i++) {
 			if (fields[i] instanceof SqlScalarSubquery<?> subquery) {
+				checkDialect(subquery);
 				this.values.addAll(subquery.getValues());
 			}
 			this.selectedFields.add(fields[i]);
 			clause.add("${" + i + "}");
 		}
+		addReferencedTables(List.of(fields), this.referencedTables);
 		return clause.toString();
 	}
 
@@ -645,9 +1029,12 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 		if (tableLike instanceof SqlSubquery subquery) {
 			this.values.addAll(subquery.getValues());
 		}
+		if (tableLike instanceof BaseSqlBuilder<?> subquery) {
+			this.referencedTables.addAll(subquery.referencedTables);
+		}
 		StringTemplateFormatter formatter = new StringTemplateFormatter();
 		for (int i = 0; i < this.selectedFields.size(); i++) {
-			if (this.selectedFields.get(i).getTableLike() == tableLike) {
+			if (isDefinedIn(this.selectedFields.get(i).getTableLike(), tableLike)) {
 				formatter.put(Integer.toString(i), this.selectedFields.get(i).getDefinition());
 			}
 		}
@@ -656,4 +1043,51 @@ abstract class BaseSqlBuilder<T> implements SelectStatement<T>, SelectQuerySteps
 		this.sql.append(formattedSql);
 	}
 
+	/**
+	 * @return the tables and views whose fields are referenced by the selected and grouped fields, the conditions and
+	 * the subqueries of this query, correlated subqueries included.
+	 */
+	List<DbTableLike> getReferencedTables() {
+		return this.referencedTables;
+	}
+
+	/**
+	 * Rejects the subqueries of the condition built in another dialect and the array comparisons the dialect can't
+	 * render, and records the tables the condition references.
+	 */
+	private void reference(SqlCondition condition) {
+		if (!this.dialect.supportsArrayComparison()) {
+			for (Object value : condition.getComparedValues()) {
+				if (value instanceof SqlArrayValue<?>) {
+					throw new IllegalArgumentException("Array comparisons can't be rendered in the " + this.dialect
+															   + " dialect: " + condition);
+				}
+			}
+		}
+		List<DbComparableField<?>> fields = condition.getReferencedFields();
+		fields.forEach(this::checkDialect);
+		addReferencedTables(fields, this.referencedTables);
+	}
+
+	/**
+	 * Adds the tables of the given fields to the list, or the tables referenced by the subquery of a field.
+	 */
+	static void addReferencedTables(List<? extends DbFieldLike> fields, List<DbTableLike> tables) {
+		for (DbFieldLike field : fields) {
+			if (field instanceof BaseSqlBuilder<?> subquery) {
+				tables.addAll(subquery.referencedTables);
+			} else {
+				tables.add(field.getTableLike());
+			}
+		}
+	}
+
+	private static boolean isDefinedIn(DbTableLike fieldTable, DbTableLike tableLike) {
+		if (fieldTable == tableLike) {
+			return true;
+		}
+		return tableLike instanceof DbTableView view
+					   && (view.equals(fieldTable) || StringUtil.isBlank(view.getAlias()) && view.getTable() == fieldTable);
+	}
+
 }
\ No newline at end of file
@@ -1,17 +1,30 @@
 package com.github.hyansts.preparedsqlbuilder.query.impl;
 
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.github.hyansts.preparedsqlbuilder.query.SqlBatchQuery;
+import com.github.hyansts.preparedsqlbuilder.query.SqlBulkLoadWriter;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlDialect;
 
 class SqlBatchBuilder implements SqlBatchQuery {
 
 	private final String sql;
+	private final SqlDialect dialect;
+	private final String table;
+	private final List<String> columns;
 	private final List<Object[]> valuesBatch = new ArrayList<>();
 
 	SqlBatchBuilder(String sql) {
+		this(sql, null, null, null);
+	}
+
+	SqlBatchBuilder(String sql, SqlDialect dialect, String table, List<String> columns) {
 		this.sql = sql;
+		this.dialect = dialect;
+		this.table = table;
+		this.columns = columns == null ? null : List.copyOf(columns);
 	}
 
 	@Override
@@ -30,9 +43,28 @@ class SqlBatchBuilder implements SqlBatchQuery {
 		return this.sql;
 	}
 
+	@Override
+	public List<String> getColumns() {
+		if (this.columns == null) {
+			return SqlBatchQuery.super.getColumns();
+		}
+		return this.columns;
+	}
+
+	@Override
+	public String getLoadSql() {
+		return this.dialect.bulkLoad(this.table, getColumns());
+	}
+
+	@Override
+	public SqlBulkLoadWriter bulkLoad(Writer writer) {
+		SqlBulkLoadWriter loadWriter = new SqlCsvBulkLoadWriter(writer, getColumns());
+		return this.dialect.isBulkLoadedWithLoadData() ? loadWriter.forLoadData() : loadWriter;
+	}
+
 	@Override
 	public String toString() {
 		return getSql();
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.github.hyansts.preparedsqlbuilder.query.impl;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbComparableField;
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+import com.github.hyansts.preparedsqlbuilder.query.SqlCommonTable;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlDialect;
+import com.github.hyansts.preparedsqlbuilder.sql.StandardSqlDialect;
+import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
+
+import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.TABLE_AS;
+
+/**
+ * A reference to a common table expression, defined in a WITH clause and referenced by its name in the rest of the
+ * query, including its own definition when it's recursive.
+ */
+class SqlCommonTableReference implements SqlCommonTable {
+
+	private final String name;
+	private String alias;
+
+	SqlCommonTableReference(String name) {
+		if (StringUtil.isBlank(name)) {
+			throw new IllegalArgumentException("Common table expression must have a name");
+		}
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public String getAlias() {
+		return this.alias;
+	}
+
+	@Override
+	public String getDefinition() {
+		return getDefinition(StandardSqlDialect.GENERIC);
+	}
+
+	@Override
+	public String getDefinition(SqlDialect dialect) {
+		return StringUtil.isBlank(this.alias) ? this.name : this.name + dialect.token(TABLE_AS) + this.alias;
+	}
+
+	@Override
+	public DbTableLike as(String alias) {
+		this.alias = alias;
+		return this;
+	}
+
+	/**
+	 * Maps a field selected in the common table expression to a column of this table. If the field was selected with
+	 * an alias, the column is referenced by that alias.
+	 *
+	 * @param field the field selected in the common table expression.
+	 * @param <T>   the type of the field.
+	 * @return the column of this table.
+	 */
+	@Override
+	public <T> DbComparableField<T> getField(DbComparableField<T> field) {
+		return field.mapTo(this);
+	}
+
+	@Override
+	public String toString() {
+		return this.name;
+	}
+
+}
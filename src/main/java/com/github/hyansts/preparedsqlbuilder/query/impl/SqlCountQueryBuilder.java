@@ -0,0 +1,265 @@
+package com.github.hyansts.preparedsqlbuilder.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbComparableField;
+import com.github.hyansts.preparedsqlbuilder.db.DbField;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldLike;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldOrder;
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbFieldMapping;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableView;
+import com.github.hyansts.preparedsqlbuilder.db.impl.MappedDbTable;
+import com.github.hyansts.preparedsqlbuilder.query.CombinableQuery;
+import com.github.hyansts.preparedsqlbuilder.query.CombiningOperation;
+import com.github.hyansts.preparedsqlbuilder.query.GroupByStep;
+import com.github.hyansts.preparedsqlbuilder.query.HavingStep;
+import com.github.hyansts.preparedsqlbuilder.query.LimitStep;
+import com.github.hyansts.preparedsqlbuilder.query.OrderByStep;
+import com.github.hyansts.preparedsqlbuilder.query.SeekStep;
+import com.github.hyansts.preparedsqlbuilder.query.SelectStep;
+import com.github.hyansts.preparedsqlbuilder.query.SqlQuery;
+import com.github.hyansts.preparedsqlbuilder.query.UnionStep;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlAggregator;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlDialect;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlKeysetCursor;
+import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
+
+import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.*;
+
+/**
+ * A SQL query builder that derives the count form of the SELECT query built through it, so the same code that builds
+ * a page of a listing also builds the query counting all of its rows.
+ * <p>
+ * The select list is collapsed to {@code COUNT(*)}, and the ORDER BY, keyset pagination, LIMIT and OFFSET clauses are
+ * left out. LEFT JOINs to mapped tables on a {@code primary_key = field} condition are left out as well, unless the
+ * fields of the joined view are referenced in the rest of the query, subqueries included, since they can't change the
+ * number of rows. Grouped and DISTINCT queries are counted from a
+ * derived table: {@code "SELECT COUNT(*) FROM (SELECT 1 FROM ... GROUP BY ...) AS count_query"}.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * DbTableView e = employees.as("e");
+ * DbTableView d = department.as("d");
+ * query.select(e.getField(employees.name), d.getField(department.title))
+ *      .from(e)
+ *      .leftJoin(d).on(e.getField(employees.department_id).eq(d.getField(department.id)))
+ *      .where(e.getField(employees.age).gt(18))
+ *      .orderBy(e.getField(employees.name).asc())
+ *      .limit(20)}
+ * </pre>
+ * Expected SQL: {@code "SELECT COUNT(*) FROM employees AS e WHERE e.age > ?"}
+ */
+class SqlCountQueryBuilder extends SqlQueryBuilder {
+
+	private static final String COUNT_ALL = SqlAggregator.COUNT.applyTo("*");
+
+	private record PrunableJoin(int position, DbTableView table, String definition, SqlCondition condition) { }
+
+	private final List<PrunableJoin> prunableJoins = new ArrayList<>();
+	private DbTableView pendingJoin;
+	private int countPosition = -1;
+	private boolean distinct;
+	private boolean grouped;
+	private boolean finished;
+
+	SqlCountQueryBuilder() { }
+
+	SqlCountQueryBuilder(SqlDialect dialect) {
+		super(dialect);
+	}
+
+	@Override
+	public SelectStep<SqlQuery> select(DbFieldLike... fields) {
+		return selectCountAll();
+	}
+
+	@Override
+	public SelectStep<SqlQuery> select(String expression, DbFieldLike... fields) {
+		return selectCountAll();
+	}
+
+	@Override
+	public SelectStep<SqlQuery> selectCount(DbField<?> field) {
+		return selectCountAll();
+	}
+
+	@Override
+	public SelectStep<SqlQuery> selectCount() {
+		return selectCountAll();
+	}
+
+	@Override
+	public SelectStep<SqlQuery> selectDistinct(DbFieldLike... fields) {
+		this.distinct = true;
+		return super.selectDistinct(fields);
+	}
+
+	@Override
+	public SelectStep<SqlQuery> selectDistinct(String expression, DbFieldLike... fields) {
+		this.distinct = true;
+		return super.selectDistinct(expression, fields);
+	}
+
+	@Override
+	public SqlQueryBuilder leftJoin(DbTableLike table) {
+		if (!this.distinct && table instanceof DbTableView view && view.getTable() instanceof MappedDbTable<?, ?, ?>
+					&& !StringUtil.isBlank(view.getAlias())) {
+			this.pendingJoin = view;
+			return this;
+		}
+		return super.leftJoin(table);
+	}
+
+	@Override
+	public SqlQueryBuilder on(SqlCondition condition) {
+		DbTableView table = this.pendingJoin;
+		if (table == null) {
+			return super.on(condition);
+		}
+		this.pendingJoin = null;
+		if (isPrimaryKeyCondition(table, condition)) {
+			this.prunableJoins.add(new PrunableJoin(this.sql.length(), table,
+													LEFT_JOIN + table.getDefinition(this.dialect) + ON + condition,
+													condition));
+			return this;
+		}
+		super.leftJoin(table);
+		return super.on(condition);
+	}
+
+	@Override
+	public GroupByStep<SqlQuery> groupBy(DbField<?>... fields) {
+		this.grouped = true;
+		return super.groupBy(fields);
+	}
+
+	@Override
+	public HavingStep<SqlQuery> having(SqlCondition condition) {
+		this.grouped = true;
+		return super.having(condition);
+	}
+
+	@Override
+	public OrderByStep<SqlQuery> orderBy(DbFieldOrder... fieldOrders) {
+		return this;
+	}
+
+	@Override
+	public SeekStep<SqlQuery> seekAfter(SqlKeysetCursor cursor) {
+		return this;
+	}
+
+	@Override
+	public SeekStep<SqlQuery> seekAfter(Object... lastValues) {
+		return this;
+	}
+
+	@Override
+	public LimitStep<SqlQuery> limit(Integer number) {
+		return this;
+	}
+
+	@Override
+	public CombiningOperation<SqlQuery> offset(Integer number) {
+		return this;
+	}
+
+	@Override
+	public UnionStep<SqlQuery> union(CombinableQuery<SqlQuery> query) {
+		throw combinedQueryException();
+	}
+
+	@Override
+	public UnionStep<SqlQuery> unionAll(CombinableQuery<SqlQuery> query) {
+		throw combinedQueryException();
+	}
+
+	@Override
+	public UnionStep<SqlQuery> intersect(CombinableQuery<SqlQuery> query) {
+		throw combinedQueryException();
+	}
+
+	@Override
+	public UnionStep<SqlQuery> intersectAll(CombinableQuery<SqlQuery> query) {
+		throw combinedQueryException();
+	}
+
+	@Override
+	public UnionStep<SqlQuery> except(CombinableQuery<SqlQuery> query) {
+		throw combinedQueryException();
+	}
+
+	@Override
+	public UnionStep<SqlQuery> exceptAll(CombinableQuery<SqlQuery> query) {
+		throw combinedQueryException();
+	}
+
+	@Override
+	public String getSql() {
+		finish();
+		return super.getSql();
+	}
+
+	@Override
+	public String toString() {
+		finish();
+		return super.toString();
+	}
+
+	private SelectStep<SqlQuery> selectCountAll() {
+		appendStatementKeyword(SELECT);
+		this.countPosition = this.sql.length();
+		this.sql.append(COUNT_ALL);
+		return this;
+	}
+
+	/**
+	 * Puts back the pruned joins referenced by the rest of the query, from the last to the first one so a join only
+	 * referenced by a pruned join is pruned as well, and wraps grouped and DISTINCT queries in a derived table.
+	 */
+	private void finish() {
+		if (this.finished) {
+			return;
+		}
+		this.finished = true;
+		List<DbTableLike> referencedTables = new ArrayList<>(getReferencedTables());
+		for (int i = this.prunableJoins.size() - 1; i >= 0; i--) {
+			PrunableJoin join = this.prunableJoins.get(i);
+			if (referencedTables.contains(join.table)) {
+				this.sql.insert(join.position, join.definition);
+				addReferencedTables(join.condition.getReferencedFields(), referencedTables);
+			}
+		}
+		if (this.grouped && !this.distinct && this.countPosition >= 0) {
+			this.sql.replace(this.countPosition, this.countPosition + COUNT_ALL.length(), "1");
+		}
+		if (this.grouped || this.distinct) {
+			wrap(SELECT + COUNT_ALL + FROM + "(", ")" + this.dialect.token(TABLE_AS) + "count_query");
+		}
+	}
+
+	private static boolean isPrimaryKeyCondition(DbTableView table, SqlCondition condition) {
+		DbFieldMapping<?> fieldMapping = ((MappedDbTable<?, ?, ?>) table.getTable()).getMapping().getFieldMapping();
+		List<DbTableField<?>> nonPrimaryKeyFields = fieldMapping.getNonPrimaryKeyFields();
+		List<DbTableField<?>> primaryKeyFields = fieldMapping.getFields()
+															 .stream()
+															 .filter(field -> !nonPrimaryKeyFields.contains(field))
+															 .toList();
+		if (primaryKeyFields.size() != 1 || !condition.getComparedValues().isEmpty()) {
+			return false;
+		}
+		DbTableField<?> primaryKey = table.getField(primaryKeyFields.getFirst());
+		List<DbComparableField<?>> fields = condition.getEquatedFields();
+		int primaryKeyIndex = fields.indexOf(primaryKey);
+		return primaryKeyIndex >= 0 && !table.equals(fields.get(1 - primaryKeyIndex).getTableLike());
+	}
+
+	private static IllegalStateException combinedQueryException() {
+		return new IllegalStateException("Count queries can't be combined with other queries");
+	}
+
+}
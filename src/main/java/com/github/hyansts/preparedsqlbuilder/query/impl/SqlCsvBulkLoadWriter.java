@@ -0,0 +1,111 @@
+package com.github.hyansts.preparedsqlbuilder.query.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.HexFormat;
+import java.util.List;
+
+import com.github.hyansts.preparedsqlbuilder.query.SqlBulkLoadWriter;
+
+/**
+ * Writes the rows of a batch insert as CSV to a {@link Writer}, in the formats described by {@link SqlBulkLoadWriter}.
+ */
+class SqlCsvBulkLoadWriter implements SqlBulkLoadWriter {
+
+	private static final HexFormat HEX = HexFormat.of();
+
+	private final Writer writer;
+	private final List<String> columns;
+	private String nullMarker = "";
+	private boolean loadData;
+	private long rowCount;
+
+	SqlCsvBulkLoadWriter(Writer writer, List<String> columns) {
+		this.writer = writer;
+		this.columns = columns;
+	}
+
+	@Override
+	public SqlBulkLoadWriter nullAs(String nullMarker) {
+		this.nullMarker = nullMarker;
+		return this;
+	}
+
+	@Override
+	public SqlBulkLoadWriter forLoadData() {
+		this.loadData = true;
+		return nullAs("NULL");
+	}
+
+	@Override
+	public SqlBulkLoadWriter writeRow(Object... values) throws IOException {
+		if (values.length != this.columns.size()) {
+			throw new IllegalArgumentException("Expected " + this.columns.size() + " values for the columns "
+													   + this.columns + " but got: " + values.length);
+		}
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				this.writer.write(',');
+			}
+			writeValue(values[i]);
+		}
+		this.writer.write('\n');
+		this.rowCount++;
+		return this;
+	}
+
+	@Override
+	public List<String> getColumns() { return columns; }
+
+	@Override
+	public long getRowCount() { return rowCount; }
+
+	@Override
+	public void flush() throws IOException {
+		this.writer.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.writer.close();
+	}
+
+	private void writeValue(Object value) throws IOException {
+		if (value == null) {
+			this.writer.write(this.nullMarker);
+			return;
+		}
+		String text = switch (value) {
+			case BigDecimal decimal -> decimal.toPlainString();
+			case byte[] bytes -> {
+				if (this.loadData) {
+					throw new IllegalArgumentException("Byte arrays can't be bulk loaded with LOAD DATA");
+				}
+				yield "\\x" + HEX.formatHex(bytes);
+			}
+			default -> value.toString();
+		};
+		if (!requiresQuotes(text)) {
+			this.writer.write(text);
+			return;
+		}
+		this.writer.write('"');
+		this.writer.write(text.replace("\"", "\"\""));
+		this.writer.write('"');
+	}
+
+	private boolean requiresQuotes(String text) {
+		if (text.isEmpty() || text.equals(this.nullMarker) || text.equals("\\.")) {
+			return true;
+		}
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
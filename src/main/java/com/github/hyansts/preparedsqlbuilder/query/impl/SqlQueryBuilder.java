@@ -1,21 +1,38 @@
 package com.github.hyansts.preparedsqlbuilder.query.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.StringJoiner;
 import java.util.function.Consumer;
 
+import com.github.hyansts.preparedsqlbuilder.db.DbField;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldLike;
 import com.github.hyansts.preparedsqlbuilder.db.DbFieldValue;
 import com.github.hyansts.preparedsqlbuilder.db.DbTable;
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+import com.github.hyansts.preparedsqlbuilder.query.ConflictStep;
 import com.github.hyansts.preparedsqlbuilder.query.DeleteStatement;
 import com.github.hyansts.preparedsqlbuilder.query.DeleteStep;
 import com.github.hyansts.preparedsqlbuilder.query.InsertStatement;
 import com.github.hyansts.preparedsqlbuilder.query.InsertStep;
+import com.github.hyansts.preparedsqlbuilder.query.ModifyingFromStep;
+import com.github.hyansts.preparedsqlbuilder.query.ModifyingJoinStep;
 import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
 import com.github.hyansts.preparedsqlbuilder.query.SetStep;
 import com.github.hyansts.preparedsqlbuilder.query.SqlBatchQuery;
+import com.github.hyansts.preparedsqlbuilder.query.SqlCommonTable;
+import com.github.hyansts.preparedsqlbuilder.query.SelectStatement;
 import com.github.hyansts.preparedsqlbuilder.query.SqlQuery;
+import com.github.hyansts.preparedsqlbuilder.query.SqlScalarSubquery;
+import com.github.hyansts.preparedsqlbuilder.query.SqlSubquery;
 import com.github.hyansts.preparedsqlbuilder.query.UpdateQuerySteps;
 import com.github.hyansts.preparedsqlbuilder.query.UpdateStatement;
 import com.github.hyansts.preparedsqlbuilder.query.UpdateStep;
+import com.github.hyansts.preparedsqlbuilder.query.ValuesStep;
+import com.github.hyansts.preparedsqlbuilder.query.WithStep;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlDialect;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlHint;
 
 import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.*;
 
@@ -31,7 +48,124 @@ import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.*;
  * <p>
  * The generated SQL query can be retrieved as a string using the {@link #getSql()} method.
  */
-class SqlQueryBuilder extends BaseSqlBuilder<SqlQuery> implements SqlQuery, UpdateQuerySteps, DeleteStep, InsertStep {
+class SqlQueryBuilder extends BaseSqlBuilder<SqlQuery> implements SqlQuery, UpdateQuerySteps, DeleteStep, InsertStep,
+																  ValuesStep, ConflictStep, WithStep, ModifyingFromStep,
+																  ModifyingJoinStep {
+
+	private int withEnd = -1;
+	private boolean recursive;
+	private List<String> insertedFields;
+	private boolean setClause;
+	private int insertStart = -1;
+	private String insertTable;
+	private int insertedRows;
+	private List<String> conflictFields = List.of();
+
+	SqlQueryBuilder() { }
+
+	SqlQueryBuilder(SqlDialect dialect) {
+		super(dialect);
+	}
+
+	/**
+	 * Sets the optimizer hints of the statement, rendered in a hint comment right after its first keyword. It can be
+	 * called at any point while building the statement, calling it again replaces the previous hints.
+	 * <p>
+	 * Example: <pre>{@code
+	 * query.hint(SqlHint.leading(e, d), SqlHint.parallel(4))
+	 *      .select(e.getField(employees.name), d.getField(department.title))
+	 *      .from(e)
+	 *      .innerJoin(d).on(e.getField(employees.department_id).eq(d.getField(department.id)))}</pre>
+	 * <p>
+	 * Expected SQL:
+	 * <pre>SELECT /*+ LEADING(e d) PARALLEL(4) *&#47; e.name, d.title FROM employees AS e INNER JOIN department AS d ON e.department_id = d.id</pre>
+	 *
+	 * @param hints the hints of the statement, none to remove the current ones.
+	 * @return the current query.
+	 */
+	@Override
+	public SqlQuery hint(SqlHint... hints) {
+		setHints(hints);
+		return this;
+	}
+
+	/**
+	 * Adds a common table expression to the WITH clause of the SQL query. It can be called again to define more common
+	 * table expressions, the following ones can reference the previous ones.
+	 * <p>
+	 * The common table expression is referenced in the rest of the query by the given table, and its columns by the
+	 * fields mapped with {@link SqlCommonTable#getField}. The values of the subquery are added to the prepared
+	 * statement's values list before the values of the rest of the query.
+	 * <p>
+	 * Example: <pre>{@code
+	 * SqlCommonTable adults = SqlQueryFactory.createCommonTable("adults");
+	 *
+	 * query.with(adults, subquery.select(employees.id, employees.name).from(employees).where(employees.age.ge(18)).getQuery())
+	 *      .select(adults.getField(employees.name))
+	 *      .from(adults)}</pre>
+	 * <p>
+	 * Expected SQL: {@code "WITH adults AS (SELECT id, name FROM employees WHERE age >= ?) SELECT name FROM adults"}
+	 *
+	 * @param table the reference to the common table expression.
+	 * @param query the subquery defining the common table expression.
+	 * @return the current implementation of {@link WithStep}.
+	 */
+	@Override
+	public WithStep with(SqlCommonTable table, SqlSubquery query) {
+		return appendCommonTable(table, query, false);
+	}
+
+	/**
+	 * Adds a recursive common table expression to the WITH clause of the SQL query, turning it into a WITH RECURSIVE
+	 * clause. The subquery is usually a non-recursive term combined by UNION or UNION ALL with a recursive term joining
+	 * the common table expression itself, which lets a whole hierarchy be traversed in a single query.
+	 * <p>
+	 * Example: <pre>{@code
+	 * SqlCommonTable chain = SqlQueryFactory.createCommonTable("chain");
+	 *
+	 * anchor.select(employees.id, employees.manager_id).from(employees).where(employees.id.eq(7))
+	 *       .unionAll(step.select(e.getField(employees.id), e.getField(employees.manager_id))
+	 *                     .from(e)
+	 *                     .innerJoin(chain.as("c")).on(e.getField(employees.id).eq(chain.getField(employees.manager_id)))
+	 *                     .getQuery());
+	 *
+	 * query.withRecursive(chain, anchor).select().from(chain)}</pre>
+	 * <p>
+	 * Expected SQL: <pre>{@code
+	 * WITH RECURSIVE chain AS (SELECT id, manager_id FROM employees WHERE id = ?
+	 *                          UNION ALL
+	 *                          SELECT e.id, e.manager_id FROM employees AS e INNER JOIN chain AS c ON e.id = c.manager_id)
+	 * SELECT * FROM chain AS c}</pre>
+	 *
+	 * @param table the reference to the common table expression.
+	 * @param query the subquery defining the common table expression.
+	 * @return the current implementation of {@link WithStep}.
+	 */
+	@Override
+	public WithStep withRecursive(SqlCommonTable table, SqlSubquery query) {
+		return appendCommonTable(table, query, true);
+	}
+
+	private WithStep appendCommonTable(SqlCommonTable table, SqlSubquery query, boolean recursive) {
+		checkDialect(query);
+		if (this.withEnd < 0) {
+			if (!this.sql.isEmpty()) {
+				throw new IllegalStateException("WITH clause must be defined at the beginning of the query: " + this.sql);
+			}
+			this.sql.append(WITH);
+			this.withEnd = this.sql.length();
+		} else {
+			this.sql.setLength(this.sql.length() - 1);
+			this.sql.append(", ");
+		}
+		if (recursive && !this.recursive) {
+			this.sql.insert(this.withEnd, RECURSIVE);
+			this.recursive = true;
+		}
+		this.sql.append(table.getName()).append(AS).append(query.getSql()).append(' ');
+		this.values.addAll(query.getValues());
+		return this;
+	}
 
 	/**
 	 * Adds a UPDATE clause to the SQL query.
@@ -41,13 +175,17 @@ class SqlQueryBuilder extends BaseSqlBuilder<SqlQuery> implements SqlQuery, Upda
 	 * Example: {@code query.update(employees))}
 	 * <p>
 	 * Expected SQL: {@code "UPDATE employees"}
+	 * <p>
+	 * If the passed table has an alias, the alias definition is appended to the table name, so the table can be told
+	 * apart from the ones added with {@link #from(DbTableLike)}.
 	 *
 	 * @param table the table to be added to the UPDATE clause.
 	 * @return the current implementation of {@link UpdateStep}.
 	 */
 	@Override
 	public UpdateStep update(DbTable table) {
-		this.sql.append(UPDATE).append(table.getFullTableName());
+		appendStatementKeyword(UPDATE);
+		this.sql.append(table.getDefinition(this.dialect));
 		return this;
 	}
 
@@ -65,6 +203,8 @@ class SqlQueryBuilder extends BaseSqlBuilder<SqlQuery> implements SqlQuery, Upda
 	 * Expected SQL: {@code "UPDATE employees SET name = ?, age = ?"}
 	 * <p>
 	 * Expected values list: {@code ["John", 30]}
+	 * <p>
+	 * Calling this method again adds the fields to the same SET clause.
 	 *
 	 * @param fields the fields to be added to the SET clause.
 	 * @return the current implementation of {@link SetStep}.
@@ -80,7 +220,88 @@ class SqlQueryBuilder extends BaseSqlBuilder<SqlQuery> implements SqlQuery, Upda
 			this.values.add(field.getValue());
 			joinedFields.add(sb);
 		}
-		this.sql.append(SET).append(joinedFields);
+		appendSetClause(joinedFields.toString());
+		return this;
+	}
+
+	/**
+	 * Adds a field to the SET clause of the SQL query, assigning it the value of another field or of a scalar subquery.
+	 * This is meant to be used only after an UPDATE clause, usually along with {@link #from(DbTableLike)}.
+	 * <p>
+	 * Example: <pre>{@code
+	 * query.update(e)
+	 *      .set(e.getField(employees.department_name), d.getField(department.title))
+	 *      .from(d)
+	 *      .where(e.getField(employees.department_id).eq(d.getField(department.id)))}</pre>
+	 * <p>
+	 * Expected SQL: {@code "UPDATE employees AS e SET department_name = d.title FROM department AS d WHERE e.department_id = d.id"}
+	 * <p>
+	 * The source field is qualified when this method is called, so it must already be bound to the aliased view of its
+	 * table.
+	 *
+	 * @param field  the field to be updated.
+	 * @param source the field or scalar subquery holding the new value.
+	 * @return the current implementation of {@link SetStep}.
+	 */
+	@Override
+	public SetStep set(DbField<?> field, DbFieldLike source) {
+		if (source instanceof SqlScalarSubquery<?> subquery) {
+			this.values.addAll(subquery.getValues());
+		}
+		appendSetClause(field.getFieldName() + " = " + source.getFullQualification());
+		return this;
+	}
+
+	private void appendSetClause(String assignments) {
+		this.sql.append(this.setClause ? ", " : SET).append(assignments);
+		this.setClause = true;
+	}
+
+	/**
+	 * Adds a FROM clause to an UPDATE statement, as supported by PostgreSQL and SQLite, so the rows are updated
+	 * from the matching rows of other tables instead of being read and written back one by one. The other tables are
+	 * joined with the updated one in the WHERE clause, and more tables can be joined to them.
+	 * <p>
+	 * Example: <pre>{@code
+	 * query.update(e)
+	 *      .set(employees.is_active.value(false))
+	 *      .from(d)
+	 *      .where(e.getField(employees.department_id).eq(d.getField(department.id))
+	 *              .and(d.getField(department.closed).eq(true)))}</pre>
+	 * <p>
+	 * Expected SQL: {@code "UPDATE employees AS e SET is_active = ? FROM department AS d WHERE e.department_id = d.id AND d.closed = ?"}
+	 * <p>
+	 * The same builder is used for the FROM clause of SELECT statements.
+	 *
+	 * @param table the table to be added to the FROM clause.
+	 * @return the current implementation of {@link ModifyingFromStep}.
+	 * @throws IllegalArgumentException if the statement is an UPDATE and the dialect doesn't
+	 *                                  {@link SqlDialect#supportsUpdateFrom() support} its FROM clause.
+	 */
+	@Override
+	public SqlQueryBuilder from(DbTableLike table) {
+		if (getStatement() == UPDATE && !this.dialect.supportsUpdateFrom()) {
+			throw new IllegalArgumentException("UPDATE ... FROM can't be rendered in the " + this.dialect + " dialect");
+		}
+		super.from(table);
+		return this;
+	}
+
+	@Override
+	public SqlQueryBuilder innerJoin(DbTableLike table) {
+		super.innerJoin(table);
+		return this;
+	}
+
+	@Override
+	public SqlQueryBuilder leftJoin(DbTableLike table) {
+		super.leftJoin(table);
+		return this;
+	}
+
+	@Override
+	public SqlQueryBuilder on(SqlCondition condition) {
+		super.on(condition);
 		return this;
 	}
 
@@ -92,13 +313,47 @@ class SqlQueryBuilder extends BaseSqlBuilder<SqlQuery> implements SqlQuery, Upda
 	 * Example: {@code query.deleteFrom(employees)}
 	 * <p>
 	 * Expected SQL: {@code "DELETE FROM employees"}
+	 * <p>
+	 * If the passed table has an alias, the alias definition is appended to the table name.
 	 *
 	 * @param table the table to be added to the DELETE clause.
 	 * @return the current implementation of {@link DeleteStep}.
 	 */
 	@Override
 	public DeleteStep deleteFrom(DbTable table) {
-		this.sql.append(DELETE_FROM).append(table.getFullTableName());
+		appendStatementKeyword(DELETE_FROM);
+		this.sql.append(table.getDefinition(this.dialect));
+		return this;
+	}
+
+	/**
+	 * Adds a USING clause to a DELETE statement, as supported by PostgreSQL, so the rows are deleted according to the
+	 * matching rows of other tables. The other tables are joined with the deleted one in the WHERE clause, and more
+	 * tables can be joined to them.
+	 * <p>
+	 * Example: <pre>{@code
+	 * query.deleteFrom(e)
+	 *      .using(d)
+	 *      .where(e.getField(employees.department_id).eq(d.getField(department.id))
+	 *              .and(d.getField(department.closed).eq(true)))}</pre>
+	 * <p>
+	 * Expected SQL: {@code "DELETE FROM employees AS e USING department AS d WHERE e.department_id = d.id AND d.closed = ?"}
+	 *
+	 * @param table the table to be added to the USING clause.
+	 * @return the current implementation of {@link ModifyingFromStep}.
+	 * @throws IllegalArgumentException if the dialect doesn't {@link SqlDialect#supportsDeleteUsing() support} the
+	 *                                  USING clause.
+	 */
+	@Override
+	public ModifyingFromStep using(DbTableLike table) {
+		if (!this.dialect.supportsDeleteUsing()) {
+			throw new IllegalArgumentException("DELETE ... USING can't be rendered in the " + this.dialect
+													   + " dialect");
+		}
+		checkDialect(table);
+		this.sql.append(USING).append(table.getDefinition(this.dialect));
+		processFieldDefinition(table);
+		markFilterEnd();
 		return this;
 	}
 
@@ -116,7 +371,37 @@ class SqlQueryBuilder extends BaseSqlBuilder<SqlQuery> implements SqlQuery, Upda
 	 */
 	@Override
 	public InsertStep insertInto(DbTable table) {
-		this.sql.append(INSERT_INTO).append(table.getFullTableName()).append(' ');
+		this.insertStart = this.sql.length();
+		this.insertTable = table.getFullTableName();
+		appendStatementKeyword(INSERT_INTO);
+		this.sql.append(table.getFullTableName()).append(' ');
+		return this;
+	}
+
+	/**
+	 * Adds an INSERT INTO clause with the given fields to the SQL query, to be followed by the SELECT statement whose
+	 * rows are inserted, so they are copied without leaving the database.
+	 * <p>
+	 * Example: <pre>{@code
+	 * query.insertInto(archive, archive.id, archive.name)
+	 *      .select(employees.id, employees.name)
+	 *      .from(employees)
+	 *      .where(employees.is_active.eq(false))}</pre>
+	 * <p>
+	 * Expected SQL: {@code "INSERT INTO archive (id, name) SELECT id, name FROM employees WHERE is_active = ?"}
+	 *
+	 * @param table  the table to be added to the INSERT clause.
+	 * @param fields the fields to be inserted, in the order they are selected.
+	 * @return the current implementation of {@link SelectStatement}.
+	 */
+	@Override
+	public SelectStatement<SqlQuery> insertInto(DbTable table, DbField<?>... fields) {
+		StringJoiner joinedFields = new StringJoiner(", ", "(", ")");
+		for (var field : fields) {
+			joinedFields.add(field.getFieldName());
+		}
+		appendStatementKeyword(INSERT_INTO);
+		this.sql.append(table.getFullTableName()).append(' ').append(joinedFields).append(' ');
 		return this;
 	}
 
@@ -137,22 +422,131 @@ class SqlQueryBuilder extends BaseSqlBuilder<SqlQuery> implements SqlQuery, Upda
 	 * Expected SQL: {@code "INSERT INTO employees (name, age) VALUES (?, ?)"}
 	 * <p>
 	 * Expected values list: {@code ["John", 30]}
+	 * <p>
+	 * Calling this method again adds another row to the same statement, so many rows are inserted in a single round
+	 * trip. Every row must have the same fields, in the same order, as the first one.
+	 * <p>
+	 * Example: <pre>{@code
+	 * query.insertInto(employees)
+	 *      .values(employees.name.value("John"), employees.age.value(30))
+	 *      .values(employees.name.value("Jane"), employees.age.value(25))}</pre>
+	 * <p>
+	 * Expected SQL: {@code "INSERT INTO employees (name, age) VALUES (?, ?), (?, ?)"}
+	 * <p>
+	 * Expected values list: {@code ["John", 30, "Jane", 25]}
 	 *
 	 * @param fields the fields to be added to the VALUES clause.
-	 * @return the current implementation of {@link PreparedSql}.
+	 * @return the current implementation of {@link ValuesStep}.
 	 */
 	@Override
-	public PreparedSql values(DbFieldValue<?>... fields) {
+	public ValuesStep values(DbFieldValue<?>... fields) {
 
-		StringJoiner joinedFields = new StringJoiner(", ", "(", ")");
+		List<String> fieldNames = new ArrayList<>(fields.length);
 		StringJoiner joinedValues = new StringJoiner(", ", "(", ")");
 
 		for (var field : fields) {
-			joinedFields.add(field.getFieldName());
-			this.values.add(field.getValue());
+			fieldNames.add(field.getFieldName());
 			joinedValues.add("?");
 		}
-		this.sql.append(joinedFields).append(VALUES).append(joinedValues);
+		if (this.insertedFields == null) {
+			this.insertedFields = fieldNames;
+			this.sql.append('(').append(String.join(", ", fieldNames)).append(')').append(VALUES);
+		} else if (!this.insertedFields.equals(fieldNames)) {
+			throw new IllegalArgumentException("Every row must have the same fields as the first one: "
+													   + this.insertedFields + " but got: " + fieldNames);
+		} else {
+			this.sql.append(", ");
+		}
+		for (var field : fields) {
+			this.values.add(field.getValue());
+		}
+		this.sql.append(joinedValues);
+		this.insertedRows++;
+		return this;
+	}
+
+	/**
+	 * Adds an ON CONFLICT clause to the INSERT statement, as supported by PostgreSQL and SQLite. It must be followed by
+	 * the action to take when the inserted row conflicts with an existing one.
+	 * <p>
+	 * The statement is rendered by the query's dialect once the action is defined, as {@code ON DUPLICATE KEY UPDATE}
+	 * in MySQL or as a {@code MERGE} statement in H2, Oracle and SQL Server.
+	 * <p>
+	 * Example: <pre>{@code
+	 * query.insertInto(employees)
+	 *      .values(employees.id.value(1), employees.name.value("John"))
+	 *      .onConflict(employees.id)
+	 *      .doUpdateSet(employees.name)}</pre>
+	 * <p>
+	 * Expected SQL: {@code "INSERT INTO employees (id, name) VALUES (?, ?) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name"}
+	 *
+	 * @param fields the conflict target, usually the primary key or the fields of a unique constraint. If no fields
+	 *               are passed, any conflict is matched, which is only allowed with {@link #doNothing()}.
+	 * @return the current implementation of {@link ConflictStep}.
+	 */
+	@Override
+	public ConflictStep onConflict(DbField<?>... fields) {
+		if (this.insertedFields == null) {
+			throw new IllegalStateException("ON CONFLICT clause must follow a VALUES clause: " + this.sql);
+		}
+		List<String> fieldNames = new ArrayList<>(fields.length);
+		for (var field : fields) {
+			fieldNames.add(field.getFieldName());
+		}
+		this.conflictFields = fieldNames;
+		return this;
+	}
+
+	/**
+	 * Completes the ON CONFLICT clause so conflicting rows are skipped.
+	 * <p>
+	 * Expected SQL: {@code "ON CONFLICT (id) DO NOTHING"}
+	 *
+	 * @return the current implementation of {@link PreparedSql}.
+	 */
+	@Override
+	public PreparedSql doNothing() {
+		appendUpsert(List.of());
+		return this;
+	}
+
+	/**
+	 * Completes the ON CONFLICT clause so the existing row is updated with the given values.
+	 * <p>
+	 * Expected SQL: {@code "ON CONFLICT (id) DO UPDATE SET name = ?, age = ?"}
+	 * <p>
+	 * The values are added to the prepared statement's values list after the inserted ones.
+	 *
+	 * @param fields the fields to be updated and their values.
+	 * @return the current implementation of {@link PreparedSql}.
+	 */
+	@Override
+	public PreparedSql doUpdate(DbFieldValue<?>... fields) {
+		List<String> assignments = new ArrayList<>(fields.length);
+		for (var field : fields) {
+			assignments.add(field.getFieldName() + " = ?");
+			this.values.add(field.getValue());
+		}
+		appendUpsert(assignments);
+		return this;
+	}
+
+	/**
+	 * Completes the ON CONFLICT clause so the given fields of the existing row are updated to the values of the row
+	 * being inserted. As no values are added, this form can be used in batches.
+	 * <p>
+	 * Expected SQL: {@code "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, age = EXCLUDED.age"}
+	 *
+	 * @param fields the fields to be updated.
+	 * @return the current implementation of {@link PreparedSql}.
+	 */
+	@Override
+	public PreparedSql doUpdateSet(DbField<?>... fields) {
+		List<String> assignments = new ArrayList<>(fields.length);
+		for (var field : fields) {
+			assignments.add(field.getFieldName() + " = " + this.dialect.insertedValue(field.getFieldName()));
+		}
+		appendUpsert(assignments);
 		return this;
 	}
 
@@ -184,14 +578,19 @@ class SqlQueryBuilder extends BaseSqlBuilder<SqlQuery> implements SqlQuery, Upda
 	 * Expected SQL:
 	 * <p>
 	 * {@code "INSERT INTO employees (id, name, age) VALUES (?, ?, ?)"}
+	 * <p>
+	 * The rows can also be streamed to a database bulk loader with {@link SqlBatchQuery#bulkLoad(java.io.Writer)},
+	 * their columns are the fields of the VALUES clause. The loading statement is rendered in the dialect of this
+	 * query by {@link SqlBatchQuery#getLoadSql()}.
 	 *
 	 * @return a new SQL query builder.
 	 */
 	@Override
 	public SqlBatchQuery batchInsert(Consumer<InsertStatement> query) {
-		var queryBuilder = new SqlQueryBuilder();
+		var queryBuilder = new SqlQueryBuilder(this.dialect);
 		query.accept(queryBuilder);
-		return new SqlBatchBuilder(queryBuilder.getSql());
+		return new SqlBatchBuilder(queryBuilder.getSql(), this.dialect, queryBuilder.insertTable,
+								   queryBuilder.insertedFields);
 	}
 
 	/**
@@ -227,7 +626,7 @@ class SqlQueryBuilder extends BaseSqlBuilder<SqlQuery> implements SqlQuery, Upda
 	 */
 	@Override
 	public SqlBatchQuery batchUpdate(Consumer<UpdateStatement> query) {
-		var queryBuilder = new SqlQueryBuilder();
+		var queryBuilder = new SqlQueryBuilder(this.dialect);
 		query.accept(queryBuilder);
 		return new SqlBatchBuilder(queryBuilder.getSql());
 	}
@@ -263,7 +662,7 @@ class SqlQueryBuilder extends BaseSqlBuilder<SqlQuery> implements SqlQuery, Upda
 	 */
 	@Override
 	public SqlBatchQuery batchDelete(Consumer<DeleteStatement> query) {
-		var queryBuilder = new SqlQueryBuilder();
+		var queryBuilder = new SqlQueryBuilder(this.dialect);
 		query.accept(queryBuilder);
 		return new SqlBatchBuilder(queryBuilder.getSql());
 	}
@@ -281,4 +680,19 @@ class SqlQueryBuilder extends BaseSqlBuilder<SqlQuery> implements SqlQuery, Upda
 		return this;
 	}
 
+	/**
+	 * Gets the final SQL query string, with the placeholders of the query's dialect.
+	 *
+	 * @return the final SQL query string.
+	 */
+	@Override
+	public String getSql() {
+		return this.dialect.renderPlaceholders(super.getSql());
+	}
+
+	private void appendUpsert(List<String> assignments) {
+		replaceStatement(this.insertStart, this.dialect.upsert(this.insertTable, this.insertedFields, this.insertedRows,
+															   this.conflictFields, assignments));
+	}
+
 }
\ No newline at end of file
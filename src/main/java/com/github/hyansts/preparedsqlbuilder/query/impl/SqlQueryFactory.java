@@ -1,10 +1,40 @@
 package com.github.hyansts.preparedsqlbuilder.query.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField;
+import com.github.hyansts.preparedsqlbuilder.query.SqlCommonTable;
 import com.github.hyansts.preparedsqlbuilder.query.SqlQuery;
 import com.github.hyansts.preparedsqlbuilder.query.SqlScalarSubquery;
 import com.github.hyansts.preparedsqlbuilder.query.SqlSubquery;
+import com.github.hyansts.preparedsqlbuilder.query.SqlValuesTable;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlDialect;
+import com.github.hyansts.preparedsqlbuilder.sql.StandardSqlDialect;
 
 public abstract class SqlQueryFactory {
+
+	private static volatile SqlDialect dialect = StandardSqlDialect.GENERIC;
+
+	/**
+	 * Selects the dialect the queries created from now on are rendered in, e.g.: {@link StandardSqlDialect#ORACLE}.
+	 * It's meant to be called once, when the application starts.
+	 *
+	 * @param dialect the dialect of the database.
+	 */
+	public static void setDialect(SqlDialect dialect) {
+		SqlQueryFactory.dialect = Objects.requireNonNull(dialect);
+	}
+
+	/**
+	 * @return the dialect the created queries are rendered in, {@link StandardSqlDialect#GENERIC} by default.
+	 */
+	public static SqlDialect getDialect() {
+		return dialect;
+	}
+
 	/**
 	 * Creates a new SQL query builder.
 	 * <p>
@@ -13,10 +43,11 @@ public abstract class SqlQueryFactory {
 	 * Example:
 	 * <pre>{@code
 	 * SqlQuery query = SqlQueryFactory.createQuery();
-	 * String sql = query.select(employees.id, employees.name)
-	 *              .from(employees.as("emp"))
-	 *              .where(employees.age.gt(18))
-	 *              .orderBy(employees.name)
+	 * DbTableView emp = employees.as("emp");
+	 * String sql = query.select(emp.getField(employees.id), emp.getField(employees.name))
+	 *              .from(emp)
+	 *              .where(emp.getField(employees.age).gt(18))
+	 *              .orderBy(emp.getField(employees.name))
 	 *              .getSql();}
 	 * </pre>
 	 * Expected SQL:
@@ -29,6 +60,60 @@ public abstract class SqlQueryFactory {
 		return new SqlQueryBuilder();
 	}
 
+	/**
+	 * Creates a new SQL query builder rendering the query in the given dialect, instead of the selected one. The
+	 * subqueries it's made of must be created in the same dialect, e.g.: with {@link #createSubquery(SqlDialect)}.
+	 * <p>
+	 * Example: {@code SqlQueryFactory.createQuery(StandardSqlDialect.ORACLE).select().from(employees).limit(10)}
+	 * <p>
+	 * Expected SQL: {@code "SELECT * FROM employees FETCH NEXT ? ROWS ONLY"}
+	 *
+	 * @param dialect the dialect of the database.
+	 * @return a new SQL query builder.
+	 */
+	public static SqlQuery createQuery(SqlDialect dialect) {
+		return new SqlQueryBuilder(dialect);
+	}
+
+	/**
+	 * Creates a new SQL query builder deriving the count form of the SELECT query built through it.
+	 * <p>
+	 * The select list is collapsed to {@code COUNT(*)}, the ORDER BY, LIMIT and OFFSET clauses are left out, and so are
+	 * the LEFT JOINs to mapped tables on their primary key that are not referenced in the rest of the query. This lets
+	 * the same code build a page of a listing and the query counting its rows.
+	 * <p>
+	 * Example:
+	 * <pre>{@code
+	 * Function<SqlQuery, PreparedSql> listing = q -> q.select(emp.id, emp.name)
+	 *                                                 .from(emp)
+	 *                                                 .where(emp.age.gt(18))
+	 *                                                 .orderBy(emp.name.asc())
+	 *                                                 .limit(20);
+	 *
+	 * PreparedSql page = listing.apply(SqlQueryFactory.createQuery());
+	 * PreparedSql count = listing.apply(SqlQueryFactory.createCountQuery());}
+	 * </pre>
+	 * Expected SQL:
+	 * <p>
+	 * {@code "SELECT COUNT(*) FROM employees WHERE age > ?"}
+	 *
+	 * @return a new count query builder.
+	 */
+	public static SqlQuery createCountQuery() {
+		return new SqlCountQueryBuilder();
+	}
+
+	/**
+	 * Creates a new count query builder rendering the query in the given dialect, instead of the selected one.
+	 *
+	 * @param dialect the dialect of the database.
+	 * @return a new count query builder.
+	 * @see #createCountQuery()
+	 */
+	public static SqlQuery createCountQuery(SqlDialect dialect) {
+		return new SqlCountQueryBuilder(dialect);
+	}
+
 	/**
 	 * Creates a new SQL subquery builder.
 	 * <p>
@@ -40,12 +125,13 @@ public abstract class SqlQueryFactory {
 	 * SqlQuery query = SqlQueryFactory.createQuery();
 	 * SqlSubquery subquery = SqlQueryFactory.createSubquery();
 	 *
-	 * query.select(subquery.getField(maxAge), dep.title)
-	 *      .from(subquery.select(emp.department_id, maxAge.as("max_age"))
+	 * DbTableView d = dep.as("dep");
+	 * query.select(subquery.getField(maxAge), d.getField(dep.title))
+	 *      .from(subquery.select(emp.department_id, maxAge)
 	 *                    .from(emp)
 	 *                    .groupBy(emp.department_id)
 	 *                    .getQuery().as("sub"))
-	 *      .innerJoin(dep.as("dep")).on(subquery.getField(emp.department_id).eq(dep.id));}
+	 *      .innerJoin(d).on(subquery.getField(emp.department_id).eq(d.getField(dep.id)));}
 	 * </pre>
 	 * Expected SQL:
 	 * <p>
@@ -63,6 +149,18 @@ public abstract class SqlQueryFactory {
 		return new SqlSubqueryBuilder();
 	}
 
+	/**
+	 * Creates a new SQL subquery builder rendering the subquery in the given dialect, instead of the selected one. The
+	 * subquery can only be part of a query rendered in the same dialect.
+	 *
+	 * @param dialect the dialect of the database.
+	 * @return a new SQL subquery builder.
+	 * @see #createSubquery()
+	 */
+	public static SqlSubquery createSubquery(SqlDialect dialect) {
+		return new SqlSubqueryBuilder(dialect);
+	}
+
 	/**
 	 * Creates a new SQL scalar subquery builder.
 	 * <p>
@@ -99,4 +197,148 @@ public abstract class SqlQueryFactory {
 		return new SqlScalarSubqueryBuilder<>();
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Creates a new SQL scalar subquery builder rendering the subquery in the given dialect, instead of the selected
+	 * one. The subquery can only be part of a query rendered in the same dialect.
+	 *
+	 * @param dialect the dialect of the database.
+	 * @param <T>     the type of the scalar subquery.
+	 * @return a new SQL scalar subquery builder.
+	 * @see #createScalarSubquery()
+	 */
+	public static <T> SqlScalarSubquery<T> createScalarSubquery(SqlDialect dialect) {
+		return new SqlScalarSubqueryBuilder<>(dialect);
+	}
+
+	/**
+	 * Creates a derived table holding the given values in a single column.
+	 * <p>
+	 * The returned table must be given an alias before being used, and its column can be compared to the fields of
+	 * the other tables in the query.
+	 * <p>
+	 * Example:
+	 * <pre>{@code
+	 * SqlValuesTable<Integer> ids = SqlQueryFactory.createValuesTable("id", Integer.class, List.of(1, 2, 3));
+	 *
+	 * DbTableView e = emp.as("e");
+	 * query.select(e.getField(emp.name))
+	 *      .from(e)
+	 *      .innerJoin(ids.as("ids")).on(ids.getColumn().eq(e.getField(emp.id)));}
+	 * </pre>
+	 * Expected SQL:
+	 * <p>
+	 * {@code "SELECT e.name FROM employees AS e INNER JOIN (VALUES (?), (?), (?)) AS ids(id) ON ids.id = e.id"}
+	 *
+	 * @param columnName the name of the column.
+	 * @param type       the type of the values.
+	 * @param values     the values, at least one is required.
+	 * @param <T>        the type of the values.
+	 * @return a new VALUES derived table.
+	 */
+	public static <T> SqlValuesTable<T> createValuesTable(String columnName, Class<T> type, Iterable<T> values) {
+		return new SqlValuesTableBuilder<>(columnName, type, values);
+	}
+
+	/**
+	 * Creates a scalar subquery selecting the given values from a VALUES derived table, to be used with IN and NOT IN:
+	 * {@code "(SELECT in_list.val FROM (VALUES (?), (?), ...) AS in_list(val))"}.
+	 *
+	 * @param type   the type of the values.
+	 * @param values the values, at least one is required.
+	 * @param <T>    the type of the values.
+	 * @return a new scalar subquery selecting the values.
+	 * @throws IllegalArgumentException if the selected dialect has no VALUES derived tables.
+	 * @see #createInCondition(DbTableField, Iterable, int)
+	 */
+	public static <T> SqlScalarSubquery<T> createValuesSubquery(Class<T> type, Iterable<T> values) {
+		return createValuesSubquery(dialect, type, values);
+	}
+
+	/**
+	 * Creates a scalar subquery selecting the given values from a VALUES derived table rendered in the given dialect,
+	 * instead of the selected one. The subquery can only be part of a query rendered in the same dialect.
+	 *
+	 * @param dialect the dialect of the database.
+	 * @param type    the type of the values.
+	 * @param values  the values, at least one is required.
+	 * @param <T>     the type of the values.
+	 * @return a new scalar subquery selecting the values.
+	 * @throws IllegalArgumentException if the dialect has no VALUES derived tables.
+	 * @see #createValuesSubquery(Class, Iterable)
+	 */
+	public static <T> SqlScalarSubquery<T> createValuesSubquery(SqlDialect dialect, Class<T> type, Iterable<T> values) {
+		SqlValuesTable<T> valuesTable = new SqlValuesTableBuilder<>("val", type, values);
+		valuesTable.as("in_list");
+		SqlScalarSubquery<T> subquery = createScalarSubquery(dialect);
+		return subquery.select(valuesTable.getColumn()).from(valuesTable).getQuery();
+	}
+
+	/**
+	 * Creates an IN condition that switches to a VALUES derived table once the number of values exceeds the threshold:
+	 * {@code "field IN (SELECT in_list.val FROM (VALUES (?), (?), ...) AS in_list(val))"}. Most planners handle the
+	 * latter as a semi-join against a table instead of evaluating a long list of comparisons.
+	 * <p>
+	 * The derived table is rendered in the selected dialect, use
+	 * {@link #createValuesSubquery(SqlDialect, Class, Iterable)} for queries built in another one.
+	 *
+	 * @param field                the field to compare.
+	 * @param values               the values to match.
+	 * @param valuesTableThreshold the largest number of values rendered as a plain IN list.
+	 * @param <T>                  the type of the values.
+	 * @return the condition.
+	 */
+	public static <T> SqlCondition createInCondition(DbTableField<T> field, Iterable<T> values,
+													 int valuesTableThreshold) {
+		List<T> list = toList(values);
+		return list.size() > valuesTableThreshold
+					   ? field.in(createValuesSubquery(field.getType(), list)) : field.in(list);
+	}
+
+	/**
+	 * @param field                the field to compare.
+	 * @param values               the values not to match.
+	 * @param valuesTableThreshold the largest number of values rendered as a plain NOT IN list.
+	 * @param <T>                  the type of the values.
+	 * @return the condition.
+	 * @see #createInCondition(DbTableField, Iterable, int)
+	 */
+	public static <T> SqlCondition createNotInCondition(DbTableField<T> field, Iterable<T> values,
+														int valuesTableThreshold) {
+		List<T> list = toList(values);
+		return list.size() > valuesTableThreshold
+					   ? field.notIn(createValuesSubquery(field.getType(), list)) : field.notIn(list);
+	}
+
+	/**
+	 * Creates a reference to a common table expression with the given name.
+	 * <p>
+	 * The reference is used to define the common table expression with {@link SqlQuery#with} or
+	 * {@link SqlQuery#withRecursive}, and to select from it or join it in the rest of the query, including in its own
+	 * recursive definition.
+	 * <p>
+	 * Example:
+	 * <pre>{@code
+	 * SqlCommonTable adults = SqlQueryFactory.createCommonTable("adults");
+	 *
+	 * query.with(adults, subquery.select(emp.id, emp.name).from(emp).where(emp.age.ge(18)).getQuery())
+	 *      .select(adults.getField(emp.name))
+	 *      .from(adults.as("a"));}
+	 * </pre>
+	 * Expected SQL:
+	 * <p>
+	 * {@code "WITH adults AS (SELECT id, name FROM employees WHERE age >= ?) SELECT a.name FROM adults AS a"}
+	 *
+	 * @param name the name of the common table expression.
+	 * @return a new common table expression reference.
+	 */
+	public static SqlCommonTable createCommonTable(String name) {
+		return new SqlCommonTableReference(name);
+	}
+
+	private static <T> List<T> toList(Iterable<T> values) {
+		List<T> list = new ArrayList<>();
+		values.forEach(list::add);
+		return list;
+	}
+
+}
@@ -10,6 +10,7 @@ import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableFieldOrder;
 import com.github.hyansts.preparedsqlbuilder.query.SelectStatement;
 import com.github.hyansts.preparedsqlbuilder.query.SqlScalarSubquery;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlDialect;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlSortOrder;
 import com.github.hyansts.preparedsqlbuilder.util.StringHolder;
 import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
@@ -29,7 +30,14 @@ class SqlScalarSubqueryBuilder<T> extends BaseSqlBuilder<SqlScalarSubquery<T>> i
 		this.tableLike = null;
 	}
 
-	private SqlScalarSubqueryBuilder(StringHolder alias, DbTableLike tableLike) {
+	SqlScalarSubqueryBuilder(SqlDialect dialect) {
+		super(dialect);
+		this.alias = new StringHolder();
+		this.tableLike = null;
+	}
+
+	private SqlScalarSubqueryBuilder(SqlDialect dialect, StringHolder alias, DbTableLike tableLike) {
+		super(dialect);
 		this.alias = alias;
 		this.tableLike = tableLike;
 	}
@@ -94,7 +102,7 @@ class SqlScalarSubqueryBuilder<T> extends BaseSqlBuilder<SqlScalarSubquery<T>> i
 
 	@Override
 	public DbComparableField<T> mapTo(DbTableLike tableLike) {
-		return new SqlScalarSubqueryBuilder<>(this.alias, tableLike);
+		return new SqlScalarSubqueryBuilder<>(this.dialect, this.alias, tableLike);
 	}
 
 	@Override
@@ -3,14 +3,21 @@ package com.github.hyansts.preparedsqlbuilder.query.impl;
 import com.github.hyansts.preparedsqlbuilder.db.DbComparableField;
 import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
 import com.github.hyansts.preparedsqlbuilder.query.SqlSubquery;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlDialect;
 import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
 
-import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.AS;
+import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.TABLE_AS;
 
 class SqlSubqueryBuilder extends BaseSqlBuilder<SqlSubquery> implements SqlSubquery {
 
 	private String alias;
 
+	SqlSubqueryBuilder() { }
+
+	SqlSubqueryBuilder(SqlDialect dialect) {
+		super(dialect);
+	}
+
 	@Override
 	public String getAlias() {
 		return this.alias;
@@ -18,10 +25,15 @@ class SqlSubqueryBuilder extends BaseSqlBuilder<SqlSubquery> implements SqlSubqu
 
 	@Override
 	public String getDefinition() {
+		return getDefinition(this.dialect);
+	}
+
+	@Override
+	public String getDefinition(SqlDialect dialect) {
 		if (StringUtil.isBlank(this.alias)) {
 			throw new IllegalStateException("Derived table subquery must have an alias: " + this.getSql());
 		}
-		return this.getSql() + AS + this.alias;
+		return this.getSql() + dialect.token(TABLE_AS) + this.alias;
 	}
 
 	@Override
@@ -0,0 +1,47 @@
+package com.github.hyansts.preparedsqlbuilder.query.impl;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbComparableField;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField;
+import com.github.hyansts.preparedsqlbuilder.query.SqlValuesTable;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlDialect;
+import com.github.hyansts.preparedsqlbuilder.sql.StandardSqlDialect;
+import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
+
+import static com.github.hyansts.preparedsqlbuilder.sql.SqlKeyword.TABLE_AS;
+
+/**
+ * A derived table made of a single column of values: {@code "(VALUES (?), (?), ...) AS alias(column)"}.
+ * <p>
+ * Joining against it lets the database plan large lists of values as a regular table, e.g. with a hash join, instead of
+ * evaluating a long IN list. The rows are rendered in the dialect of the query the table is part of.
+ */
+class SqlValuesTableBuilder<T> extends SqlSubqueryBuilder implements SqlValuesTable<T> {
+
+	private final String columnName;
+	private final DbTableField<T> column;
+
+	SqlValuesTableBuilder(String columnName, Class<T> type, Iterable<T> values) {
+		values.forEach(this.values::add);
+		if (this.values.isEmpty()) {
+			throw new IllegalArgumentException("A VALUES table requires at least one value");
+		}
+		this.sql.append(StandardSqlDialect.GENERIC.valuesRows(this.values.size()));
+		this.columnName = columnName;
+		this.column = new DbTableField<>(columnName, this, type);
+	}
+
+	@Override
+	public String getDefinition(SqlDialect dialect) {
+		if (StringUtil.isBlank(getAlias())) {
+			throw new IllegalStateException("Derived table subquery must have an alias: " + this.getSql());
+		}
+		return "(" + dialect.valuesRows(this.values.size()) + ")" + dialect.token(TABLE_AS) + getAlias() + "("
+					   + this.columnName + ")";
+	}
+
+	@Override
+	public DbComparableField<T> getColumn() {
+		return this.column;
+	}
+
+}
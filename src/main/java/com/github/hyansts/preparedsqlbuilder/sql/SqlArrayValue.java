@@ -0,0 +1,53 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A list of values bound to a single array parameter of a prepared statement, as used by the conditions created with
+ * {@code inArray} and {@code notInArray}.
+ * <p>
+ * It's added as-is to the values of the query, so it must be converted to an SQL array when binding the parameters,
+ * e.g.:
+ * <pre>{@code
+ * Object value = query.getValues().get(i);
+ * if (value instanceof SqlArrayValue<?> array) {
+ *     statement.setArray(i + 1, array.createArrayOf(connection, "integer"));
+ * } else {
+ *     statement.setObject(i + 1, value);
+ * }}
+ * </pre>
+ *
+ * @param <T> the type of the elements.
+ */
+public final class SqlArrayValue<T> {
+
+	private final List<T> elements = new ArrayList<>();
+
+	public SqlArrayValue(Iterable<T> elements) {
+		elements.forEach(this.elements::add);
+	}
+
+	/**
+	 * Creates the SQL array to be bound to the statement using {@link Connection#createArrayOf(String, Object[])}.
+	 *
+	 * @param connection  the connection the statement belongs to.
+	 * @param sqlTypeName the database type name of the elements, e.g. {@code "integer"} or {@code "varchar"}.
+	 * @return the SQL array holding the elements.
+	 * @throws SQLException if the array could not be created.
+	 */
+	public Array createArrayOf(Connection connection, String sqlTypeName) throws SQLException {
+		return connection.createArrayOf(sqlTypeName, toArray());
+	}
+
+	public Object[] toArray() { return this.elements.toArray(); }
+
+	public List<T> getElements() { return this.elements; }
+
+	@Override
+	public String toString() { return this.elements.toString(); }
+
+}
@@ -13,47 +13,82 @@ import com.github.hyansts.preparedsqlbuilder.query.SqlScalarSubquery;
  * <p>
  * Conditions can be combined with the logical operators AND and OR using the {@link #and(SqlCondition)} and
  * {@link #or(SqlCondition)} methods. Parentheses layers are automatically added when nested conditions are used.
+ * <p>
+ * Optional filters can be expressed with the {@link #empty()} condition, returned for instance by
+ * {@code field.eqIfPresent(value)} when the value is {@code null}. The empty condition is ignored when combined with
+ * other conditions, and a WHERE or HAVING clause of a SELECT statement given an empty condition is left out of the
+ * query. The empty condition is immutable, so it can be shared.
  */
 public class SqlCondition {
 
+	private static final SqlCondition EMPTY = new SqlCondition();
+
 	private final List<Object> comparedValues = new ArrayList<>();
 	private String sql;
 	private int parenthesisLayer = 1;
+	private boolean disjunction;
+	private String mergeableField;
+	private SqlConditionOperator mergeableOp;
+	private SqlCondition parenthesized;
+	private List<Operand> operands;
+	private int leafSqlLength;
+	private int leafValueCount;
+	private List<DbComparableField<?>> fields = List.of();
+	private boolean fieldEquality;
+
+	/**
+	 * A condition added with AND/OR, along with the number of its own operands at that time, as it may still be
+	 * extended afterwards.
+	 */
+	private record Operand(SqlConditionOperator operator, SqlCondition condition, int operandCount, boolean grouped) { }
+
+	private SqlCondition() {
+		this.sql = "";
+	}
 
 	public SqlCondition(DbComparableField<?> tf) {
 		addSubqueryValues(tf);
 		this.sql = tf.getFullQualification();
+		this.fields = List.of(tf);
 	}
 
 	public SqlCondition(DbComparableField<?> tf, SqlConditionOperator op) {
 		addSubqueryValues(tf);
 		this.sql = tf.getFullQualification() + op;
+		this.fields = List.of(tf);
 	}
 
 	public <T> SqlCondition(DbComparableField<T> tf1, SqlConditionOperator op, DbComparableField<T> tf2) {
 		addSubqueryValues(tf1, tf2);
 		this.sql = tf1.getFullQualification() + op + tf2.getFullQualification();
+		this.fields = List.of(tf1, tf2);
+		this.fieldEquality = op == SqlConditionOperator.EQ;
 	}
 
 	public <T> SqlCondition(DbComparableField<T> tf1, SqlConditionOperator op, T val) {
 		this.comparedValues.add(val);
 		this.sql = tf1.getFullQualification() + op + "?";
+		this.fields = List.of(tf1);
+		setMergeable(tf1, op);
 	}
 
 	public <T> SqlCondition(DbComparableField<T> tf, SqlConditionOperator op1, T val1, SqlConditionOperator op2, T val2) {
 		Collections.addAll(this.comparedValues, val1, val2);
 		this.sql = tf.getFullQualification() + op1 + "?" + op2 + "?";
+		this.fields = List.of(tf);
 	}
 
 	public <T> SqlCondition(DbComparableField<T> tf1, SqlConditionOperator op1, DbComparableField<T> tf2, SqlConditionOperator op2, DbComparableField<T> tf3) {
 		addSubqueryValues(tf1, tf2, tf3);
 		this.sql = tf1.getFullQualification() + op1 + tf2.getFullQualification() + op2 + tf3;
+		this.fields = List.of(tf1, tf2, tf3);
 	}
 
 	public <T> SqlCondition(DbComparableField<T> tf1, SqlConditionOperator op1, DbComparableField<T> tf2, SqlConditionOperator op2, T val) {
 		addSubqueryValues(tf1, tf2);
 		this.comparedValues.add(val);
 		this.sql = tf1.getFullQualification() + op1 + tf2.getFullQualification() + op2 + "?";
+		this.fields = List.of(tf1, tf2);
 	}
 
 	public <T> SqlCondition(DbComparableField<T> tf1, SqlConditionOperator op1, T val, SqlConditionOperator op2, DbComparableField<T> tf2) {
@@ -61,6 +96,7 @@ public class SqlCondition {
 		this.comparedValues.add(val);
 		addSubqueryValues(tf2);
 		this.sql = tf1.getFullQualification() + op1 + "?" + op2 + tf2.getFullQualification();
+		this.fields = List.of(tf1, tf2);
 	}
 
 	public <T> SqlCondition(DbComparableField<T> tf1, SqlConditionOperator op, Iterable<T> values) {
@@ -70,6 +106,93 @@ public class SqlCondition {
 			valueString.add("?");
 		});
 		this.sql = tf1.getFullQualification() + op + valueString;
+		this.fields = List.of(tf1);
+		setMergeable(tf1, op);
+	}
+
+	/**
+	 * Creates a condition comparing the field against all the elements of an array bound to a single parameter, e.g.:
+	 * {@code "field = ANY(?)"}. The number of elements does not change the SQL, so the same statement can be reused for
+	 * any of them.
+	 *
+	 * @param tf    the field to compare.
+	 * @param op    the operator, usually {@link SqlConditionOperator#EQ_ANY} or {@link SqlConditionOperator#NE_ALL}.
+	 * @param array the array of values, added as a single value to be bound with {@code setArray}.
+	 */
+	public <T> SqlCondition(DbComparableField<T> tf, SqlConditionOperator op, SqlArrayValue<T> array) {
+		this.comparedValues.add(array);
+		this.sql = tf.getFullQualification() + op + "(?)";
+		this.fields = List.of(tf);
+	}
+
+	/**
+	 * Creates a condition comparing a row value made of the given fields against a list of rows, e.g.:
+	 * {@code "(field1, field2) IN ((?, ?), (?, ?))"}. If a single field is given, the row value is rendered as a plain
+	 * list instead: {@code "field1 IN (?, ?)"}.
+	 *
+	 * @param fields the fields composing the row value.
+	 * @param op     the operator, usually {@link SqlConditionOperator#IN} or {@link SqlConditionOperator#NOT_IN}.
+	 * @param rows   the rows to compare to, each one must have a value for every field, in the same order.
+	 */
+	public SqlCondition(List<? extends DbComparableField<?>> fields, SqlConditionOperator op, Iterable<? extends List<?>> rows) {
+		StringJoiner fieldString = new StringJoiner(", ", "(", ")");
+		fields.forEach(field -> fieldString.add(field.getFullQualification()));
+		StringJoiner rowsString = new StringJoiner(", ", "(", ")");
+		for (List<?> row : rows) {
+			if (row.size() != fields.size()) {
+				throw new IllegalArgumentException("Expected " + fields.size() + " values per row but got: " + row);
+			}
+			StringJoiner rowString = new StringJoiner(", ", "(", ")");
+			row.forEach(value -> {
+				this.comparedValues.add(value);
+				rowString.add("?");
+			});
+			rowsString.add(fields.size() == 1 ? "?" : rowString.toString());
+		}
+		String rowValue = fields.size() == 1 ? fields.get(0).getFullQualification() : fieldString.toString();
+		this.sql = rowValue + op + rowsString;
+		this.fields = List.copyOf(fields);
+	}
+
+	SqlCondition(SqlConditionTerm.Predicate predicate) {
+		this.comparedValues.addAll(predicate.values());
+		this.sql = predicate.sql();
+		this.mergeableField = predicate.field();
+		this.mergeableOp = predicate.op();
+	}
+
+	/**
+	 * @return a new condition wrapping the given one in parentheses.
+	 */
+	static SqlCondition parenthesized(SqlCondition condition) {
+		SqlCondition parenthesized = new SqlCondition();
+		parenthesized.comparedValues.addAll(condition.comparedValues);
+		parenthesized.sql = "(" + condition.sql + ")";
+		parenthesized.parenthesized = condition;
+		return parenthesized;
+	}
+
+	/**
+	 * @return the shared empty condition, which stands for the absence of a filter.
+	 */
+	public static SqlCondition empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * @return {@code true} if this is the {@link #empty()} condition.
+	 */
+	public boolean isEmpty() {
+		return this == EMPTY;
+	}
+
+	/**
+	 * @return {@code true} if terms of this condition are joined by OR outside of any parentheses, e.g.:
+	 * {@code "a = ? OR b = ?"}, so it must be wrapped in parentheses before another condition is appended to its SQL with
+	 * AND.
+	 */
+	public boolean isDisjunction() {
+		return this.disjunction;
 	}
 
 	/**
@@ -79,13 +202,21 @@ public class SqlCondition {
 	 * operations.
 	 * <p>
 	 * The compared values of the other condition will be added to the current list of compared values.
+	 * <p>
+	 * If either condition is {@link #empty()}, the other one is returned as-is.
 	 *
 	 * @param sqlCondition the condition to add to the current one
 	 * @return this instance
 	 */
 	public SqlCondition and(SqlCondition sqlCondition) {
+		if (sqlCondition.isEmpty()) {
+			return this;
+		}
+		if (this.isEmpty()) {
+			return sqlCondition;
+		}
+		this.sql += SqlConditionOperator.AND + evaluateParenthesisLayer(sqlCondition, SqlConditionOperator.AND);
 		this.comparedValues.addAll(sqlCondition.getComparedValues());
-		this.sql += SqlConditionOperator.AND + evaluateParenthesisLayer(sqlCondition);
 		return this;
 	}
 
@@ -96,22 +227,134 @@ public class SqlCondition {
 	 * operations.
 	 * <p>
 	 * The compared values of the other condition will be added to the current list of compared values.
+	 * <p>
+	 * If either condition is {@link #empty()}, the other one is returned as-is.
 	 *
 	 * @param sqlCondition the condition to add to the current one
 	 * @return this instance
 	 */
 	public SqlCondition or(SqlCondition sqlCondition) {
+		if (sqlCondition.isEmpty()) {
+			return this;
+		}
+		if (this.isEmpty()) {
+			return sqlCondition;
+		}
+		this.sql += SqlConditionOperator.OR + evaluateParenthesisLayer(sqlCondition, SqlConditionOperator.OR);
 		this.comparedValues.addAll(sqlCondition.getComparedValues());
-		this.sql += SqlConditionOperator.OR + evaluateParenthesisLayer(sqlCondition);
 		return this;
 	}
 
-	private String evaluateParenthesisLayer(SqlCondition otherCondition) {
+	/**
+	 * Creates an equivalent condition with redundant shapes removed, so that fewer and simpler SQL strings reach the
+	 * database. Nested conditions are evaluated following the parentheses and the precedence of AND over OR, then:
+	 * <ul>
+	 *     <li>nested ANDs inside an AND, and nested ORs inside an OR, are flattened;</li>
+	 *     <li>equality and IN comparisons of the same field joined by OR are merged into a single IN, e.g.
+	 *     {@code "a = ? OR a = ?"} becomes {@code "a IN (?, ?)"};</li>
+	 *     <li>IN and NOT IN lists with a single value become {@code =} and {@code <>} comparisons;</li>
+	 *     <li>exact duplicates, same SQL and same values, are dropped.</li>
+	 * </ul>
+	 * This condition is left unchanged.
+	 *
+	 * @return a new optimised condition.
+	 */
+	public SqlCondition optimize() {
+		if (this.isEmpty()) {
+			return this;
+		}
+		List<SqlConditionTerm> terms = new ArrayList<>();
+		List<SqlConditionOperator> operators = new ArrayList<>();
+		collectTerms(operandCount(), terms, operators);
+		SqlCondition optimized = SqlConditionOptimizer.optimize(terms, operators);
+		optimized.fields = getReferencedFields();
+		return optimized;
+	}
+
+	/**
+	 * @return the two fields of a single {@code field1 = field2} condition, not combined with any other condition, or
+	 * an empty list for any other condition.
+	 */
+	public List<DbComparableField<?>> getEquatedFields() {
+		return this.fieldEquality && this.operands == null ? this.fields : List.of();
+	}
+
+	/**
+	 * @return the fields compared anywhere in this condition, including its nested conditions. An optimised condition
+	 * references the fields of the condition it was created from.
+	 */
+	public List<DbComparableField<?>> getReferencedFields() {
+		List<DbComparableField<?>> referencedFields = new ArrayList<>();
+		collectFields(operandCount(), referencedFields);
+		return referencedFields;
+	}
+
+	private void collectFields(int operandCount, List<DbComparableField<?>> referencedFields) {
+		referencedFields.addAll(this.fields);
+		if (this.parenthesized != null) {
+			this.parenthesized.collectFields(this.parenthesized.operandCount(), referencedFields);
+		}
+		for (int i = 0; i < operandCount; i++) {
+			Operand operand = this.operands.get(i);
+			operand.condition.collectFields(operand.operandCount, referencedFields);
+		}
+	}
+
+	/**
+	 * Rebuilds the terms of this condition as it was rendered with its first {@code operandCount} operands. The terms
+	 * are only needed by {@link #optimize()}, so they are not kept while the condition is being built.
+	 */
+	private void collectTerms(int operandCount, List<SqlConditionTerm> terms, List<SqlConditionOperator> operators) {
+		if (this.parenthesized != null) {
+			terms.add(group(this.parenthesized, this.parenthesized.operandCount()));
+		} else {
+			int sqlLength = this.operands == null ? this.sql.length() : this.leafSqlLength;
+			int valueCount = this.operands == null ? this.comparedValues.size() : this.leafValueCount;
+			List<Object> values = Collections.unmodifiableList(new ArrayList<>(this.comparedValues.subList(0, valueCount)));
+			terms.add(new SqlConditionTerm.Predicate(this.sql.substring(0, sqlLength), values, this.mergeableField,
+													 this.mergeableOp));
+		}
+		for (int i = 0; i < operandCount; i++) {
+			Operand operand = this.operands.get(i);
+			operators.add(operand.operator);
+			if (operand.grouped) {
+				terms.add(group(operand.condition, operand.operandCount));
+			} else {
+				operand.condition.collectTerms(operand.operandCount, terms, operators);
+			}
+		}
+	}
+
+	private static SqlConditionTerm.Group group(SqlCondition condition, int operandCount) {
+		List<SqlConditionTerm> terms = new ArrayList<>();
+		List<SqlConditionOperator> operators = new ArrayList<>();
+		condition.collectTerms(operandCount, terms, operators);
+		return new SqlConditionTerm.Group(List.copyOf(terms), List.copyOf(operators));
+	}
+
+	private int operandCount() {
+		return this.operands == null ? 0 : this.operands.size();
+	}
+
+	private String evaluateParenthesisLayer(SqlCondition otherCondition, SqlConditionOperator operator) {
+		if (this.operands == null) {
+			this.operands = new ArrayList<>();
+			this.leafSqlLength = this.sql.length();
+			this.leafValueCount = this.comparedValues.size();
+		}
+		boolean grouped = otherCondition.parenthesisLayer % 2 == 0;
+		this.operands.add(new Operand(operator, otherCondition, otherCondition.operandCount(), grouped));
 		this.parenthesisLayer = otherCondition.parenthesisLayer + 1;
-		if (otherCondition.parenthesisLayer % 2 == 0) {
-			return "(" + otherCondition.getSql() + ")";
+		this.disjunction |= operator == SqlConditionOperator.OR || !grouped && otherCondition.disjunction;
+		return grouped ? "(" + otherCondition.getSql() + ")" : otherCondition.getSql();
+	}
+
+	private void setMergeable(DbComparableField<?> field, SqlConditionOperator op) {
+		if (!(field instanceof SqlScalarSubquery<?>)
+					&& (op == SqlConditionOperator.EQ || op == SqlConditionOperator.IN || op == SqlConditionOperator.NOT_IN)) {
+			this.mergeableField = field.getFullQualification();
+			this.mergeableOp = op;
 		}
-		return otherCondition.getSql();
 	}
 
 	private void addSubqueryValues(DbComparableField<?>... fields) {
@@ -122,7 +365,7 @@ public class SqlCondition {
 		}
 	}
 
-	public List<Object> getComparedValues() { return this.comparedValues; }
+	public List<Object> getComparedValues() { return this.isEmpty() ? List.of() : this.comparedValues; }
 	public String getSql() { return this.sql; }
 
 	@Override
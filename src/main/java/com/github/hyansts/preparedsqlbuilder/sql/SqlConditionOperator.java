@@ -11,6 +11,8 @@ public enum SqlConditionOperator {
 	NOT_LIKE(" NOT LIKE "),
 	IN(" IN "),
 	NOT_IN(" NOT IN "),
+	EQ_ANY(" = ANY"),
+	NE_ALL(" <> ALL"),
 	BETWEEN(" BETWEEN "),
 	NOT_BETWEEN(" NOT BETWEEN "),
 	IS_NULL(" IS NULL"),
@@ -0,0 +1,153 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import com.github.hyansts.preparedsqlbuilder.sql.SqlConditionTerm.Group;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlConditionTerm.Predicate;
+
+/**
+ * Rewrites the terms of a condition into an equivalent, simpler condition.
+ *
+ * @see SqlCondition#optimize()
+ */
+final class SqlConditionOptimizer {
+
+	private sealed interface Node { }
+
+	private record Leaf(Predicate predicate) implements Node { }
+
+	private record Junction(SqlConditionOperator op, List<Node> children) implements Node { }
+
+	private SqlConditionOptimizer() { }
+
+	static SqlCondition optimize(List<SqlConditionTerm> terms, List<SqlConditionOperator> operators) {
+		return render(optimize(toNode(terms, operators)));
+	}
+
+	private static Node toNode(List<SqlConditionTerm> terms, List<SqlConditionOperator> operators) {
+		List<Node> disjuncts = new ArrayList<>();
+		List<Node> conjuncts = new ArrayList<>();
+		for (int i = 0; i < terms.size(); i++) {
+			if (i > 0 && operators.get(i - 1) == SqlConditionOperator.OR) {
+				disjuncts.add(junction(SqlConditionOperator.AND, conjuncts));
+				conjuncts = new ArrayList<>();
+			}
+			conjuncts.add(switch (terms.get(i)) {
+				case Predicate predicate -> new Leaf(predicate);
+				case Group group -> toNode(group.terms(), group.operators());
+			});
+		}
+		disjuncts.add(junction(SqlConditionOperator.AND, conjuncts));
+		return junction(SqlConditionOperator.OR, disjuncts);
+	}
+
+	private static Node junction(SqlConditionOperator op, List<Node> children) {
+		List<Node> flattened = new ArrayList<>();
+		for (Node child : children) {
+			if (child instanceof Junction junction && junction.op == op) {
+				flattened.addAll(junction.children);
+			} else {
+				flattened.add(child);
+			}
+		}
+		List<Node> distinct = new ArrayList<>(new LinkedHashSet<>(flattened));
+		return distinct.size() == 1 ? distinct.get(0) : new Junction(op, distinct);
+	}
+
+	private static Node optimize(Node node) {
+		return switch (node) {
+			case Leaf leaf -> simplify(leaf.predicate);
+			case Junction junction -> {
+				List<Node> children = new ArrayList<>();
+				junction.children.forEach(child -> children.add(optimize(child)));
+				Node flattened = junction(junction.op, children);
+				if (flattened instanceof Junction or && or.op == SqlConditionOperator.OR) {
+					yield junction(SqlConditionOperator.OR, mergeEqualities(or.children));
+				}
+				yield flattened;
+			}
+		};
+	}
+
+	private static Node simplify(Predicate predicate) {
+		if (predicate.isMergeable() && predicate.values().size() == 1) {
+			if (predicate.op() == SqlConditionOperator.IN) {
+				return leaf(predicate.field(), SqlConditionOperator.EQ, predicate.values());
+			}
+			if (predicate.op() == SqlConditionOperator.NOT_IN) {
+				return leaf(predicate.field(), SqlConditionOperator.NE, predicate.values());
+			}
+		}
+		return new Leaf(predicate);
+	}
+
+	private static List<Node> mergeEqualities(List<Node> disjuncts) {
+		Map<String, LinkedHashSet<Object>> valuesByField = new LinkedHashMap<>();
+		for (Node node : disjuncts) {
+			if (node instanceof Leaf leaf && isEquality(leaf.predicate)) {
+				valuesByField.computeIfAbsent(leaf.predicate.field(), field -> new LinkedHashSet<>())
+							 .addAll(leaf.predicate.values());
+			}
+		}
+		List<Node> merged = new ArrayList<>();
+		for (Node node : disjuncts) {
+			if (node instanceof Leaf leaf && isEquality(leaf.predicate)) {
+				LinkedHashSet<Object> values = valuesByField.remove(leaf.predicate.field());
+				if (values != null) {
+					merged.add(values.size() == 1 ? leaf(leaf.predicate.field(), SqlConditionOperator.EQ, List.copyOf(values))
+										  : leaf(leaf.predicate.field(), SqlConditionOperator.IN, new ArrayList<>(values)));
+				}
+			} else {
+				merged.add(node);
+			}
+		}
+		return merged;
+	}
+
+	private static boolean isEquality(Predicate predicate) {
+		return predicate.isMergeable()
+					   && (predicate.op() == SqlConditionOperator.EQ || predicate.op() == SqlConditionOperator.IN);
+	}
+
+	private static Leaf leaf(String field, SqlConditionOperator op, List<Object> values) {
+		String placeholders;
+		if (op == SqlConditionOperator.IN || op == SqlConditionOperator.NOT_IN) {
+			StringJoiner joiner = new StringJoiner(", ", "(", ")");
+			values.forEach(value -> joiner.add("?"));
+			placeholders = joiner.toString();
+		} else {
+			placeholders = "?";
+		}
+		return new Leaf(new Predicate(field + op + placeholders, Collections.unmodifiableList(values), field, op));
+	}
+
+	private static SqlCondition render(Node node) {
+		return switch (node) {
+			case Leaf leaf -> new SqlCondition(leaf.predicate);
+			case Junction junction -> {
+				SqlCondition condition = renderChild(junction, junction.children.get(0));
+				for (int i = 1; i < junction.children.size(); i++) {
+					SqlCondition next = renderChild(junction, junction.children.get(i));
+					condition = junction.op == SqlConditionOperator.AND ? condition.and(next) : condition.or(next);
+				}
+				yield condition;
+			}
+		};
+	}
+
+	private static SqlCondition renderChild(Junction parent, Node child) {
+		SqlCondition condition = render(child);
+		if (parent.op == SqlConditionOperator.AND && child instanceof Junction junction
+					&& junction.op == SqlConditionOperator.OR) {
+			return SqlCondition.parenthesized(condition);
+		}
+		return condition;
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.util.List;
+
+/**
+ * A term of a {@link SqlCondition}, rebuilt from its operands when the condition is analysed by
+ * {@link SqlConditionOptimizer}. The terms of a condition are joined by AND/OR operators in the same order they are
+ * rendered.
+ */
+sealed interface SqlConditionTerm {
+
+	/**
+	 * A single predicate. The field and operator are only set for comparisons against plain values that can be merged,
+	 * i.e. {@code field = ?}, {@code field IN (...)} and {@code field NOT IN (...)}.
+	 */
+	record Predicate(String sql, List<Object> values, String field, SqlConditionOperator op) implements SqlConditionTerm {
+		boolean isMergeable() { return this.field != null; }
+	}
+
+	/**
+	 * A nested condition rendered between parentheses.
+	 */
+	record Group(List<SqlConditionTerm> terms, List<SqlConditionOperator> operators) implements SqlConditionTerm { }
+
+}
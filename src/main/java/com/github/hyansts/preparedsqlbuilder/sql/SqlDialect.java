@@ -0,0 +1,256 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * The SQL flavour the queries are rendered in: pagination, upsert, existence checks, set operations, lateral joins,
+ * hints, placeholders and identifier quoting.
+ * <p>
+ * The default methods render the generic flavour used by the builders when no dialect is selected, implementations
+ * only need to override what their database does differently. The built-in implementations are the constants of
+ * {@link StandardSqlDialect}, the dialect is selected with
+ * {@link com.github.hyansts.preparedsqlbuilder.query.impl.SqlQueryFactory#setDialect(SqlDialect)}.
+ * <p>
+ * Implementations must be immutable and thread-safe, the same instance is shared by every query builder.
+ */
+public interface SqlDialect {
+
+	/**
+	 * @param keyword the keyword to be rendered.
+	 * @return the text the keyword is rendered as in this dialect.
+	 */
+	default String token(SqlKeyword keyword) {
+		return keyword.toString();
+	}
+
+	/**
+	 * @param ordered whether the query has an ORDER BY clause.
+	 * @return the clause limiting the rows of a query, with a single placeholder: {@code " LIMIT ?"}.
+	 */
+	default String limit(boolean ordered) {
+		return SqlKeyword.LIMIT + "?";
+	}
+
+	/**
+	 * @param ordered whether the query has an ORDER BY clause.
+	 * @return the clause limiting the rows of a query and skipping the first ones, with two placeholders in the order
+	 * given by {@link #isOffsetFirst()}: {@code " LIMIT ? OFFSET ?"}.
+	 */
+	default String limitOffset(boolean ordered) {
+		return SqlKeyword.LIMIT + "?" + SqlKeyword.OFFSET + "?";
+	}
+
+	/**
+	 * @return whether the offset placeholder precedes the limit one in {@link #limitOffset(boolean)}.
+	 */
+	default boolean isOffsetFirst() {
+		return false;
+	}
+
+	/**
+	 * @return the text wrapping a query to turn it into an existence check resulting in a single column, before the
+	 * query: {@code "SELECT EXISTS ("}.
+	 */
+	default String existsPrefix() {
+		return SqlKeyword.SELECT.toString() + SqlKeyword.EXISTS + "(";
+	}
+
+	/**
+	 * @return the text wrapping a query to turn it into an existence check, after the query: {@code ")"}.
+	 */
+	default String existsSuffix() {
+		return ")";
+	}
+
+	/**
+	 * @param field the name of an inserted field.
+	 * @return the reference to the value being inserted into the field, used to update a conflicting row:
+	 * {@code "EXCLUDED.field"}.
+	 */
+	default String insertedValue(String field) {
+		return "EXCLUDED." + field;
+	}
+
+	/**
+	 * @param fields the names of the inserted fields.
+	 * @param rows   the number of inserted rows, each one with a placeholder per field.
+	 * @return the fields and rows of an INSERT statement, following the table name:
+	 * {@code " (id, name) VALUES (?, ?), (?, ?)"}.
+	 */
+	default String insertedRows(List<String> fields, int rows) {
+		StringJoiner row = new StringJoiner(", ", "(", ")");
+		fields.forEach(field -> row.add("?"));
+		StringBuilder sql = new StringBuilder(" (").append(String.join(", ", fields)).append(')')
+												   .append(SqlKeyword.VALUES).append(row);
+		for (int i = 1; i < rows; i++) {
+			sql.append(", ").append(row);
+		}
+		return sql.toString();
+	}
+
+	/**
+	 * Renders an INSERT statement which updates the existing rows conflicting with the inserted ones, or skips them.
+	 * The placeholders of the inserted rows must precede the ones of the assignments.
+	 * <p>
+	 * Expected SQL:
+	 * {@code "INSERT INTO table (id, name) VALUES (?, ?) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name"}
+	 *
+	 * @param table          the name of the table.
+	 * @param fields         the names of the inserted fields.
+	 * @param rows           the number of inserted rows, each one with a placeholder per field.
+	 * @param conflictFields the names of the fields identifying a conflicting row, usually its primary key.
+	 * @param assignments    the assignments updating the conflicting rows, e.g.: {@code "name = ?"}, or none to skip
+	 *                       them.
+	 * @return the upsert statement.
+	 */
+	default String upsert(String table, List<String> fields, int rows, List<String> conflictFields,
+						  List<String> assignments) {
+		StringBuilder sql = new StringBuilder(SqlKeyword.INSERT_INTO + table).append(insertedRows(fields, rows));
+		sql.append(token(SqlKeyword.ON_CONFLICT));
+		if (!conflictFields.isEmpty()) {
+			sql.append(" (").append(String.join(", ", conflictFields)).append(')');
+		}
+		if (assignments.isEmpty()) {
+			return sql.append(token(SqlKeyword.DO_NOTHING)).toString();
+		}
+		return sql.append(token(SqlKeyword.DO_UPDATE_SET)).append(String.join(", ", assignments)).toString();
+	}
+
+	/**
+	 * @param subquery the definition of a correlated subquery, with its alias.
+	 * @param outer    whether the rows without a match are kept, as in a LEFT JOIN.
+	 * @return the join of the subquery to the preceding tables: {@code " LEFT JOIN LATERAL (...) AS s ON TRUE"} or
+	 * {@code " CROSS JOIN LATERAL (...) AS s"}.
+	 */
+	default String lateralJoin(String subquery, boolean outer) {
+		if (outer) {
+			return SqlKeyword.LEFT_JOIN.toString() + SqlKeyword.LATERAL + subquery + SqlKeyword.ON + token(SqlKeyword.TRUE);
+		}
+		return SqlKeyword.CROSS_JOIN.toString() + SqlKeyword.LATERAL + subquery;
+	}
+
+	/**
+	 * @return whether a single table UPDATE or DELETE statement can be limited by appending {@link #limit(boolean)} to
+	 * it: {@code "DELETE FROM table WHERE ... LIMIT ?"}. Chunked statements limit the rows through a primary key
+	 * subquery otherwise, which MySQL rejects. The limit is appended to the rendered statement, so only dialects with
+	 * {@code ?} placeholders should support it.
+	 */
+	default boolean supportsModificationLimit() {
+		return false;
+	}
+
+	/**
+	 * @return whether row values can be compared with {@code <} and {@code >}: {@code "(name, id) > (?, ?)"}. Keyset
+	 * pagination expands the comparison into single field ones otherwise.
+	 */
+	default boolean supportsRowValueComparison() {
+		return true;
+	}
+
+	/**
+	 * @return whether an UPDATE statement can read other tables through a FROM clause:
+	 * {@code "UPDATE employees AS e SET ... FROM department AS d WHERE ..."}. The FROM clause is rejected otherwise.
+	 */
+	default boolean supportsUpdateFrom() {
+		return true;
+	}
+
+	/**
+	 * @return whether a DELETE statement can read other tables through a USING clause:
+	 * {@code "DELETE FROM employees AS e USING department AS d WHERE ..."}. The USING clause is rejected otherwise.
+	 */
+	default boolean supportsDeleteUsing() {
+		return true;
+	}
+
+	/**
+	 * @return whether a field can be compared to the elements of an array bound to a single parameter:
+	 * {@code "id = ANY(?)"} and {@code "id <> ALL(?)"}. The conditions holding a {@link SqlArrayValue} are rejected
+	 * otherwise.
+	 */
+	default boolean supportsArrayComparison() {
+		return true;
+	}
+
+	/**
+	 * @param rows the number of rows of a single column VALUES derived table.
+	 * @return the rows of the table, each one with a placeholder: {@code "VALUES (?), (?)"}.
+	 * @throws IllegalArgumentException if the database has no VALUES derived tables.
+	 */
+	default String valuesRows(int rows) {
+		StringJoiner sql = new StringJoiner(", ", SqlKeyword.VALUES.toString().trim() + " ", "");
+		for (int i = 0; i < rows; i++) {
+			sql.add("(?)");
+		}
+		return sql.toString();
+	}
+
+	/**
+	 * @param table   the table the rows are loaded into.
+	 * @param columns the columns of the rows, in the order their values are written.
+	 * @return the statement bulk loading CSV rows sent by the client:
+	 * {@code "COPY employees (id, name) FROM STDIN (FORMAT csv)"}.
+	 * @throws IllegalArgumentException if the database has no bulk load statement.
+	 */
+	default String bulkLoad(String table, List<String> columns) {
+		return "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN (FORMAT csv)";
+	}
+
+	/**
+	 * @return whether {@link #bulkLoad(String, List)} renders MySQL's LOAD DATA, which reads the nulls written as
+	 * {@code NULL} and can't decode byte arrays.
+	 */
+	default boolean isBulkLoadedWithLoadData() {
+		return false;
+	}
+
+	/**
+	 * @param hint a statement hint.
+	 * @return the hint rendered in the hint comment: {@code "PARALLEL(4)"}, or an empty string if the database can't
+	 * express it.
+	 */
+	default String hint(SqlHint hint) {
+		return hint.getDefinition();
+	}
+
+	/**
+	 * @param hints the definitions of the statement hints, e.g.: {@code "PARALLEL(4)"}.
+	 * @return the hint comment rendered after the first keyword of the statement: {@code " /*+ PARALLEL(4) *&#47;"}, or
+	 * an empty string if the database has no such hints.
+	 */
+	default String hintComment(List<String> hints) {
+		return " /*+ " + String.join(" ", hints) + " */";
+	}
+
+	/**
+	 * @param hint a hint attached to a table.
+	 * @return the hint rendered after the table definition: {@code " USE INDEX (idx_age)"}, or an empty string if the
+	 * database has no such hint.
+	 */
+	default String tableHint(SqlTableHint hint) {
+		return " " + hint.getDefinition();
+	}
+
+	/**
+	 * Replaces the {@code ?} placeholders of the final SQL query, outside of quoted text, by the ones of this dialect.
+	 *
+	 * @param sql the SQL query with {@code ?} placeholders.
+	 * @return the SQL query with the placeholders of this dialect.
+	 */
+	default String renderPlaceholders(String sql) {
+		return sql;
+	}
+
+	/**
+	 * Quotes an identifier so it can be a reserved word or contain special characters, to be used where the table or
+	 * field name is declared: {@code new DbTableField<>(dialect.quote("order"), this, String.class)}.
+	 *
+	 * @param identifier the identifier to be quoted.
+	 * @return the quoted identifier: {@code "\"order\""}.
+	 */
+	default String quote(String identifier) {
+		return '"' + identifier.replace("\"", "\"\"") + '"';
+	}
+
+}
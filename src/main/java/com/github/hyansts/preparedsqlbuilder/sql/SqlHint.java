@@ -0,0 +1,156 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbTable;
+import com.github.hyansts.preparedsqlbuilder.db.DbTableLike;
+import com.github.hyansts.preparedsqlbuilder.util.StringUtil;
+
+/**
+ * An optimizer hint for a whole statement, rendered in a hint comment right after its first keyword, as supported by
+ * Oracle, MySQL and the pg_hint_plan extension of PostgreSQL:
+ * <pre>SELECT /*+ LEADING(e d) PARALLEL(4) *&#47; e.id FROM employees AS e ...</pre>
+ * <p>
+ * Tables referenced by a hint are rendered by their alias, or by their name if they have no alias, when the query is
+ * built, so they match the tables in the FROM and JOIN clauses.
+ * <p>
+ * The factory methods create hints rendered by the query's dialect: with the names and argument syntax of Oracle, of
+ * pg_hint_plan in PostgreSQL, e.g.: {@code "Leading((e d))"}, or of MySQL, e.g.: {@code "JOIN_ORDER(e, d)"}. Hints a
+ * dialect can't express are left out. Other hints can be created with {@link #of(String, Object...)}, they are rendered
+ * as is in every dialect with hint comments.
+ * <p>
+ * Hints are attached to a statement with {@link com.github.hyansts.preparedsqlbuilder.query.SqlQuery#hint}.
+ */
+public final class SqlHint {
+
+	/**
+	 * The kind of a hint created by the factory methods.
+	 */
+	enum Kind { PARALLEL, LEADING, INDEX }
+
+	private final String name;
+	private final Object[] args;
+	private final Kind kind;
+
+	private SqlHint(String name, Object[] args, Kind kind) {
+		this.name = name;
+		this.args = args;
+		this.kind = kind;
+	}
+
+	/**
+	 * @param name the name of the hint.
+	 * @param args the arguments of the hint, tables are rendered by their alias or name.
+	 * @return a hint rendered as {@code "NAME(arg1 arg2)"}, or {@code "NAME"} if there are no arguments.
+	 */
+	public static SqlHint of(String name, Object... args) {
+		return new SqlHint(name, args, null);
+	}
+
+	/**
+	 * @param degree the number of parallel workers.
+	 * @return a hint rendered as {@code "PARALLEL(4)"}, left out in the databases that only set it per table.
+	 */
+	public static SqlHint parallel(int degree) {
+		return new SqlHint("PARALLEL", new Object[]{checkDegree(degree)}, Kind.PARALLEL);
+	}
+
+	/**
+	 * @param table  the table to be scanned in parallel.
+	 * @param degree the number of parallel workers.
+	 * @return a hint rendered as {@code "PARALLEL(e 4)"}, or {@code "Parallel(e 4)"} in PostgreSQL.
+	 */
+	public static SqlHint parallel(DbTableLike table, int degree) {
+		return new SqlHint("PARALLEL", new Object[]{table, checkDegree(degree)}, Kind.PARALLEL);
+	}
+
+	/**
+	 * @param tables the tables in the order they should be joined.
+	 * @return a hint rendered as {@code "LEADING(e d)"}, {@code "Leading((e d))"} in PostgreSQL or
+	 * {@code "JOIN_ORDER(e, d)"} in MySQL.
+	 */
+	public static SqlHint leading(DbTableLike... tables) {
+		return new SqlHint("LEADING", tables, Kind.LEADING);
+	}
+
+	/**
+	 * @param table   the table to be read through the given indexes.
+	 * @param indexes the indexes to be used.
+	 * @return a hint rendered as {@code "INDEX(e idx_age)"}, or {@code "IndexScan(e idx_age)"} in PostgreSQL.
+	 */
+	public static SqlHint index(DbTableLike table, String... indexes) {
+		Object[] args = new Object[indexes.length + 1];
+		args[0] = table;
+		System.arraycopy(indexes, 0, args, 1, indexes.length);
+		return new SqlHint("INDEX", args, Kind.INDEX);
+	}
+
+	/**
+	 * @return the definition of this hint, in the Oracle syntax of the factory methods, e.g.: "LEADING(e d)"
+	 */
+	public String getDefinition() {
+		if (this.args.length == 0) {
+			return this.name;
+		}
+		StringJoiner joiner = new StringJoiner(" ", this.name + "(", ")");
+		for (Object arg : this.args) {
+			joiner.add(arg instanceof DbTableLike table ? reference(table) : String.valueOf(arg));
+		}
+		return joiner.toString();
+	}
+
+	@Override
+	public String toString() {
+		return getDefinition();
+	}
+
+	/**
+	 * @return the kind of hint, or {@code null} if the hint was created with {@link #of(String, Object...)}.
+	 */
+	Kind getKind() {
+		return this.kind;
+	}
+
+	/**
+	 * @return the references of the tables of the hint, rendered by their alias or name.
+	 */
+	List<String> getTables() {
+		List<String> tables = new ArrayList<>(this.args.length);
+		for (Object arg : this.args) {
+			if (arg instanceof DbTableLike table) {
+				tables.add(reference(table));
+			}
+		}
+		return tables;
+	}
+
+	/**
+	 * @return the arguments of the hint which are not tables, e.g.: the parallel degree or the indexes.
+	 */
+	List<String> getValues() {
+		List<String> values = new ArrayList<>(this.args.length);
+		for (Object arg : this.args) {
+			if (!(arg instanceof DbTableLike)) {
+				values.add(String.valueOf(arg));
+			}
+		}
+		return values;
+	}
+
+	private static int checkDegree(int degree) {
+		if (degree <= 0) {
+			throw new IllegalArgumentException("Parallel degree must be positive: " + degree);
+		}
+		return degree;
+	}
+
+	private static String reference(DbTableLike table) {
+		if (!StringUtil.isBlank(table.getAlias())) {
+			return table.getAlias();
+		}
+		return table instanceof DbTable dbTable ? dbTable.getFullTableName() : table.getDefinition();
+	}
+
+}
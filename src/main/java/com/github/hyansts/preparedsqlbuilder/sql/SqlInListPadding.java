@@ -0,0 +1,82 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pads the values of IN and NOT IN lists up to a fixed set of sizes, so that lists of varying lengths are rendered with
+ * a small number of distinct SQL strings, which can then be reused by the statement and plan caches.
+ * <p>
+ * Lists are padded by repeating their last value, which does not change the result of the condition.
+ * <p>
+ * Example: {@code employees.id.in(List.of(1, 2, 3), SqlInListPadding.POWERS_OF_TWO)}
+ * <p>
+ * Expected SQL: {@code "id IN (?, ?, ?, ?)"}, with the values {@code [1, 2, 3, 3]}.
+ */
+public final class SqlInListPadding {
+
+	/**
+	 * Pads lists to the next power of two: 1, 2, 4, 8, 16, ...
+	 */
+	public static final SqlInListPadding POWERS_OF_TWO = new SqlInListPadding(null);
+
+	private final int[] bucketSizes;
+
+	private SqlInListPadding(int[] bucketSizes) { this.bucketSizes = bucketSizes; }
+
+	/**
+	 * Creates a padding with a custom ladder of sizes. Lists larger than the last size are padded to the next multiple
+	 * of it.
+	 *
+	 * @param bucketSizes the sizes to pad the lists to, in ascending order.
+	 * @return the padding.
+	 */
+	public static SqlInListPadding of(int... bucketSizes) {
+		if (bucketSizes.length == 0) {
+			throw new IllegalArgumentException("At least one bucket size is required");
+		}
+		for (int i = 0; i < bucketSizes.length; i++) {
+			if (bucketSizes[i] <= 0 || (i > 0 && bucketSizes[i] <= bucketSizes[i - 1])) {
+				throw new IllegalArgumentException("Bucket sizes must be positive and in ascending order: "
+														   + Arrays.toString(bucketSizes));
+			}
+		}
+		return new SqlInListPadding(bucketSizes.clone());
+	}
+
+	/**
+	 * @param size the number of values in the list.
+	 * @return the number of values the list is padded to, or 0 if the list is empty.
+	 */
+	public int bucketSize(int size) {
+		if (size <= 0) {
+			return 0;
+		}
+		if (this.bucketSizes == null) {
+			return size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+		}
+		for (int bucketSize : this.bucketSizes) {
+			if (size <= bucketSize) {
+				return bucketSize;
+			}
+		}
+		int largest = this.bucketSizes[this.bucketSizes.length - 1];
+		return (size + largest - 1) / largest * largest;
+	}
+
+	/**
+	 * @param values the values of the list.
+	 * @return a new list with the given values padded to the bucket size by repeating the last one.
+	 */
+	public <T> List<T> pad(Iterable<T> values) {
+		List<T> padded = new ArrayList<>();
+		values.forEach(padded::add);
+		int bucketSize = bucketSize(padded.size());
+		while (padded.size() < bucketSize) {
+			padded.add(padded.getLast());
+		}
+		return padded;
+	}
+
+}
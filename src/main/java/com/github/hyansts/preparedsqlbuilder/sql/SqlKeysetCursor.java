@@ -0,0 +1,144 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The position of a page in a keyset (seek) pagination: the values of the ORDER BY fields in the last row of the page.
+ * <p>
+ * The next page is selected by passing the cursor to {@code OrderByStep.seekAfter}, which filters out the rows up to
+ * and including that position instead of scanning and discarding them as OFFSET does.
+ * <p>
+ * A cursor can be handed to clients as an opaque token through {@link #encode()} and read back with
+ * {@link #decode(String)}. Only strings, numbers, booleans, UUIDs and the usual {@code java.time} types are supported,
+ * so decoding a token never instantiates arbitrary classes.
+ */
+public final class SqlKeysetCursor implements Serializable {
+
+	private enum ValueType {
+		STRING(String.class, value -> value),
+		INTEGER(Integer.class, Integer::valueOf),
+		LONG(Long.class, Long::valueOf),
+		DOUBLE(Double.class, Double::valueOf),
+		BOOLEAN(Boolean.class, Boolean::valueOf),
+		BIG_DECIMAL(BigDecimal.class, BigDecimal::new),
+		UUID(java.util.UUID.class, java.util.UUID::fromString),
+		LOCAL_DATE(LocalDate.class, LocalDate::parse),
+		LOCAL_DATE_TIME(LocalDateTime.class, LocalDateTime::parse),
+		OFFSET_DATE_TIME(OffsetDateTime.class, OffsetDateTime::parse),
+		INSTANT(Instant.class, Instant::parse);
+
+		private final Class<?> type;
+		private final Function<String, Object> parser;
+
+		ValueType(Class<?> type, Function<String, Object> parser) {
+			this.type = type;
+			this.parser = parser;
+		}
+
+		private static ValueType of(Object value) {
+			for (ValueType valueType : values()) {
+				if (valueType.type == value.getClass()) {
+					return valueType;
+				}
+			}
+			throw new IllegalArgumentException("Unsupported keyset value type: " + value.getClass().getName());
+		}
+	}
+
+	private final List<Object> values;
+
+	private SqlKeysetCursor(List<Object> values) { this.values = values; }
+
+	/**
+	 * @param values the values of the ORDER BY fields in the last row of the page, in the same order.
+	 * @return a new cursor.
+	 */
+	public static SqlKeysetCursor of(Object... values) {
+		return of(List.of(values));
+	}
+
+	/**
+	 * @param values the values of the ORDER BY fields in the last row of the page, in the same order.
+	 * @return a new cursor.
+	 */
+	public static SqlKeysetCursor of(List<?> values) {
+		if (values.isEmpty()) {
+			throw new IllegalArgumentException("A keyset cursor requires at least one value");
+		}
+		List<Object> copy = new ArrayList<>(values.size());
+		for (Object value : values) {
+			ValueType.of(value);
+			copy.add(value);
+		}
+		return new SqlKeysetCursor(Collections.unmodifiableList(copy));
+	}
+
+	/**
+	 * @return the cursor as a URL-safe token to be sent to clients.
+	 */
+	public String encode() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(this.values.size());
+			for (Object value : this.values) {
+				out.writeByte(ValueType.of(value).ordinal());
+				out.writeUTF(value.toString());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+	}
+
+	/**
+	 * @param token a token created by {@link #encode()}.
+	 * @return the cursor read from the token.
+	 * @throws IllegalArgumentException if the token is not a valid cursor.
+	 */
+	public static SqlKeysetCursor decode(String token) {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+			int size = in.readUnsignedByte();
+			List<Object> values = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				ValueType valueType = ValueType.values()[in.readUnsignedByte()];
+				values.add(valueType.parser.apply(in.readUTF()));
+			}
+			if (in.read() != -1) {
+				throw new IllegalArgumentException("Invalid keyset cursor: " + token);
+			}
+			return of(values);
+		} catch (IOException | RuntimeException e) {
+			throw new IllegalArgumentException("Invalid keyset cursor: " + token, e);
+		}
+	}
+
+	public List<Object> getValues() { return this.values; }
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof SqlKeysetCursor other && this.values.equals(other.values);
+	}
+
+	@Override
+	public int hashCode() { return this.values.hashCode(); }
+
+	@Override
+	public String toString() { return this.values.toString(); }
+
+}
@@ -13,14 +13,28 @@ public enum SqlKeyword {
 	RIGHT_JOIN(" RIGHT JOIN "),
 	FULL_JOIN(" FULL JOIN "),
 	CROSS_JOIN(" CROSS JOIN "),
+	LATERAL("LATERAL "),
+	CROSS_APPLY(" CROSS APPLY "),
+	OUTER_APPLY(" OUTER APPLY "),
 	ON(" ON "),
+	USING(" USING "),
 	SET(" SET "),
+	ON_CONFLICT(" ON CONFLICT"),
+	DO_NOTHING(" DO NOTHING"),
+	DO_UPDATE_SET(" DO UPDATE SET "),
+	ON_DUPLICATE_KEY_UPDATE(" ON DUPLICATE KEY UPDATE "),
+	MERGE_INTO("MERGE INTO "),
+	WHEN_MATCHED(" WHEN MATCHED THEN UPDATE SET "),
+	WHEN_NOT_MATCHED(" WHEN NOT MATCHED THEN INSERT "),
 	DISTINCT("DISTINCT "),
 	ORDER_BY(" ORDER BY "),
 	GROUP_BY(" GROUP BY "),
 	HAVING(" HAVING "),
 	LIMIT(" LIMIT "),
 	OFFSET(" OFFSET "),
+	FETCH_NEXT(" FETCH NEXT "),
+	ROWS(" ROWS"),
+	ROWS_ONLY(" ROWS ONLY"),
 	UNION(" UNION "),
 	UNION_ALL(" UNION ALL "),
 	INTERSECT(" INTERSECT "),
@@ -28,8 +42,13 @@ public enum SqlKeyword {
 	EXCEPT(" EXCEPT "),
 	EXCEPT_ALL(" EXCEPT ALL "),
 	AS(" AS "),
+	TABLE_AS(" AS "),
+	OVER(" OVER "),
+	WITH("WITH "),
+	RECURSIVE("RECURSIVE "),
 	EXISTS("EXISTS "),
-	NOT_EXISTS("NOT EXISTS ");
+	NOT_EXISTS("NOT EXISTS "),
+	TRUE("TRUE");
 
 	private final String keyword;
 
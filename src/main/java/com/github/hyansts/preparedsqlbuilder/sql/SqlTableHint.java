@@ -0,0 +1,97 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.util.List;
+
+/**
+ * An index hint attached to a table reference in the FROM or JOIN clauses, rendered after the table definition:
+ * {@code "employees AS e USE INDEX (idx_age)"}.
+ * <p>
+ * The factory methods create index hints, rendered by the query's dialect: {@code "USE INDEX (idx_age)"} in MySQL and
+ * MariaDB, {@code "WITH (INDEX(idx_age))"} in SQL Server, and left out in the databases without table hints. Other
+ * forms can be created with {@link #of(String)}, they are rendered as is in every dialect.
+ * <p>
+ * Hints are attached to a table with {@link com.github.hyansts.preparedsqlbuilder.db.impl.BaseDbTable#withHints}.
+ */
+public final class SqlTableHint {
+
+	/**
+	 * The kind of an index hint created by the factory methods.
+	 */
+	enum IndexHint { USE, FORCE, IGNORE }
+
+	private final String definition;
+	private final IndexHint indexHint;
+	private final List<String> indexes;
+
+	private SqlTableHint(String definition, IndexHint indexHint, List<String> indexes) {
+		this.definition = definition;
+		this.indexHint = indexHint;
+		this.indexes = indexes;
+	}
+
+	/**
+	 * @param indexes the indexes the database should choose from.
+	 * @return a hint rendered as {@code "USE INDEX (index1, index2)"}.
+	 */
+	public static SqlTableHint useIndex(String... indexes) {
+		return indexHint(IndexHint.USE, indexes);
+	}
+
+	/**
+	 * @param indexes the indexes the database should use instead of a table scan.
+	 * @return a hint rendered as {@code "FORCE INDEX (index1, index2)"}.
+	 */
+	public static SqlTableHint forceIndex(String... indexes) {
+		return indexHint(IndexHint.FORCE, indexes);
+	}
+
+	/**
+	 * @param indexes the indexes the database should not use.
+	 * @return a hint rendered as {@code "IGNORE INDEX (index1, index2)"}.
+	 */
+	public static SqlTableHint ignoreIndex(String... indexes) {
+		return indexHint(IndexHint.IGNORE, indexes);
+	}
+
+	/**
+	 * @param definition the hint, rendered as is.
+	 * @return a hint with the given definition.
+	 */
+	public static SqlTableHint of(String definition) {
+		return new SqlTableHint(definition, null, List.of());
+	}
+
+	/**
+	 * @return the definition of this hint, e.g.: "USE INDEX (idx_age)"
+	 */
+	public String getDefinition() {
+		return this.definition;
+	}
+
+	@Override
+	public String toString() {
+		return this.definition;
+	}
+
+	/**
+	 * @return the kind of index hint, or {@code null} if the hint was created with {@link #of(String)}.
+	 */
+	IndexHint getIndexHint() {
+		return this.indexHint;
+	}
+
+	/**
+	 * @return the indexes of the index hint.
+	 */
+	List<String> getIndexes() {
+		return this.indexes;
+	}
+
+	private static SqlTableHint indexHint(IndexHint kind, String... indexes) {
+		if (indexes.length == 0) {
+			throw new IllegalArgumentException("At least one index is required");
+		}
+		return new SqlTableHint(kind + " INDEX (" + String.join(", ", indexes) + ")", kind, List.of(indexes));
+	}
+
+}
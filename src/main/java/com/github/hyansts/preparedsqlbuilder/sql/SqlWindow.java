@@ -0,0 +1,83 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.util.StringJoiner;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldLike;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldOrder;
+
+/**
+ * The window of a window function, defined by the fields the rows are partitioned by and the order of the rows within
+ * each partition.
+ * <p>
+ * Example: {@code SqlWindow.partitionBy(employees.department_id).orderBy(employees.salary.desc())}
+ * <p>
+ * Expected SQL: {@code "(PARTITION BY department_id ORDER BY salary DESC)"}
+ * <p>
+ * The window is rendered when the query is built, so the partition fields are qualified with the aliases of their
+ * tables in the query. The order fields are qualified when their order is created.
+ */
+public final class SqlWindow {
+
+	private static final SqlWindow EMPTY = new SqlWindow(new DbFieldLike[0], new DbFieldOrder[0]);
+
+	private final DbFieldLike[] partitionFields;
+	private final DbFieldOrder[] fieldOrders;
+
+	private SqlWindow(DbFieldLike[] partitionFields, DbFieldOrder[] fieldOrders) {
+		this.partitionFields = partitionFields;
+		this.fieldOrders = fieldOrders;
+	}
+
+	/**
+	 * @return a window spanning all the rows of the result set, which are not ordered: {@code "()"}.
+	 */
+	public static SqlWindow empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * @param fields the fields the rows are partitioned by.
+	 * @return a window spanning the rows with the same values for the given fields.
+	 */
+	public static SqlWindow partitionBy(DbFieldLike... fields) {
+		return new SqlWindow(fields.clone(), EMPTY.fieldOrders);
+	}
+
+	/**
+	 * @param fields the order of the rows within each partition.
+	 * @return a new window with the same partitions as this one, with its rows in the given order.
+	 */
+	public SqlWindow orderBy(DbFieldOrder... fields) {
+		return new SqlWindow(this.partitionFields, fields.clone());
+	}
+
+	/**
+	 * @return the definition of this window, e.g.: "(PARTITION BY department_id ORDER BY salary DESC)"
+	 */
+	public String getDefinition() {
+		StringJoiner definition = new StringJoiner(" ", "(", ")");
+		if (this.partitionFields.length > 0) {
+			StringJoiner fields = new StringJoiner(", ", "PARTITION BY ", "");
+			for (DbFieldLike field : this.partitionFields) {
+				fields.add(field.getFullQualification());
+			}
+			definition.add(fields.toString());
+		}
+		if (this.fieldOrders.length > 0) {
+			StringJoiner fields = new StringJoiner(", ", "ORDER BY ", "");
+			for (DbFieldOrder fieldOrder : this.fieldOrders) {
+				fields.add(fieldOrder.getOrder() != null
+								   ? fieldOrder.getFieldQualification() + fieldOrder.getOrder()
+								   : fieldOrder.getFieldQualification());
+			}
+			definition.add(fields.toString());
+		}
+		return definition.toString();
+	}
+
+	@Override
+	public String toString() {
+		return getDefinition();
+	}
+
+}
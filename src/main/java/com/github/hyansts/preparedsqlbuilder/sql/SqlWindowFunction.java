@@ -0,0 +1,27 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.util.StringJoiner;
+
+/**
+ * An enumeration of SQL window functions, which compute a value for each row from the rows of its window.
+ * <p>
+ * Aggregate functions can also be computed over a window, see {@link SqlAggregator}.
+ */
+public enum SqlWindowFunction {
+	ROW_NUMBER, RANK, DENSE_RANK, LAG, LEAD;
+
+	/**
+	 * Applies the current window function to the given arguments.
+	 *
+	 * @param args the arguments of the function, if any.
+	 * @return the string representation of the window function applied to the given arguments, e.g.: "LAG(salary, 1)"
+	 */
+	public String applyTo(Object... args) {
+		StringJoiner joiner = new StringJoiner(", ", "(", ")");
+		for (Object arg : args) {
+			joiner.add(String.valueOf(arg));
+		}
+		return this + joiner.toString();
+	}
+
+}
@@ -0,0 +1,419 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * The built-in SQL dialects. Each one renders the native constructs of its database, precomputed when the dialect is
+ * created, so rendering a query in a dialect costs a table lookup:
+ * <ul>
+ * <li>Pagination: {@code LIMIT ? OFFSET ?}, or {@code OFFSET ? ROWS FETCH NEXT ? ROWS ONLY} in H2, Oracle and
+ * SQL Server. SQL Server only accepts it after an ORDER BY clause, so {@code ORDER BY (SELECT NULL)} is added to
+ * unordered queries.</li>
+ * <li>Upsert: {@code ON CONFLICT} in PostgreSQL and SQLite, {@code ON DUPLICATE KEY UPDATE} in MySQL, and
+ * {@code MERGE} in H2, Oracle and SQL Server. H2 uses its {@code MERGE INTO ... KEY} form when every inserted field
+ * that is not part of the key is updated.</li>
+ * <li>Existence checks: {@code SELECT EXISTS (...)}, or {@code SELECT CASE WHEN EXISTS (...) THEN 1 ELSE 0 END} in
+ * Oracle and SQL Server, which have no boolean type.</li>
+ * <li>Placeholders: {@code ?}, or {@code $1, $2, ...} in {@link #POSTGRESQL_NATIVE}, for the drivers speaking the
+ * native PostgreSQL protocol.</li>
+ * <li>Identifier quoting: {@code "name"}, {@code `name`} in MySQL and {@code [name]} in SQL Server.</li>
+ * <li>Table aliases: {@code employees AS e}, or {@code employees e} in Oracle.</li>
+ * <li>Lateral joins: {@code LEFT JOIN LATERAL (...) AS s ON TRUE}, or {@code OUTER APPLY} and {@code CROSS APPLY} in
+ * Oracle and SQL Server.</li>
+ * <li>Keyset pagination: row value comparisons {@code (name, id) > (?, ?)}, expanded into single field comparisons in
+ * Oracle and SQL Server.</li>
+ * <li>Chunked UPDATE and DELETE statements: limited through a primary key subquery, or with a trailing
+ * {@code LIMIT ?} in MySQL, which rejects LIMIT in IN subqueries.</li>
+ * <li>Bulk loads of CSV rows: {@code COPY ... FROM STDIN (FORMAT csv)} in PostgreSQL and
+ * {@code LOAD DATA LOCAL INFILE ...} in MySQL, whose file name is ignored by the drivers streaming the rows, e.g.:
+ * after {@code setLocalInfileInputStream} in Connector/J. They are rejected in the other databases.</li>
+ * <li>Hints: the statement hint comment {@code /*+ ... *&#47;} is only rendered in PostgreSQL, MySQL and Oracle, with
+ * the hint names of Oracle, of pg_hint_plan in PostgreSQL, e.g.: {@code Leading((e d))}, and of MySQL, e.g.:
+ * {@code JOIN_ORDER(e, d)}. Hints a database can't express, like a parallel degree in MySQL, are left out. Index
+ * hints are rendered as {@code USE INDEX (...)} in MySQL, {@code WITH (INDEX(...))} in SQL Server, where
+ * {@code IGNORE INDEX} has no equivalent, and left out in the other databases.</li>
+ * <li>Multi-table UPDATE and DELETE statements: {@code UPDATE ... FROM} in PostgreSQL and SQLite, and
+ * {@code DELETE ... USING} in PostgreSQL. Both are rejected in the other databases, which either lack them or join the
+ * tables with a different syntax, e.g.: {@code UPDATE t JOIN ...} in MySQL.</li>
+ * <li>Array comparisons: {@code id = ANY(?)} and {@code id <> ALL(?)}, only supported in PostgreSQL and H2.</li>
+ * <li>VALUES derived tables: {@code (VALUES (?), (?)) AS t(c)}, or {@code (VALUES ROW(?), ROW(?)) AS t(c)} in MySQL.
+ * They are rejected in SQLite, which can't name their columns, and in Oracle.</li>
+ * </ul>
+ * {@link #GENERIC} is the flavour the builders render when no dialect is selected.
+ */
+public final class StandardSqlDialect implements SqlDialect {
+
+	private enum Pagination {
+		LIMIT_OFFSET(SqlKeyword.LIMIT + "?", SqlKeyword.LIMIT + "?" + SqlKeyword.OFFSET + "?", "", false),
+		OFFSET_FETCH(SqlKeyword.FETCH_NEXT + "?" + SqlKeyword.ROWS_ONLY,
+					 SqlKeyword.OFFSET + "?" + SqlKeyword.ROWS + SqlKeyword.FETCH_NEXT + "?" + SqlKeyword.ROWS_ONLY, "", true),
+		ORDERED_OFFSET_FETCH(SqlKeyword.OFFSET + "0" + SqlKeyword.ROWS + SqlKeyword.FETCH_NEXT + "?" + SqlKeyword.ROWS_ONLY,
+							 SqlKeyword.OFFSET + "?" + SqlKeyword.ROWS + SqlKeyword.FETCH_NEXT + "?" + SqlKeyword.ROWS_ONLY,
+							 SqlKeyword.ORDER_BY + "(SELECT NULL)", true);
+
+		private final String limit;
+		private final String limitOffset;
+		private final String unorderedLimit;
+		private final String unorderedLimitOffset;
+		private final boolean offsetFirst;
+
+		Pagination(String limit, String limitOffset, String unorderedPrefix, boolean offsetFirst) {
+			this.limit = limit;
+			this.limitOffset = limitOffset;
+			this.unorderedLimit = unorderedPrefix + limit;
+			this.unorderedLimitOffset = unorderedPrefix + limitOffset;
+			this.offsetFirst = offsetFirst;
+		}
+	}
+
+	private enum Upsert { ON_CONFLICT, ON_DUPLICATE_KEY, MERGE, MERGE_KEY, MERGE_FROM_DUAL }
+
+	private enum Option {
+		CASE_EXISTS, EXISTS_FROM_DUAL, NUMBERED_PLACEHOLDERS, APPLY, ROW_VALUE_COMPARISON, HINT_COMMENTS, INDEX_HINTS,
+		TABLE_INDEX_HINTS, MODIFICATION_LIMIT, VALUES_TABLES, ROW_CONSTRUCTORS, ARRAY_COMPARISON, UPDATE_FROM,
+		DELETE_USING, COPY, LOAD_DATA, HINT_PLAN_HINTS, JOIN_ORDER_HINTS
+	}
+
+	private static final String CASE_WHEN = "CASE WHEN ";
+	private static final String CASE_END = " THEN 1 ELSE 0 END";
+	private static final String TARGET = "t";
+	private static final String SOURCE = "s";
+
+	public static final StandardSqlDialect GENERIC =
+			new StandardSqlDialect("Generic", Pagination.LIMIT_OFFSET, Upsert.ON_CONFLICT, "\"", "\"",
+								   Set.of(Option.ROW_VALUE_COMPARISON, Option.HINT_COMMENTS, Option.INDEX_HINTS,
+										  Option.VALUES_TABLES, Option.ARRAY_COMPARISON, Option.UPDATE_FROM,
+										  Option.DELETE_USING, Option.COPY), Map.of());
+
+	public static final StandardSqlDialect POSTGRESQL =
+			new StandardSqlDialect("PostgreSQL", Pagination.LIMIT_OFFSET, Upsert.ON_CONFLICT, "\"", "\"",
+								   Set.of(Option.ROW_VALUE_COMPARISON, Option.HINT_COMMENTS, Option.HINT_PLAN_HINTS,
+										  Option.VALUES_TABLES, Option.ARRAY_COMPARISON, Option.UPDATE_FROM,
+										  Option.DELETE_USING, Option.COPY), Map.of());
+
+	public static final StandardSqlDialect POSTGRESQL_NATIVE =
+			new StandardSqlDialect("PostgreSQL native", Pagination.LIMIT_OFFSET, Upsert.ON_CONFLICT, "\"", "\"",
+								   Set.of(Option.NUMBERED_PLACEHOLDERS, Option.ROW_VALUE_COMPARISON, Option.HINT_COMMENTS,
+										  Option.HINT_PLAN_HINTS, Option.VALUES_TABLES, Option.ARRAY_COMPARISON,
+										  Option.UPDATE_FROM, Option.DELETE_USING, Option.COPY), Map.of());
+
+	public static final StandardSqlDialect MYSQL =
+			new StandardSqlDialect("MySQL", Pagination.LIMIT_OFFSET, Upsert.ON_DUPLICATE_KEY, "`", "`",
+								   Set.of(Option.ROW_VALUE_COMPARISON, Option.HINT_COMMENTS, Option.JOIN_ORDER_HINTS,
+										  Option.INDEX_HINTS, Option.MODIFICATION_LIMIT, Option.VALUES_TABLES,
+										  Option.ROW_CONSTRUCTORS, Option.LOAD_DATA), Map.of());
+
+	public static final StandardSqlDialect SQLITE =
+			new StandardSqlDialect("SQLite", Pagination.LIMIT_OFFSET, Upsert.ON_CONFLICT, "\"", "\"",
+								   Set.of(Option.ROW_VALUE_COMPARISON, Option.UPDATE_FROM), Map.of());
+
+	public static final StandardSqlDialect H2 =
+			new StandardSqlDialect("H2", Pagination.OFFSET_FETCH, Upsert.MERGE_KEY, "\"", "\"",
+								   Set.of(Option.ROW_VALUE_COMPARISON, Option.VALUES_TABLES, Option.ARRAY_COMPARISON),
+								   Map.of());
+
+	public static final StandardSqlDialect ORACLE =
+			new StandardSqlDialect("Oracle", Pagination.OFFSET_FETCH, Upsert.MERGE_FROM_DUAL, "\"", "\"",
+								   Set.of(Option.CASE_EXISTS, Option.EXISTS_FROM_DUAL, Option.APPLY, Option.HINT_COMMENTS),
+								   Map.of(SqlKeyword.EXCEPT, " MINUS ", SqlKeyword.TRUE, "1 = 1", SqlKeyword.TABLE_AS, " "));
+
+	public static final StandardSqlDialect SQL_SERVER =
+			new StandardSqlDialect("SQL Server", Pagination.ORDERED_OFFSET_FETCH, Upsert.MERGE, "[", "]",
+								   Set.of(Option.CASE_EXISTS, Option.APPLY, Option.TABLE_INDEX_HINTS, Option.VALUES_TABLES),
+								   Map.of(SqlKeyword.TRUE, "1 = 1"));
+
+	private final String name;
+	private final Pagination pagination;
+	private final Upsert upsert;
+	private final String existsPrefix;
+	private final String existsSuffix;
+	private final String openQuote;
+	private final String closeQuote;
+	private final Set<Option> options;
+	private final String[] tokens;
+
+	private StandardSqlDialect(String name, Pagination pagination, Upsert upsert, String openQuote, String closeQuote,
+							   Set<Option> options, Map<SqlKeyword, String> tokens) {
+		boolean caseExists = options.contains(Option.CASE_EXISTS);
+		this.name = name;
+		this.pagination = pagination;
+		this.upsert = upsert;
+		this.existsPrefix = SqlKeyword.SELECT + (caseExists ? CASE_WHEN : "") + SqlKeyword.EXISTS + "(";
+		this.existsSuffix = ")" + (caseExists ? CASE_END : "")
+									+ (options.contains(Option.EXISTS_FROM_DUAL) ? SqlKeyword.FROM + "DUAL" : "");
+		this.openQuote = openQuote;
+		this.closeQuote = closeQuote;
+		this.options = options;
+		this.tokens = new String[SqlKeyword.values().length];
+		for (SqlKeyword keyword : SqlKeyword.values()) {
+			this.tokens[keyword.ordinal()] = tokens.getOrDefault(keyword, keyword.toString());
+		}
+	}
+
+	@Override
+	public String token(SqlKeyword keyword) {
+		return this.tokens[keyword.ordinal()];
+	}
+
+	@Override
+	public String limit(boolean ordered) {
+		return ordered ? this.pagination.limit : this.pagination.unorderedLimit;
+	}
+
+	@Override
+	public String limitOffset(boolean ordered) {
+		return ordered ? this.pagination.limitOffset : this.pagination.unorderedLimitOffset;
+	}
+
+	@Override
+	public boolean isOffsetFirst() {
+		return this.pagination.offsetFirst;
+	}
+
+	@Override
+	public String existsPrefix() {
+		return this.existsPrefix;
+	}
+
+	@Override
+	public String existsSuffix() {
+		return this.existsSuffix;
+	}
+
+	@Override
+	public String insertedValue(String field) {
+		return switch (this.upsert) {
+			case ON_CONFLICT -> SqlDialect.super.insertedValue(field);
+			case ON_DUPLICATE_KEY -> "VALUES(" + field + ")";
+			case MERGE, MERGE_KEY, MERGE_FROM_DUAL -> SOURCE + "." + field;
+		};
+	}
+
+	@Override
+	public String upsert(String table, List<String> fields, int rows, List<String> conflictFields,
+						 List<String> assignments) {
+		return switch (this.upsert) {
+			case ON_CONFLICT -> SqlDialect.super.upsert(table, fields, rows, conflictFields, assignments);
+			case ON_DUPLICATE_KEY -> {
+				StringBuilder sql = new StringBuilder(SqlKeyword.INSERT_INTO + table);
+				sql.append(insertedRows(fields, rows));
+				String key = conflictFields.isEmpty() ? fields.getFirst() : conflictFields.getFirst();
+				yield sql.append(SqlKeyword.ON_DUPLICATE_KEY_UPDATE)
+						 .append(assignments.isEmpty() ? key + " = " + key : String.join(", ", assignments))
+						 .toString();
+			}
+			case MERGE, MERGE_KEY, MERGE_FROM_DUAL -> merge(table, fields, rows, conflictFields, assignments);
+		};
+	}
+
+	@Override
+	public String lateralJoin(String subquery, boolean outer) {
+		if (!this.options.contains(Option.APPLY)) {
+			return SqlDialect.super.lateralJoin(subquery, outer);
+		}
+		return (outer ? SqlKeyword.OUTER_APPLY : SqlKeyword.CROSS_APPLY) + subquery;
+	}
+
+	@Override
+	public boolean supportsModificationLimit() {
+		return this.options.contains(Option.MODIFICATION_LIMIT);
+	}
+
+	@Override
+	public boolean supportsRowValueComparison() {
+		return this.options.contains(Option.ROW_VALUE_COMPARISON);
+	}
+
+	@Override
+	public boolean supportsUpdateFrom() {
+		return this.options.contains(Option.UPDATE_FROM);
+	}
+
+	@Override
+	public boolean supportsDeleteUsing() {
+		return this.options.contains(Option.DELETE_USING);
+	}
+
+	@Override
+	public boolean supportsArrayComparison() {
+		return this.options.contains(Option.ARRAY_COMPARISON);
+	}
+
+	@Override
+	public String valuesRows(int rows) {
+		if (!this.options.contains(Option.VALUES_TABLES)) {
+			throw new IllegalArgumentException("VALUES derived tables can't be rendered in " + this.name);
+		}
+		String values = SqlDialect.super.valuesRows(rows);
+		return this.options.contains(Option.ROW_CONSTRUCTORS) ? values.replace("(?)", "ROW(?)") : values;
+	}
+
+	@Override
+	public String bulkLoad(String table, List<String> columns) {
+		if (this.options.contains(Option.LOAD_DATA)) {
+			return "LOAD DATA LOCAL INFILE 'stdin' INTO TABLE " + table + " CHARACTER SET utf8mb4 "
+						   + "FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '' "
+						   + "LINES TERMINATED BY '\\n' (" + String.join(", ", columns) + ")";
+		}
+		if (!this.options.contains(Option.COPY)) {
+			throw new IllegalArgumentException("Bulk loads can't be rendered in " + this.name);
+		}
+		return SqlDialect.super.bulkLoad(table, columns);
+	}
+
+	@Override
+	public boolean isBulkLoadedWithLoadData() {
+		return this.options.contains(Option.LOAD_DATA);
+	}
+
+	@Override
+	public String hint(SqlHint hint) {
+		if (!this.options.contains(Option.HINT_COMMENTS)) {
+			return "";
+		}
+		SqlHint.Kind kind = hint.getKind();
+		if (kind == null) {
+			return SqlDialect.super.hint(hint);
+		}
+		List<String> tables = hint.getTables();
+		List<String> values = hint.getValues();
+		if (this.options.contains(Option.HINT_PLAN_HINTS)) {
+			return switch (kind) {
+				case PARALLEL -> tables.isEmpty() ? ""
+						: "Parallel(" + tables.getFirst() + " " + values.getFirst() + ")";
+				case LEADING -> tables.size() < 2 ? "" : "Leading(" + joinOrder(tables) + ")";
+				case INDEX -> "IndexScan(" + String.join(" ", tables) + " " + String.join(" ", values) + ")";
+			};
+		}
+		if (this.options.contains(Option.JOIN_ORDER_HINTS)) {
+			return switch (kind) {
+				case PARALLEL -> "";
+				case LEADING -> "JOIN_ORDER(" + String.join(", ", tables) + ")";
+				case INDEX -> "INDEX(" + String.join(" ", tables) + " " + String.join(", ", values) + ")";
+			};
+		}
+		return SqlDialect.super.hint(hint);
+	}
+
+	/**
+	 * Nests the tables in pairs, so pg_hint_plan keeps both the join order and direction: {@code "((e d) m)"}.
+	 */
+	private static String joinOrder(List<String> tables) {
+		String joined = tables.getFirst();
+		for (int i = 1; i < tables.size(); i++) {
+			joined = "(" + joined + " " + tables.get(i) + ")";
+		}
+		return joined;
+	}
+
+	@Override
+	public String hintComment(List<String> hints) {
+		return this.options.contains(Option.HINT_COMMENTS) ? SqlDialect.super.hintComment(hints) : "";
+	}
+
+	@Override
+	public String tableHint(SqlTableHint hint) {
+		SqlTableHint.IndexHint indexHint = hint.getIndexHint();
+		if (indexHint == null || this.options.contains(Option.INDEX_HINTS)) {
+			return SqlDialect.super.tableHint(hint);
+		}
+		if (this.options.contains(Option.TABLE_INDEX_HINTS) && indexHint != SqlTableHint.IndexHint.IGNORE) {
+			return " WITH (INDEX(" + String.join(", ", hint.getIndexes()) + "))";
+		}
+		return "";
+	}
+
+	@Override
+	public String renderPlaceholders(String sql) {
+		if (!this.options.contains(Option.NUMBERED_PLACEHOLDERS)) {
+			return sql;
+		}
+		StringBuilder rendered = new StringBuilder(sql.length() + 16);
+		int position = 0;
+		char quote = 0;
+		for (int i = 0; i < sql.length(); i++) {
+			char c = sql.charAt(i);
+			if (quote != 0) {
+				quote = c == quote ? 0 : quote;
+			} else if (c == '\'' || c == '"') {
+				quote = c;
+			} else if (c == '?') {
+				rendered.append('$').append(++position);
+				continue;
+			}
+			rendered.append(c);
+		}
+		return rendered.toString();
+	}
+
+	@Override
+	public String quote(String identifier) {
+		return this.openQuote + identifier.replace(this.closeQuote, this.closeQuote + this.closeQuote) + this.closeQuote;
+	}
+
+	@Override
+	public String toString() {
+		return this.name;
+	}
+
+	private String merge(String table, List<String> fields, int rows, List<String> conflictFields,
+						 List<String> assignments) {
+		if (conflictFields.isEmpty()) {
+			throw new IllegalArgumentException("The conflict fields are required to render a MERGE statement in "
+													   + this.name);
+		}
+		if (this.upsert == Upsert.MERGE_KEY && updatesAllFields(fields, conflictFields, assignments)) {
+			StringBuilder sql = new StringBuilder(SqlKeyword.MERGE_INTO + table).append(insertedRows(fields, rows));
+			int values = sql.indexOf(SqlKeyword.VALUES.toString());
+			return sql.insert(values, " KEY (" + String.join(", ", conflictFields) + ")").toString();
+		}
+		boolean fromDual = this.upsert == Upsert.MERGE_FROM_DUAL;
+		String alias = token(SqlKeyword.TABLE_AS);
+		StringBuilder sql = new StringBuilder(SqlKeyword.MERGE_INTO + table).append(alias).append(TARGET)
+																		  .append(SqlKeyword.USING).append('(');
+		StringJoiner row = new StringJoiner(", ");
+		for (String field : fields) {
+			row.add(fromDual ? "?" + SqlKeyword.AS + field : "?");
+		}
+		for (int i = 0; i < rows; i++) {
+			if (fromDual) {
+				sql.append(i > 0 ? SqlKeyword.UNION_ALL : "").append(SqlKeyword.SELECT).append(row)
+				   .append(SqlKeyword.FROM).append("DUAL");
+			} else {
+				sql.append(i > 0 ? ", " : SqlKeyword.VALUES.toString().trim() + " ").append('(').append(row).append(')');
+			}
+		}
+		sql.append(')').append(alias).append(SOURCE);
+		if (!fromDual) {
+			sql.append(" (").append(String.join(", ", fields)).append(')');
+		}
+		StringJoiner condition = new StringJoiner(SqlConditionOperator.AND.toString(), fromDual ? "(" : "",
+												  fromDual ? ")" : "");
+		for (String field : conflictFields) {
+			condition.add(TARGET + "." + field + SqlConditionOperator.EQ + SOURCE + "." + field);
+		}
+		sql.append(SqlKeyword.ON).append(condition);
+		if (!assignments.isEmpty()) {
+			sql.append(SqlKeyword.WHEN_MATCHED).append(String.join(", ", assignments));
+		}
+		StringJoiner sourceFields = new StringJoiner(", ", "(", ")");
+		for (String field : fields) {
+			sourceFields.add(SOURCE + "." + field);
+		}
+		sql.append(SqlKeyword.WHEN_NOT_MATCHED).append('(').append(String.join(", ", fields)).append(')')
+		   .append(SqlKeyword.VALUES).append(sourceFields);
+		return this.upsert == Upsert.MERGE ? sql.append(';').toString() : sql.toString();
+	}
+
+	private boolean updatesAllFields(List<String> fields, List<String> conflictFields, List<String> assignments) {
+		List<String> expected = fields.stream()
+									  .filter(field -> !conflictFields.contains(field))
+									  .map(field -> field + SqlConditionOperator.EQ + insertedValue(field))
+									  .toList();
+		return expected.equals(assignments);
+	}
+
+}
@@ -1,7 +1,15 @@
 module com.github.hyansts.preparedsqlbuilder {
+	requires static java.compiler;
+	requires static java.sql;
+
 	exports com.github.hyansts.preparedsqlbuilder.query;
 	exports com.github.hyansts.preparedsqlbuilder.query.impl;
 	exports com.github.hyansts.preparedsqlbuilder.db;
 	exports com.github.hyansts.preparedsqlbuilder.db.impl;
+	exports com.github.hyansts.preparedsqlbuilder.db.annotation;
 	exports com.github.hyansts.preparedsqlbuilder.sql;
+	exports com.github.hyansts.preparedsqlbuilder.processor;
+
+	provides javax.annotation.processing.Processor
+			with com.github.hyansts.preparedsqlbuilder.processor.DbTableModelProcessor;
 }
\ No newline at end of file
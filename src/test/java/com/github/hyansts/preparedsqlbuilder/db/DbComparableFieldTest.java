@@ -6,10 +6,13 @@ import com.github.hyansts.preparedsqlbuilder.db.impl.BaseDbTable;
 import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField;
 import com.github.hyansts.preparedsqlbuilder.query.SqlScalarSubquery;
 import com.github.hyansts.preparedsqlbuilder.query.impl.SqlQueryFactory;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlArrayValue;
 import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlInListPadding;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class DbComparableFieldTest {
@@ -256,6 +259,44 @@ public class DbComparableFieldTest {
 		assertEquals(List.of("John", "Jane"), condition.getComparedValues());
 	}
 
+	@Test
+	void testInPadded() {
+		EmployeesDbTable table = new EmployeesDbTable();
+		SqlCondition condition = table.id.in(List.of(1, 2, 3), SqlInListPadding.POWERS_OF_TWO);
+
+		assertEquals("id IN (?, ?, ?, ?)", condition.getSql());
+		assertEquals(List.of(1, 2, 3, 3), condition.getComparedValues());
+	}
+
+	@Test
+	void testNotInPadded() {
+		EmployeesDbTable table = new EmployeesDbTable();
+		SqlCondition condition = table.id.notIn(List.of(1, 2), SqlInListPadding.of(3, 10));
+
+		assertEquals("id NOT IN (?, ?, ?)", condition.getSql());
+		assertEquals(List.of(1, 2, 2), condition.getComparedValues());
+	}
+
+	@Test
+	void testInArray() {
+		EmployeesDbTable table = new EmployeesDbTable();
+		SqlCondition condition = table.id.inArray(List.of(1, 2, 3));
+
+		assertEquals("id = ANY(?)", condition.getSql());
+		assertEquals(1, condition.getComparedValues().size());
+		SqlArrayValue<?> array = (SqlArrayValue<?>) condition.getComparedValues().get(0);
+		assertArrayEquals(new Object[]{1, 2, 3}, array.toArray());
+	}
+
+	@Test
+	void testNotInArray() {
+		EmployeesDbTable table = new EmployeesDbTable();
+		SqlCondition condition = table.name.notInArray(List.of("John", "Jane"));
+
+		assertEquals("name <> ALL(?)", condition.getSql());
+		assertEquals(List.of("John", "Jane"), ((SqlArrayValue<?>) condition.getComparedValues().get(0)).getElements());
+	}
+
 	@Test
 	void testNotInSubquery() {
 		EmployeesDbTable employeesTable = new EmployeesDbTable();
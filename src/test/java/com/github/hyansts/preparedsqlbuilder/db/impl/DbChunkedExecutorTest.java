@@ -0,0 +1,55 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
+import com.github.hyansts.preparedsqlbuilder.query.impl.SqlQueryFactory;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DbChunkedExecutorTest {
+
+	private final PreparedSql statement = SqlQueryFactory.createQuery().deleteFrom(new BaseDbTable("table") { });
+
+	@Test
+	public void testExecuteUntilChunkIsNotFull() {
+		AtomicLong clock = new AtomicLong();
+		List<Integer> affectedRows = new ArrayList<>(List.of(100, 100, 40, 0));
+		List<DbChunkedExecutor.Progress> progresses = new ArrayList<>();
+		AtomicLong invalidations = new AtomicLong();
+
+		DbChunkedExecutor.Progress result = new DbChunkedExecutor(this.statement, 100, clock::get,
+																  invalidations::incrementAndGet)
+				.onProgress(progresses::add)
+				.execute(query -> {
+					assertSame(this.statement, query);
+					assertEquals(progresses.size(), invalidations.get());
+					clock.addAndGet(500_000_000);
+					return affectedRows.removeFirst();
+				});
+
+		assertEquals(new DbChunkedExecutor.Progress(3, 240, Duration.ofMillis(1500)), result);
+		assertEquals(160.0, result.rowsPerSecond());
+		assertEquals(List.of(new DbChunkedExecutor.Progress(1, 100, Duration.ofMillis(500)),
+							 new DbChunkedExecutor.Progress(2, 200, Duration.ofMillis(1000)),
+							 result), progresses);
+		assertEquals(List.of(0), affectedRows);
+		assertEquals(3, invalidations.get());
+	}
+
+	@Test
+	public void testInvalidArguments() {
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new DbChunkedExecutor(this.statement, 0));
+		assertEquals("Chunk size must be positive: 0", e.getMessage());
+		assertThrows(IllegalArgumentException.class,
+					 () -> new DbChunkedExecutor(this.statement, 10).withPause(Duration.ofMillis(-1)));
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbField;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DbColumnarResultTest {
+
+	private static class SalesDbTable extends BaseDbTable {
+
+		public final DbIntField id = new DbIntField("id", this);
+		public final DbTableField<Long> quantity = new DbTableField<>("quantity", this, Long.class);
+		public final DbDoubleField amount = new DbDoubleField("amount", this);
+		public final DbTableField<String> region = new DbTableField<>("region", this, String.class);
+		public final DbTableField<LocalDate> date = new DbTableField<>("date", this, LocalDate.class);
+
+		public SalesDbTable() { super("sales"); }
+	}
+
+	private static class RowExtractor implements DbFieldExtractor {
+
+		private final SalesDbTable tb;
+		private int row;
+
+		RowExtractor(SalesDbTable tb) { this.tb = tb; }
+
+		@Override
+		public <T> T extract(DbField<T> field) {
+			Object value;
+			if (field == tb.quantity) {
+				value = row % 10 == 0 ? null : (long) row * 2;
+			} else if (field == tb.region) {
+				value = row % 7 == 0 ? null : List.of("north", "south", "east").get(row % 3);
+			} else if (field == tb.date) {
+				value = LocalDate.of(2024, 1, 1).plusDays(row % 5);
+			} else {
+				throw new AssertionError("Primitive field read as object: " + field.getLabel());
+			}
+			return field.getType().cast(value);
+		}
+
+		@Override
+		public int extractInt(DbField<Integer> field) { return row; }
+
+		@Override
+		public double extractDouble(DbField<Double> field) { return row / 2.0; }
+
+		@Override
+		public boolean isNull(DbField<?> field) {
+			return field == tb.quantity ? row % 10 == 0 : field != tb.id && field != tb.amount && extract(field) == null;
+		}
+	}
+
+	@Test
+	public void testColumnarRows() {
+		SalesDbTable tb = new SalesDbTable();
+		DbColumnarResult result = new DbColumnarResult(tb.id, tb.quantity, tb.amount, tb.region, tb.date);
+		RowExtractor extractor = new RowExtractor(tb);
+
+		final int rows = 10_000;
+		for (int i = 0; i < rows; i++) {
+			extractor.row = i;
+			result.addRow(extractor);
+		}
+
+		assertEquals(rows, result.size());
+		assertEquals(9_999, result.getInt(tb.id, 9_999));
+		assertEquals(4_097.5, result.getDouble(tb.amount, 8_195));
+		assertEquals(18L, result.getLong(tb.quantity, 9));
+		assertEquals(0L, result.getLong(tb.quantity, 4_100));
+		assertTrue(result.isNull(tb.quantity, 4_100));
+		assertFalse(result.isNull(tb.quantity, 4_101));
+		assertNull(result.get(tb.quantity, 4_100));
+		assertEquals(8_202L, result.get(tb.quantity, 4_101));
+		assertEquals(LocalDate.of(2024, 1, 3), result.get(tb.date, 4_097));
+
+		int[] ids = result.getIntColumn(tb.id);
+		assertEquals(rows, ids.length);
+		for (int i = 0; i < rows; i++) {
+			assertEquals(i, ids[i]);
+		}
+		assertEquals(rows, result.getLongColumn(tb.quantity).length);
+		assertEquals(4_999.5, result.getDoubleColumn(tb.amount)[9_999]);
+	}
+
+	@Test
+	public void testDictionaryEncodedStrings() {
+		SalesDbTable tb = new SalesDbTable();
+		DbColumnarResult result = new DbColumnarResult(tb.region);
+		RowExtractor extractor = new RowExtractor(tb);
+
+		for (int i = 0; i < 6; i++) {
+			extractor.row = i;
+			result.addRow(extractor);
+		}
+
+		assertEquals(List.of("south", "east", "north"), result.getDictionary(tb.region));
+		assertArrayEquals(new int[]{-1, 0, 1, 2, 0, 1}, result.getStringCodes(tb.region));
+		assertNull(result.get(tb.region, 0));
+		assertTrue(result.isNull(tb.region, 0));
+		assertEquals("north", result.get(tb.region, 3));
+	}
+
+	@Test
+	public void testInvalidAccess() {
+		SalesDbTable tb = new SalesDbTable();
+		DbColumnarResult result = new DbColumnarResult(tb.quantity);
+		result.addRow(new RowExtractor(tb));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> result.getLong(tb.quantity, 1));
+		Exception e = assertThrows(IllegalArgumentException.class, () -> result.getIntColumn(tb.id));
+		assertEquals("Field is not part of the result: id", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> new DbColumnarResult(tb.id, tb.id));
+	}
+
+	@Test
+	public void testFieldsBoundToView() {
+		SalesDbTable tb = new SalesDbTable();
+		DbTableView s = tb.as("s");
+		DbColumnarResult result = new DbColumnarResult(s.getField(tb.quantity));
+		result.addRow(new RowExtractor(tb) {
+			@Override
+			public <T> T extract(DbField<T> field) { return field.getType().cast(5L); }
+
+			@Override
+			public boolean isNull(DbField<?> field) { return false; }
+		});
+
+		assertEquals(s.getField(tb.quantity), s.getField(tb.quantity));
+		assertEquals(5L, result.getLong(tb.as("s").getField(tb.quantity), 0));
+		assertThrows(IllegalArgumentException.class, () -> result.getLong(tb.quantity, 0));
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DbEntityCacheTest {
+
+	@Test
+	public void testLeastRecentlyUsedEviction() {
+		DbEntityCache<String> cache = new DbEntityCache<>(2, Duration.ofMinutes(1));
+
+		cache.put(List.of(1), "one");
+		cache.put(List.of(2), "two");
+		cache.get(List.of(1));
+		cache.put(List.of(3), "three");
+
+		assertEquals(2, cache.size());
+		assertEquals("one", cache.get(List.of(1)));
+		assertNull(cache.get(List.of(2)));
+		assertEquals("three", cache.get(List.of(3)));
+	}
+
+	@Test
+	public void testTimeToLive() {
+		AtomicLong clock = new AtomicLong();
+		DbEntityCache<String> cache = new DbEntityCache<>(10, Duration.ofNanos(100), clock::get);
+
+		cache.put(List.of(1, "a"), "one");
+		clock.set(99);
+		assertEquals("one", cache.get(List.of(1, "a")));
+
+		clock.set(100);
+		assertNull(cache.get(List.of(1, "a")));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testPutDroppedAfterInvalidation() {
+		DbEntityCache<String> cache = new DbEntityCache<>(10, Duration.ofMinutes(1));
+
+		long generation = cache.generation();
+		cache.invalidate(List.of(1));
+		assertFalse(cache.put(List.of(1), "stale", generation));
+		assertNull(cache.get(List.of(1)));
+
+		generation = cache.generation();
+		assertTrue(cache.put(List.of(1), "one", generation));
+		cache.invalidateAll();
+		assertFalse(cache.put(List.of(2), "two", generation));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testInvalidMaximumSize() {
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new DbEntityCache<>(0, Duration.ofMinutes(1)));
+		assertEquals("Cache maximum size must be positive: 0", e.getMessage());
+	}
+
+}
@@ -0,0 +1,149 @@
+package com.github.hyansts.preparedsqlbuilder.db.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbEntity;
+import com.github.hyansts.preparedsqlbuilder.db.DbField;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DbOneToManyTest {
+
+	private static class Department implements DbEntity {
+
+		static class Table extends MappedDbTable<Department, Integer, Table> {
+			public final DbTableField<Integer> id = new DbTableField<>("id", this, Integer.class);
+			public final DbTableField<String> name = new DbTableField<>("name", this, String.class);
+
+			public Table() { super("departments", Department::new); }
+
+			@Override
+			public void mapToTable(DbFieldMapping<Department> fieldMapping) {
+				fieldMapping.mapPrimaryKey(this.id, Department::getId, Department::setId)
+							.mapField(this.name, Department::getName, Department::setName);
+			}
+		}
+
+		private Integer id;
+		private String name;
+		private final List<Employee> employees = new ArrayList<>();
+
+		public Department(Integer id) { this.id = id; }
+
+		public Integer getId() { return id; }
+		public void setId(Integer id) { this.id = id; }
+		public String getName() { return name; }
+		public void setName(String name) { this.name = name; }
+		public List<Employee> getEmployees() { return employees; }
+		public void addEmployee(Employee employee) { this.employees.add(employee); }
+	}
+
+	private static class Employee implements DbEntity {
+
+		static class Table extends MappedDbTable<Employee, Integer, Table> {
+			public final DbTableField<Integer> id = new DbTableField<>("id", this, Integer.class);
+			public final DbTableField<Integer> departmentId = new DbTableField<>("department_id", this, Integer.class);
+
+			public Table() { super("employees", Employee::new); }
+
+			@Override
+			public void mapToTable(DbFieldMapping<Employee> fieldMapping) {
+				fieldMapping.mapPrimaryKey(this.id, Employee::getId, Employee::setId)
+							.mapField(this.departmentId, Employee::getDepartmentId, Employee::setDepartmentId);
+			}
+		}
+
+		private Integer id;
+		private Integer departmentId;
+
+		public Employee(Integer id) { this.id = id; }
+
+		public Integer getId() { return id; }
+		public void setId(Integer id) { this.id = id; }
+		public Integer getDepartmentId() { return departmentId; }
+		public void setDepartmentId(Integer departmentId) { this.departmentId = departmentId; }
+	}
+
+	private static DbFieldExtractor row(List<String> reads, Object... labelsAndValues) {
+		Map<String, Object> values = new HashMap<>();
+		for (int i = 0; i < labelsAndValues.length; i += 2) {
+			values.put((String) labelsAndValues[i], labelsAndValues[i + 1]);
+		}
+		return new DbFieldExtractor() {
+			@Override
+			public <T> T extract(DbField<T> field) {
+				reads.add(field.getLabel());
+				return field.getType().cast(values.get(field.getLabel()));
+			}
+		};
+	}
+
+	@Test
+	public void testJoinFetchQuery() {
+		var departments = new Department.Table();
+		var employees = new Employee.Table();
+		var relationship = departments.getMapping()
+									  .oneToMany(employees, employees.departmentId, departments.id, Department::addEmployee)
+									  .as("d", "e");
+		var d = relationship.getParentTable();
+
+		PreparedSql query = relationship.joinFetchQuery(from -> from.where(d.getField(departments.name).eq("R&D")));
+
+		assertEquals("SELECT d.id AS d_id, d.name AS d_name, e.id AS e_id, e.department_id AS e_department_id "
+							 + "FROM departments AS d LEFT JOIN employees AS e ON d.id = e.department_id WHERE d.name = ?",
+					 query.getSql());
+		assertEquals(List.of("R&D"), query.getValues());
+		assertEquals(List.of("d_id", "d_name", "e_id", "e_department_id"),
+					 relationship.getSelectedFields().stream().map(DbTableField::getLabel).toList());
+		assertEquals(d, relationship.getSelectedFields().getFirst().getTableLike());
+	}
+
+	@Test
+	public void testHydrate() {
+		var departments = new Department.Table();
+		var employees = new Employee.Table();
+		var relationship = departments.getMapping()
+									  .oneToMany(employees, employees.departmentId, departments.id, Department::addEmployee)
+									  .as("d", "e");
+
+		List<String> reads = new ArrayList<>();
+		List<Department> result = relationship.hydrate(List.of(
+				row(reads, "d_id", 1, "d_name", "R&D", "e_id", 10, "e_department_id", 1),
+				row(reads, "d_id", 2, "d_name", "Sales", "e_id", null, "e_department_id", null),
+				row(reads, "d_id", 1, "d_name", "R&D", "e_id", 11, "e_department_id", 1)
+		));
+
+		assertEquals(2, result.size());
+		assertEquals(2, reads.stream().filter("d_name"::equals).count());
+		assertEquals("R&D", result.get(0).getName());
+		assertEquals(List.of(10, 11), result.get(0).getEmployees().stream().map(Employee::getId).toList());
+		assertEquals("Sales", result.get(1).getName());
+		assertTrue(result.get(1).getEmployees().isEmpty());
+	}
+
+	@Test
+	public void testInvalidRelationship() {
+		var departments = new Department.Table();
+		var employees = new Employee.Table();
+		var mapping = departments.getMapping();
+
+		Exception e = assertThrows(IllegalArgumentException.class,
+								   () -> mapping.oneToMany(employees, employees.id, employees.departmentId, Department::addEmployee));
+		assertEquals("Referenced field does not belong to the parent table: department_id", e.getMessage());
+
+		var relationship = mapping.oneToMany(employees, employees.departmentId, departments.id, Department::addEmployee);
+		e = assertThrows(IllegalStateException.class, relationship::joinFetchQuery);
+		assertEquals("Join-fetch requires the parent and child tables to have distinct aliases", e.getMessage());
+		assertThrows(IllegalStateException.class, relationship.as("d", "d")::joinFetchQuery);
+	}
+
+}
@@ -1,20 +1,31 @@
 package com.github.hyansts.preparedsqlbuilder.db.impl;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.github.hyansts.preparedsqlbuilder.db.DbEntity;
 import com.github.hyansts.preparedsqlbuilder.db.DbField;
 import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
 import com.github.hyansts.preparedsqlbuilder.db.DbFieldValue;
 import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlKeysetCursor;
+import com.github.hyansts.preparedsqlbuilder.sql.StandardSqlDialect;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MappedDbTableTest {
 
@@ -89,6 +100,38 @@ public class MappedDbTableTest {
 		assertEquals(List.of(2, 1), query.getValues());
 	}
 
+	@Test
+	public void testCountQuery() {
+		var mapping = new Entity.Table().getMapping();
+		PreparedSql query = mapping.countQuery((q, tb) -> q.where(tb.field.eq(2)).orderBy(tb.id.desc()).limit(10).offset(20));
+		assertEquals("SELECT COUNT(*) FROM table WHERE field = ?", query.getSql());
+		assertEquals(List.of(2), query.getValues());
+	}
+
+	@Test
+	public void testSelectWithTotalQuery() {
+		var mapping = new Entity.Table().getMapping();
+		PreparedSql query = mapping.selectWithTotalQuery((q, tb) -> q.where(tb.field.eq(2)).limit(10));
+		assertEquals("SELECT *, COUNT(*) OVER () AS total_count FROM table WHERE field = ? LIMIT ?", query.getSql());
+		assertEquals(List.of(2, 10), query.getValues());
+	}
+
+	@Test
+	public void testExistsQuery() {
+		var table = new Entity.Table();
+		var mapping = table.getMapping();
+
+		PreparedSql query = mapping.existsQuery(table.field.eq(2));
+		assertEquals("SELECT EXISTS (SELECT 1 FROM table WHERE field = ?)", query.getSql());
+		assertEquals(List.of(2), query.getValues());
+
+		PreparedSql custom = mapping.existsQuery((q, tb) -> q.where(tb.field.gt(2).and(tb.field2.lt(5))));
+		assertEquals("SELECT EXISTS (SELECT 1 FROM table WHERE field > ? AND field2 < ?)", custom.getSql());
+		assertEquals(List.of(2, 5), custom.getValues());
+
+		assertTrue(mapping.exists(table.field.eq(2), q -> q.getValues().equals(List.of(2))));
+	}
+
 	@Test
 	public void testInsertQuery() {
 		Entity entity = new Entity(1, 2, 3);
@@ -98,6 +141,44 @@ public class MappedDbTableTest {
 		assertEquals(List.of(1, 2, 3), query.getValues());
 	}
 
+	@Test
+	public void testInsertAllQuery() {
+		var mapping = new Entity.Table().getMapping();
+
+		PreparedSql query = mapping.insertAllQuery(List.of(new Entity(1, 2, 3), new Entity(4, 5, 6)));
+		assertEquals("INSERT INTO table (id, field, field2) VALUES (?, ?, ?), (?, ?, ?)", query.getSql());
+		assertEquals(List.of(1, 2, 3, 4, 5, 6), query.getValues());
+		assertThrows(IllegalArgumentException.class, () -> mapping.insertAllQuery(List.of()));
+	}
+
+	@Test
+	public void testChunkedStatements() {
+		var table = new Entity.Table();
+		var mapping = table.getMapping();
+
+		PreparedSql delete = mapping.deleteInChunks(table.field.gt(2), 500).getStatement();
+		assertEquals("DELETE FROM table WHERE id IN (SELECT id FROM table WHERE field > ? LIMIT ?)", delete.getSql());
+		assertEquals(List.of(2, 500), delete.getValues());
+
+		PreparedSql update = mapping.updateInChunks(table.field2.ne(0), 100, table.field2.value(0)).getStatement();
+		assertEquals("UPDATE table SET field2 = ? WHERE id IN (SELECT id FROM table WHERE field2 <> ? LIMIT ?)",
+					 update.getSql());
+		assertEquals(List.of(0, 0, 100), update.getValues());
+
+		assertThrows(IllegalArgumentException.class, () -> mapping.deleteInChunks(table.field.eqIfPresent(null), 500));
+	}
+
+	@Test
+	public void testUpsertQuery() {
+		var entity = new Entity(1, 2, 3);
+		var mapping = new Entity.Table().getMapping();
+
+		PreparedSql query = mapping.upsertQuery(entity);
+		assertEquals("INSERT INTO table (id, field, field2) VALUES (?, ?, ?) "
+							 + "ON CONFLICT (id) DO UPDATE SET field = EXCLUDED.field, field2 = EXCLUDED.field2", query.getSql());
+		assertEquals(List.of(1, 2, 3), query.getValues());
+	}
+
 	@Test
 	public void testInsertQueryConsumer() {
 		var mapping = new Entity.Table().getMapping();
@@ -216,4 +297,395 @@ public class MappedDbTableTest {
 		assertEquals("Primary key not mapped", e.getMessage());
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testSelectByIdWithoutCache() {
+		var mapping = new Entity.Table().getMapping();
+		AtomicInteger executions = new AtomicInteger();
+
+		mapping.selectById(1, query -> new Entity(executions.incrementAndGet()));
+		mapping.selectById(1, query -> new Entity(executions.incrementAndGet()));
+
+		assertNull(mapping.getCache());
+		assertEquals(2, executions.get());
+	}
+
+	@Test
+	public void testSelectByIdCached() {
+		var mapping = new Entity.Table().getMapping().enableCache(10, Duration.ofMinutes(1));
+		AtomicInteger executions = new AtomicInteger();
+
+		Entity first = mapping.selectById(1, query -> {
+			executions.incrementAndGet();
+			assertEquals("SELECT * FROM table WHERE id = ?", query.getSql());
+			assertEquals(List.of(1), query.getValues());
+			return new Entity(1, 2, 3);
+		});
+		Entity second = mapping.selectById(1, query -> new Entity(executions.incrementAndGet()));
+
+		assertSame(first, second);
+		assertEquals(1, executions.get());
+	}
+
+	@Test
+	public void testSelectByIdNullNotCached() {
+		var mapping = new Entity.Table().getMapping().enableCache(10, Duration.ofMinutes(1));
+		AtomicInteger executions = new AtomicInteger();
+
+		mapping.selectById(1, query -> {
+			executions.incrementAndGet();
+			return null;
+		});
+		mapping.selectById(1, query -> {
+			executions.incrementAndGet();
+			return null;
+		});
+
+		assertEquals(2, executions.get());
+		assertEquals(0, mapping.getCache().size());
+	}
+
+	@Test
+	public void testCacheInvalidatedByEntityStatements() {
+		var mapping = new Entity.Table().getMapping().enableCache(10, Duration.ofMinutes(1));
+
+		mapping.selectById(1, query -> new Entity(1, 2, 3));
+		mapping.selectById(2, query -> new Entity(2, 2, 3));
+		mapping.selectById(3, query -> new Entity(3, 2, 3));
+		assertEquals(3, mapping.getCache().size());
+
+		mapping.updateQuery(new Entity(1, 5, 6));
+		mapping.deleteQuery(2);
+		assertEquals(3, mapping.getCache().size());
+
+		assertEquals(1, mapping.update(new Entity(1, 5, 6), statement -> {
+			assertNotNull(mapping.getCache().get(List.of(1)));
+			return 1;
+		}));
+		assertNull(mapping.getCache().get(List.of(1)));
+
+		mapping.delete(2, statement -> 1);
+		assertNull(mapping.getCache().get(List.of(2)));
+
+		assertThrows(IllegalStateException.class, () -> mapping.insert(new Entity(3, 2, 3), statement -> {
+			throw new IllegalStateException("failed");
+		}));
+		assertEquals(0, mapping.getCache().size());
+	}
+
+	@Test
+	public void testCacheInvalidatedByCustomStatements() {
+		var mapping = new Entity.Table().getMapping().enableCache(10, Duration.ofMinutes(1));
+
+		mapping.selectById(1, query -> new Entity(1, 2, 3));
+		mapping.selectById(2, query -> new Entity(2, 2, 3));
+		mapping.updateQuery((q, tb) -> q.set(tb.field.value(1)).where(tb.field2.eq(3)));
+		assertEquals(2, mapping.getCache().size());
+
+		mapping.update((q, tb) -> q.set(tb.field.value(1)).where(tb.field2.eq(3)), statement -> 2);
+		assertEquals(0, mapping.getCache().size());
+
+		mapping.selectById(1, query -> new Entity(1, 2, 3));
+		mapping.delete((q, tb) -> q.where(tb.field.eq(2)), statement -> 1);
+		assertEquals(0, mapping.getCache().size());
+
+		mapping.selectById(1, query -> new Entity(1, 2, 3));
+		mapping.insert((q, tb) -> q.values(tb.field.value(1)), statement -> 1);
+		assertEquals(0, mapping.getCache().size());
+
+		var chunks = mapping.deleteInChunks(mapping.getTable().field.gt(2), 10);
+		mapping.selectById(1, query -> new Entity(1, 2, 3));
+		assertEquals(1, mapping.getCache().size());
+		chunks.execute(statement -> {
+			mapping.selectById(1, query -> new Entity(1, 2, 3));
+			return 5;
+		});
+		assertEquals(0, mapping.getCache().size());
+	}
+
+	@Test
+	public void testCacheDropsEntityLoadedConcurrentlyWithUpdate() throws Exception {
+		var mapping = new Entity.Table().getMapping().enableCache(10, Duration.ofMinutes(1));
+		CountDownLatch loaded = new CountDownLatch(1);
+		CountDownLatch updated = new CountDownLatch(1);
+
+		CompletableFuture<Entity> stale = CompletableFuture.supplyAsync(() -> mapping.selectById(1, query -> {
+			loaded.countDown();
+			try {
+				updated.await();
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+			return new Entity(1, 2, 3);
+		}));
+		loaded.await();
+		mapping.update(new Entity(1, 5, 6), statement -> 1);
+		updated.countDown();
+
+		assertEquals(2, stale.get().field);
+		assertEquals(0, mapping.getCache().size());
+		assertEquals(5, mapping.selectById(1, query -> new Entity(1, 5, 6)).field);
+		assertEquals(5, mapping.getCache().get(List.of(1)).field);
+	}
+
+	@Test
+	public void testSelectPageQuery() {
+		var mapping = new Entity.Table().getMapping();
+
+		PreparedSql firstPage = mapping.selectPageQuery(null, 20);
+		assertEquals("SELECT * FROM table ORDER BY id ASC LIMIT ?", firstPage.getSql());
+		assertEquals(List.of(20), firstPage.getValues());
+
+		SqlKeysetCursor cursor = SqlKeysetCursor.decode(mapping.getCursor(new Entity(40)).encode());
+		PreparedSql nextPage = mapping.selectPageQuery(cursor, 20);
+		assertEquals("SELECT * FROM table WHERE id > ? ORDER BY id ASC LIMIT ?", nextPage.getSql());
+		assertEquals(List.of(40, 20), nextPage.getValues());
+	}
+
+	@Test
+	public void testMappingDialect() {
+		var mapping = new Entity.Table().getMapping().useDialect(StandardSqlDialect.ORACLE);
+
+		assertEquals("SELECT * FROM table ORDER BY id ASC FETCH NEXT ? ROWS ONLY",
+					 mapping.selectPageQuery(null, 20).getSql());
+		assertEquals("DELETE FROM table WHERE id IN (SELECT id FROM table WHERE field > ? FETCH NEXT ? ROWS ONLY)",
+					 mapping.deleteInChunks(mapping.getTable().field.gt(2), 500).getStatement().getSql());
+
+		var table = mapping.getTable();
+		mapping.useDialect(StandardSqlDialect.MYSQL);
+		PreparedSql delete = mapping.deleteInChunks(table.field.gt(2), 500).getStatement();
+		assertEquals("DELETE FROM table WHERE field > ? LIMIT ?", delete.getSql());
+		assertEquals(List.of(2, 500), delete.getValues());
+		PreparedSql update = mapping.updateInChunks(table.field2.ne(0), 100, table.field2.value(0)).getStatement();
+		assertEquals("UPDATE table SET field2 = ? WHERE field2 <> ? LIMIT ?", update.getSql());
+		assertEquals(List.of(0, 0, 100), update.getValues());
+		assertThrows(IllegalArgumentException.class, () -> mapping.updateInChunks(table.field.eqIfPresent(null), 100));
+	}
+
+	@Test
+	public void testSelectByIdsQuery() {
+		var mapping = new Entity.Table().getMapping();
+		PreparedSql query = mapping.selectByIdsQuery(List.of(1, 2, 3));
+		assertEquals("SELECT * FROM table WHERE id IN (?, ?, ?)", query.getSql());
+		assertEquals(List.of(1, 2, 3), query.getValues());
+	}
+
+	@Test
+	public void testSelectByIdsQueryCompositeKey() {
+
+		class CompositeKeyTable extends MappedDbTable<Entity, List<Integer>, CompositeKeyTable> {
+
+			final DbTableField<Integer> id = new DbTableField<>("id", this, Integer.class);
+			final DbTableField<Integer> field = new DbTableField<>("field", this, Integer.class);
+
+			public CompositeKeyTable() {
+				super("compositeKeyTable", key -> key == null ? new Entity(null) : new Entity(key.get(0), key.get(1), null));
+			}
+
+			@Override
+			public void mapToTable(DbFieldMapping<Entity> fieldMapping) {
+				fieldMapping.mapPrimaryKey(this.id, Entity::getId, Entity::setId)
+							.mapPrimaryKey(this.field, Entity::getField, Entity::setField);
+			}
+		}
+
+		var mapping = new CompositeKeyTable().getMapping();
+		PreparedSql query = mapping.selectByIdsQuery(List.of(List.of(1, 2), List.of(3, 4)));
+		assertEquals("SELECT * FROM compositeKeyTable WHERE (id, field) IN ((?, ?), (?, ?))", query.getSql());
+		assertEquals(List.of(1, 2, 3, 4), query.getValues());
+	}
+
+	@Test
+	public void testSelectByIdsQueryEmpty() {
+		var mapping = new Entity.Table().getMapping();
+		assertThrows(IllegalArgumentException.class, () -> mapping.selectByIdsQuery(List.of()));
+	}
+
+	@Test
+	public void testLoaderCoalescesLookups() {
+		var mapping = new Entity.Table().getMapping();
+		AtomicInteger executions = new AtomicInteger();
+
+		DbEntityLoader<Entity, Integer> loader = mapping.createLoader(query -> {
+			executions.incrementAndGet();
+			assertEquals("SELECT * FROM table WHERE id IN (?, ?)", query.getSql());
+			assertEquals(List.of(1, 2), query.getValues());
+			return List.of(new Entity(2, 20, 200), new Entity(1, 10, 100));
+		}, 10, Duration.ofMinutes(1));
+
+		CompletableFuture<Entity> first = loader.load(1);
+		CompletableFuture<Entity> second = loader.load(2);
+		CompletableFuture<Entity> repeated = loader.load(1);
+		loader.dispatch();
+
+		assertEquals(1, executions.get());
+		assertSame(first, repeated);
+		assertEquals(10, first.join().getField());
+		assertEquals(20, second.join().getField());
+	}
+
+	@Test
+	public void testLoaderDispatchesFullBatch() {
+		var mapping = new Entity.Table().getMapping();
+
+		DbEntityLoader<Entity, Integer> loader = mapping.createLoader(
+				query -> List.of(new Entity(1, 10, 100)), 2, Duration.ofMinutes(1));
+
+		CompletableFuture<Entity> found = loader.load(1);
+		CompletableFuture<Entity> missing = loader.load(2);
+
+		assertEquals(10, found.join().getField());
+		assertNull(missing.join());
+	}
+
+	@Test
+	public void testLoaderDispatchesAfterWindow() {
+		var mapping = new Entity.Table().getMapping();
+
+		DbEntityLoader<Entity, Integer> loader = mapping.createLoader(
+				query -> List.of(new Entity(1, 10, 100)), 10, Duration.ofMillis(1));
+
+		assertEquals(10, loader.load(1).join().getField());
+	}
+
+	@Test
+	public void testLoaderRestartsWindowForEachBatch() {
+		var mapping = new Entity.Table().getMapping();
+		AtomicInteger executions = new AtomicInteger();
+		List<Runnable> windows = new ArrayList<>();
+
+		DbEntityLoader<Entity, Integer> loader = new DbEntityLoader<>(mapping, query -> {
+			executions.incrementAndGet();
+			return List.of();
+		}, 2, windows::add);
+
+		loader.load(1);
+		loader.load(2);
+		CompletableFuture<Entity> next = loader.load(3);
+		assertEquals(1, executions.get());
+		assertEquals(2, windows.size());
+
+		windows.get(0).run();
+		assertEquals(1, executions.get());
+		assertFalse(next.isDone());
+
+		windows.get(1).run();
+		assertEquals(2, executions.get());
+		assertNull(next.join());
+	}
+
+	@Test
+	public void testLoaderFailsLookupsOnError() {
+		var mapping = new Entity.Table().getMapping();
+
+		DbEntityLoader<Entity, Integer> loader = mapping.createLoader(query -> {
+			throw new AssertionError("failed");
+		}, 10, Duration.ofMinutes(1));
+
+		CompletableFuture<Entity> lookup = loader.load(1);
+		assertThrows(AssertionError.class, loader::dispatch);
+		assertTrue(lookup.isCompletedExceptionally());
+	}
+
+	private static class PrimitiveEntity implements DbEntity {
+
+		static class Table extends MappedDbTable<PrimitiveEntity, Integer, Table> {
+			public final DbIntField id = new DbIntField("id", this);
+			public final DbLongField total = new DbLongField("total", this);
+			public final DbDoubleField ratio = new DbDoubleField("ratio", this);
+			public final DbBooleanField active = new DbBooleanField("active", this);
+
+			public Table() { super("primitive_table", id -> new PrimitiveEntity()); }
+
+			@Override
+			public void mapToTable(DbFieldMapping<PrimitiveEntity> fieldMapping) {
+				fieldMapping
+						.mapIntPrimaryKey(this.id, PrimitiveEntity::getId, PrimitiveEntity::setId)
+						.mapLongField(this.total, PrimitiveEntity::getTotal, PrimitiveEntity::setTotal)
+						.mapDoubleField(this.ratio, PrimitiveEntity::getRatio, PrimitiveEntity::setRatio)
+						.mapBooleanField(this.active, PrimitiveEntity::isActive, PrimitiveEntity::setActive);
+			}
+		}
+
+		private int id;
+		private long total;
+		private double ratio;
+		private boolean active;
+
+		public int getId() { return id; }
+		public void setId(int id) { this.id = id; }
+		public long getTotal() { return total; }
+		public void setTotal(long total) { this.total = total; }
+		public double getRatio() { return ratio; }
+		public void setRatio(double ratio) { this.ratio = ratio; }
+		public boolean isActive() { return active; }
+		public void setActive(boolean active) { this.active = active; }
+	}
+
+	@Test
+	public void testMapToEntityPrimitiveFields() {
+		var mapping = new PrimitiveEntity.Table().getMapping();
+
+		DbFieldExtractor extractor = new DbFieldExtractor() {
+			@Override
+			public <T> T extract(DbField<T> field) {
+				throw new AssertionError("Primitive fields should not be extracted as objects: " + field.getLabel());
+			}
+
+			@Override
+			public int extractInt(DbField<Integer> field) { return 1; }
+
+			@Override
+			public long extractLong(DbField<Long> field) { return 2L; }
+
+			@Override
+			public double extractDouble(DbField<Double> field) { return 0.5; }
+
+			@Override
+			public boolean extractBoolean(DbField<Boolean> field) { return true; }
+
+			@Override
+			public boolean isNull(DbField<?> field) { return false; }
+		};
+
+		PrimitiveEntity entity = mapping.mapToEntity(extractor);
+
+		assertEquals(1, entity.getId());
+		assertEquals(2L, entity.getTotal());
+		assertEquals(0.5, entity.getRatio());
+		assertTrue(entity.isActive());
+	}
+
+	@Test
+	public void testPrimitiveFieldsDefaultExtraction() {
+		var mapping = new PrimitiveEntity.Table().getMapping();
+
+		Map<String, Object> values = Map.of("id", 1, "ratio", 0.5);
+		DbFieldExtractor extractor = new DbFieldExtractor() {
+			@Override
+			public <T> T extract(DbField<T> field) {
+				return field.getType().cast(values.get(field.getLabel()));
+			}
+		};
+
+		PrimitiveEntity entity = mapping.mapToEntity(extractor);
+
+		assertEquals(1, entity.getId());
+		assertEquals(0L, entity.getTotal());
+		assertEquals(0.5, entity.getRatio());
+		assertFalse(entity.isActive());
+	}
+
+	@Test
+	public void testPrimitiveFieldValues() {
+		PrimitiveEntity entity = new PrimitiveEntity();
+		entity.setId(3);
+		entity.setTotal(4L);
+		var mapping = new PrimitiveEntity.Table().getMapping();
+
+		PreparedSql query = mapping.updateQuery(entity);
+		assertEquals("UPDATE primitive_table SET total = ?, ratio = ?, active = ? WHERE id = ?", query.getSql());
+		assertEquals(List.of(4L, 0.0, false, 3), query.getValues());
+		assertEquals(7, mapping.getTable().id.value(7).getValue());
+	}
+
+}
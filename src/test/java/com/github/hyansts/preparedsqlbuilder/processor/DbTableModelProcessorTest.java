@@ -0,0 +1,166 @@
+package com.github.hyansts.preparedsqlbuilder.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.processing.Processor;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbField;
+import com.github.hyansts.preparedsqlbuilder.db.DbFieldExtractor;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableMapping;
+import com.github.hyansts.preparedsqlbuilder.db.impl.MappedDbTable;
+import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DbTableModelProcessorTest {
+
+	private static final String COUNTRY = """
+			package test;
+
+			import com.github.hyansts.preparedsqlbuilder.db.DbEntity;
+			import com.github.hyansts.preparedsqlbuilder.db.annotation.DbColumn;
+			import com.github.hyansts.preparedsqlbuilder.db.annotation.DbPrimaryKey;
+			import com.github.hyansts.preparedsqlbuilder.db.annotation.DbTableModel;
+
+			@DbTableModel(name = "countries", prefix = "geo")
+			public class Country implements DbEntity {
+				@DbPrimaryKey @DbColumn private Integer id;
+				@DbColumn("iso_code") private String isoCode;
+				@DbColumn public int population;
+				@DbColumn private boolean active;
+				private String notMapped;
+
+				public Integer getId() { return id; }
+				public void setId(Integer id) { this.id = id; }
+				public String getIsoCode() { return isoCode; }
+				public void setIsoCode(String isoCode) { this.isoCode = isoCode; }
+				public boolean isActive() { return active; }
+				public void setActive(boolean active) { this.active = active; }
+			}
+			""";
+
+	@TempDir
+	Path tempDir;
+
+	private boolean compile(String className, String source, StringWriter diagnostics) throws IOException {
+		Path sourceFile = this.tempDir.resolve(className + ".java");
+		Files.writeString(sourceFile, source);
+		String classPath = System.getProperty("jdk.module.path", "") + File.pathSeparator
+								   + System.getProperty("java.class.path");
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		var fileManager = compiler.getStandardFileManager(null, null, null);
+		var task = compiler.getTask(diagnostics, fileManager, null,
+									List.of("-classpath", classPath, "-d", this.tempDir.toString(),
+											"-s", this.tempDir.toString()),
+									null, fileManager.getJavaFileObjects(sourceFile));
+		task.setProcessors(List.of(new DbTableModelProcessor()));
+		return task.call();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testGeneratedTableModel() throws Exception {
+		StringWriter diagnostics = new StringWriter();
+		assertTrue(compile("Country", COUNTRY, diagnostics), diagnostics.toString());
+
+		String generated = Files.readString(this.tempDir.resolve("test/CountryDbTable.java"));
+		assertTrue(generated.contains("public final DbTableField<java.lang.String> isoCode = "
+											  + "new DbTableField<>(\"iso_code\", this, java.lang.String.class);"));
+		assertFalse(generated.contains("notMapped"));
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{this.tempDir.toUri().toURL()}, getClass().getClassLoader())) {
+			var table = (MappedDbTable<?, Integer, ?>) loader.loadClass("test.CountryDbTable")
+															 .getConstructor()
+															 .newInstance();
+			var mapping = (DbTableMapping<?, Integer, ?>) table.getMapping();
+
+			PreparedSql query = mapping.selectByIdQuery(7);
+			assertEquals("SELECT * FROM geo.countries WHERE id = ?", query.getSql());
+			assertEquals(List.of(7), query.getValues());
+
+			Map<String, Object> row = Map.of("id", 1, "iso_code", "BR", "population", 203, "active", true);
+			Object entity = mapping.mapToEntity(new DbFieldExtractor() {
+				@Override
+				public <T> T extract(DbField<T> field) {
+					return field.getType().cast(row.get(field.getFieldName()));
+				}
+			});
+			assertEquals("BR", entity.getClass().getMethod("getIsoCode").invoke(entity));
+			assertEquals(203, entity.getClass().getField("population").get(entity));
+			assertEquals(true, entity.getClass().getMethod("isActive").invoke(entity));
+			assertTrue(generated.contains("entity.population = extractor.extractInt(this.population);"));
+		}
+	}
+
+	@Test
+	public void testRegisteredAsService() throws Exception {
+		URL services = getClass().getClassLoader().getResource("META-INF/services/" + Processor.class.getName());
+		assertNotNull(services);
+		try (var in = services.openStream()) {
+			assertEquals(DbTableModelProcessor.class.getName(), new String(in.readAllBytes()).strip());
+		}
+	}
+
+	@Test
+	public void testLiteralEscaping() {
+		assertEquals("\"order\"", DbTableModelProcessor.literal("order"));
+		assertEquals("\"a\\\"b\\\\c\\nd\\u0000\"", DbTableModelProcessor.literal("a\"b\\c\nd\0"));
+	}
+
+	@Test
+	public void testMissingPrimaryKey() throws Exception {
+		String source = """
+				package test;
+
+				import com.github.hyansts.preparedsqlbuilder.db.DbEntity;
+				import com.github.hyansts.preparedsqlbuilder.db.annotation.DbColumn;
+				import com.github.hyansts.preparedsqlbuilder.db.annotation.DbTableModel;
+
+				@DbTableModel(name = "plans")
+				public class Plan implements DbEntity {
+					@DbColumn public String name;
+				}
+				""";
+		StringWriter diagnostics = new StringWriter();
+		assertFalse(compile("Plan", source, diagnostics));
+		assertTrue(diagnostics.toString().contains("must have exactly one @DbPrimaryKey @DbColumn field"));
+	}
+
+	@Test
+	public void testInaccessibleField() throws Exception {
+		String source = """
+				package test;
+
+				import com.github.hyansts.preparedsqlbuilder.db.DbEntity;
+				import com.github.hyansts.preparedsqlbuilder.db.annotation.DbColumn;
+				import com.github.hyansts.preparedsqlbuilder.db.annotation.DbPrimaryKey;
+				import com.github.hyansts.preparedsqlbuilder.db.annotation.DbTableModel;
+
+				@DbTableModel(name = "plans")
+				public class Plan implements DbEntity {
+					@DbPrimaryKey @DbColumn private Integer id;
+				}
+				""";
+		StringWriter diagnostics = new StringWriter();
+		assertFalse(compile("Plan", source, diagnostics));
+		assertTrue(diagnostics.toString().contains("must be accessible or have a getter: getId()"));
+	}
+
+}
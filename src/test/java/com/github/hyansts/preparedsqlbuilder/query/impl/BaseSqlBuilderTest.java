@@ -5,11 +5,17 @@ import java.util.List;
 import com.github.hyansts.preparedsqlbuilder.db.impl.BaseDbTable;
 import com.github.hyansts.preparedsqlbuilder.db.impl.DbAggregateField;
 import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableView;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbWindowField;
 import com.github.hyansts.preparedsqlbuilder.query.SqlQuery;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlKeysetCursor;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlWindow;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -111,17 +117,18 @@ public class BaseSqlBuilderTest {
 	public void testSelectWhereAliasClause() {
 
 		EmployeesDbTable tb = new EmployeesDbTable();
+		DbTableView e = tb.as("e");
 
 		final boolean isActive = true;
 		final String name = "John Doe";
 		final int age = 30;
 
 		SqlQuery query = SqlQueryFactory.createQuery();
-		query.select(tb.id, tb.name, tb.age)
-			 .from(tb.as("e"))
-			 .where(tb.is_active.eq(isActive)
-								.and(tb.name.eq(name))
-								.and(tb.age.eq(age)));
+		query.select(e.getField(tb.id), e.getField(tb.name), e.getField(tb.age))
+			 .from(e)
+			 .where(e.getField(tb.is_active).eq(isActive)
+								.and(e.getField(tb.name).eq(name))
+								.and(e.getField(tb.age).eq(age)));
 
 		String expectedSQL =
 				"SELECT e.id, e.name, e.age FROM employees AS e WHERE e.is_active = ? AND e.name = ? AND e.age = ?";
@@ -134,16 +141,17 @@ public class BaseSqlBuilderTest {
 	public void testSelectWithExpressionClause() {
 
 		EmployeesDbTable tb = new EmployeesDbTable();
+		DbTableView e = tb.as("e");
 
 		final String expression = "CASE WHEN e.IS_ACTIVE = true THEN 'USER IS ACTIVE' ELSE 'USER IS INACTIVE' END";
 		final String name = "John Doe";
 		final int age = 30;
 
 		SqlQuery query = SqlQueryFactory.createQuery();
-		query.select(expression, tb.id, tb.name, tb.age)
-			 .from(tb.as("e"))
-			 .where(tb.name.eq(name)
-						   .and(tb.age.eq(age)));
+		query.select(expression, e.getField(tb.id), e.getField(tb.name), e.getField(tb.age))
+			 .from(e)
+			 .where(e.getField(tb.name).eq(name)
+						   .and(e.getField(tb.age).eq(age)));
 
 		String expectedSQL =
 				"SELECT CASE WHEN e.IS_ACTIVE = true THEN 'USER IS ACTIVE' ELSE 'USER IS INACTIVE' END, " +
@@ -157,16 +165,17 @@ public class BaseSqlBuilderTest {
 	public void testSelectDistinctWithExpressionClause() {
 
 		EmployeesDbTable tb = new EmployeesDbTable();
+		DbTableView e = tb.as("e");
 
 		final String expression = "CASE WHEN e.IS_ACTIVE = true THEN 'USER IS ACTIVE' ELSE 'USER IS INACTIVE' END";
 		final String name = "John Doe";
 		final int age = 30;
 
 		SqlQuery query = SqlQueryFactory.createQuery();
-		query.selectDistinct(expression, tb.id, tb.name, tb.age)
-			 .from(tb.as("e"))
-			 .where(tb.name.eq(name)
-						   .and(tb.age.eq(age)));
+		query.selectDistinct(expression, e.getField(tb.id), e.getField(tb.name), e.getField(tb.age))
+			 .from(e)
+			 .where(e.getField(tb.name).eq(name)
+						   .and(e.getField(tb.age).eq(age)));
 
 		String expectedSQL =
 				"SELECT DISTINCT CASE WHEN e.IS_ACTIVE = true THEN 'USER IS ACTIVE' ELSE 'USER IS INACTIVE' END, " +
@@ -181,15 +190,17 @@ public class BaseSqlBuilderTest {
 
 		EmployeesDbTable tb = new EmployeesDbTable();
 		DepartmentDbTable dtb = new DepartmentDbTable();
+		DbTableView e = tb.as("e");
+		DbTableView d = dtb.as("d");
 
 		final String title = "Sales";
 
 		SqlQuery query = SqlQueryFactory.createQuery();
 		query.select()
-			 .from(tb.as("e"))
-			 .innerJoin(dtb.as("d"))
-			 .on(tb.department_id.eq(dtb.id))
-			 .where(dtb.title.eq(title));
+			 .from(e)
+			 .innerJoin(d)
+			 .on(e.getField(tb.department_id).eq(d.getField(dtb.id)))
+			 .where(d.getField(dtb.title).eq(title));
 
 		String expected =
 				"SELECT * FROM employees AS e INNER JOIN department AS d ON e.department_id = d.id WHERE d.title = ?";
@@ -203,15 +214,17 @@ public class BaseSqlBuilderTest {
 
 		EmployeesDbTable tb = new EmployeesDbTable();
 		DepartmentDbTable dtb = new DepartmentDbTable();
+		DbTableView e = tb.as("e");
+		DbTableView d = dtb.as("d");
 
 		final String title = "Sales";
 
 		SqlQuery query = SqlQueryFactory.createQuery();
 		query.select()
-			 .from(tb.as("e"))
-			 .leftJoin(dtb.as("d"))
-			 .on(tb.department_id.eq(dtb.id))
-			 .where(dtb.title.eq(title));
+			 .from(e)
+			 .leftJoin(d)
+			 .on(e.getField(tb.department_id).eq(d.getField(dtb.id)))
+			 .where(d.getField(dtb.title).eq(title));
 		String expected =
 				"SELECT * FROM employees AS e LEFT JOIN department AS d ON e.department_id = d.id WHERE d.title = ?";
 		List<Object> expectedValues = List.of(title);
@@ -224,15 +237,17 @@ public class BaseSqlBuilderTest {
 
 		EmployeesDbTable tb = new EmployeesDbTable();
 		DepartmentDbTable dtb = new DepartmentDbTable();
+		DbTableView e = tb.as("e");
+		DbTableView d = dtb.as("d");
 
 		final String title = "Sales";
 
 		SqlQuery query = SqlQueryFactory.createQuery();
 		query.select()
-			 .from(tb.as("e"))
-			 .rightJoin(dtb.as("d"))
-			 .on(tb.department_id.eq(dtb.id))
-			 .where(dtb.title.eq(title));
+			 .from(e)
+			 .rightJoin(d)
+			 .on(e.getField(tb.department_id).eq(d.getField(dtb.id)))
+			 .where(d.getField(dtb.title).eq(title));
 
 		String expected =
 				"SELECT * FROM employees AS e RIGHT JOIN department AS d ON e.department_id = d.id WHERE d.title = ?";
@@ -246,15 +261,17 @@ public class BaseSqlBuilderTest {
 
 		EmployeesDbTable tb = new EmployeesDbTable();
 		DepartmentDbTable dtb = new DepartmentDbTable();
+		DbTableView e = tb.as("e");
+		DbTableView d = dtb.as("d");
 
 		final String title = "Sales";
 
 		SqlQuery query = SqlQueryFactory.createQuery();
 		query.select()
-			 .from(tb.as("e"))
-			 .fullJoin(dtb.as("d"))
-			 .on(tb.department_id.eq(dtb.id))
-			 .where(dtb.title.eq(title));
+			 .from(e)
+			 .fullJoin(d)
+			 .on(e.getField(tb.department_id).eq(d.getField(dtb.id)))
+			 .where(d.getField(dtb.title).eq(title));
 
 		String expected =
 				"SELECT * FROM employees AS e FULL JOIN department AS d ON e.department_id = d.id WHERE d.title = ?";
@@ -268,14 +285,16 @@ public class BaseSqlBuilderTest {
 
 		EmployeesDbTable tb = new EmployeesDbTable();
 		DepartmentDbTable dtb = new DepartmentDbTable();
+		DbTableView e = tb.as("e");
+		DbTableView d = dtb.as("d");
 
 		final String title = "Sales";
 
 		SqlQuery query = SqlQueryFactory.createQuery();
 		query.select()
-			 .from(tb.as("e"))
-			 .crossJoin(dtb.as("d"))
-			 .where(dtb.title.eq(title));
+			 .from(e)
+			 .crossJoin(d)
+			 .where(d.getField(dtb.title).eq(title));
 
 		String expected =
 				"SELECT * FROM employees AS e CROSS JOIN department AS d WHERE d.title = ?";
@@ -289,14 +308,37 @@ public class BaseSqlBuilderTest {
 
 		EmployeesDbTable tb = new EmployeesDbTable();
 		DepartmentDbTable dtb = new DepartmentDbTable();
+		DbTableView e = tb.as("e");
 
 		SqlQuery query = SqlQueryFactory.createQuery();
 
-		query.select(dtb.title).from(tb.as("e"));
+		query.select(dtb.title).from(e);
 
 		Exception exception = assertThrows(IllegalStateException.class, query::getSql);
 
 		assertTrue(exception.getMessage().contains("Selected field was not found in any table in the FROM or JOIN clauses"));
+		assertThrows(IllegalArgumentException.class, () -> e.getField(dtb.title));
+	}
+
+	@Test
+	public void testTableViews() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+		DbTableView e = tb.as("e");
+		DbTableView c = tb.as("c");
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.select(e.getField(tb.name), c.getField(tb.name).as("coworker_name"))
+			 .from(e)
+			 .innerJoin(tb.as("c")).on(e.getField(tb.department_id).eq(c.getField(tb.department_id)))
+			 .where(e.getField(tb.id).ne(c.getField(e.getField(tb.id))));
+
+		assertEquals("SELECT e.name, c.name AS coworker_name FROM employees AS e INNER JOIN employees AS c "
+							 + "ON e.department_id = c.department_id WHERE e.id <> c.id", query.getSql());
+
+		tb.name.as("employee_name");
+		assertNull(tb.getAlias());
+		assertEquals("SELECT name FROM employees", SqlQueryFactory.createQuery().select(tb.name).from(tb).getSql());
 	}
 
 	@Test
@@ -385,6 +427,141 @@ public class BaseSqlBuilderTest {
 		assertEquals(expectedValues, query.getValues());
 	}
 
+	@Test
+	public void testSeekAfterClause() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.select(tb.id, tb.name)
+			 .from(tb)
+			 .orderBy(tb.id.asc())
+			 .seekAfter(100)
+			 .limit(20);
+
+		assertEquals("SELECT id, name FROM employees WHERE id > ? ORDER BY id ASC LIMIT ?", query.getSql());
+		assertEquals(List.of(100, 20), query.getValues());
+	}
+
+	@Test
+	public void testSeekAfterRowValueClause() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+		DepartmentDbTable dep = new DepartmentDbTable();
+		DbTableView e = tb.as("e");
+		DbTableView d = dep.as("d");
+		DbTableField<String> employeeName = e.getField(tb.name).as("employee_name");
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.select(e.getField(tb.id), employeeName)
+			 .from(e)
+			 .innerJoin(d).on(e.getField(tb.department_id).eq(d.getField(dep.id)))
+			 .where(e.getField(tb.age).gt(18).or(e.getField(tb.is_active).eq(true)))
+			 .orderBy(employeeName.desc(), e.getField(tb.id).desc())
+			 .seekAfter(SqlKeysetCursor.of("John", 10))
+			 .limit(20);
+
+		assertEquals("SELECT e.id, e.name AS employee_name FROM employees AS e INNER JOIN department AS d "
+							 + "ON e.department_id = d.id WHERE (e.age > ? OR e.is_active = ?) AND (e.name, e.id) < (?, ?) "
+							 + "ORDER BY employee_name DESC, e.id DESC LIMIT ?", query.getSql());
+		assertEquals(List.of(18, true, "John", 10, 20), query.getValues());
+	}
+
+	@Test
+	public void testSeekAfterMixedOrderClause() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.select()
+			 .from(tb)
+			 .where(tb.is_active.eq(true))
+			 .orderBy(tb.age.desc(), tb.name.asc(), tb.id.asc())
+			 .seekAfter(30, "John", 10)
+			 .limit(20);
+
+		assertEquals("SELECT * FROM employees WHERE is_active = ? "
+							 + "AND (age < ? OR (age = ? AND name > ?) OR (age = ? AND name = ? AND id > ?)) "
+							 + "ORDER BY age DESC, name ASC, id ASC LIMIT ?", query.getSql());
+		assertEquals(List.of(true, 30, 30, "John", 30, "John", 10, 20), query.getValues());
+	}
+
+	@Test
+	public void testSeekAfterFirstPage() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.select().from(tb).orderBy(tb.id.asc()).seekAfter((SqlKeysetCursor) null).limit(20);
+
+		assertEquals("SELECT * FROM employees ORDER BY id ASC LIMIT ?", query.getSql());
+	}
+
+	@Test
+	public void testSeekAfterErrors() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		Exception e = assertThrows(IllegalArgumentException.class,
+								   () -> SqlQueryFactory.createQuery().select().from(tb).orderBy(tb.id.asc()).seekAfter(1, 2));
+		assertEquals("Expected 1 keyset values but got: [1, 2]", e.getMessage());
+
+		e = assertThrows(IllegalStateException.class,
+						 () -> SqlQueryFactory.createQuery().select().from(tb).groupBy(tb.age).orderBy(tb.age.asc()).seekAfter(1));
+		assertEquals("Keyset pagination is not supported on grouped queries", e.getMessage());
+
+		SqlQuery other = SqlQueryFactory.createQuery();
+		other.select().from(tb).where(tb.id.lt(10));
+		assertThrows(IllegalStateException.class,
+					 () -> SqlQueryFactory.createQuery().select().from(tb).where(tb.id.gt(5)).union(other)
+										  .orderBy(tb.id.asc()).seekAfter(50));
+
+		DbWindowField<Long> rowNumber = tb.id.rowNumber(SqlWindow.empty().orderBy(tb.age.desc()));
+		var ranked = SqlQueryFactory.createQuery().select(tb.id, rowNumber).from(tb).orderBy(rowNumber.asc());
+		e = assertThrows(IllegalStateException.class, () -> ranked.seekAfter(10L));
+		assertEquals("Keyset pagination is not supported on the order of a window function: " + rowNumber.getLabel(),
+					 e.getMessage());
+	}
+
+	@Test
+	public void testEmptyWhereAndHavingClauses() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		final String name = null;
+		final Integer minAge = null;
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.select(tb.department_id)
+			 .from(tb)
+			 .where(tb.name.eqIfPresent(name).and(tb.age.geIfPresent(minAge)))
+			 .groupBy(tb.department_id)
+			 .having(tb.id.count().gtIfPresent(null))
+			 .orderBy(tb.department_id.asc());
+
+		assertEquals("SELECT department_id FROM employees GROUP BY department_id ORDER BY department_id ASC",
+					 query.getSql());
+		assertEquals(List.of(), query.getValues());
+
+		SqlQuery filtered = SqlQueryFactory.createQuery();
+		filtered.select()
+				.from(tb)
+				.where(tb.name.eqIfPresent(name).and(tb.age.geIfPresent(18)))
+				.orderBy(tb.id.asc())
+				.seekAfter(10);
+
+		assertEquals("SELECT * FROM employees WHERE age >= ? AND id > ? ORDER BY id ASC", filtered.getSql());
+		assertEquals(List.of(18, 10), filtered.getValues());
+
+		SqlQuery unfiltered = SqlQueryFactory.createQuery();
+		unfiltered.select().from(tb).where(SqlCondition.empty()).orderBy(tb.id.asc()).seekAfter(10);
+
+		assertEquals("SELECT * FROM employees WHERE id > ? ORDER BY id ASC", unfiltered.getSql());
+
+		assertThrows(IllegalArgumentException.class,
+					 () -> SqlQueryFactory.createQuery().select().from(tb).innerJoin(tb.as("b")).on(SqlCondition.empty()));
+	}
+
 	@Test
 	public void testUnionClause() {
 
@@ -498,6 +675,10 @@ public class BaseSqlBuilderTest {
 
 		EmployeesDbTable uemp = new EmployeesDbTable();
 		DepartmentDbTable udep = new DepartmentDbTable();
+		DbTableView empView = emp.as("emp");
+		DbTableView depView = dep.as("dep");
+		DbTableView uempView = uemp.as("uemp");
+		DbTableView udepView = udep.as("udep");
 
 		final boolean isActive = true;
 		final int age = 30;
@@ -506,23 +687,26 @@ public class BaseSqlBuilderTest {
 		final int limit = 10;
 		final int offset = 3;
 
-		DbAggregateField<Long> emp_count = emp.id.count();
-
-		query.select(emp_count.as("emp_count"), dep.title.as("dep_name"))
-			 .from(emp.as("emp"))
-			 .innerJoin(dep.as("dep"))
-			 .on(emp.department_id.eq(dep.id))
-			 .where(emp.is_active.eq(isActive).and(emp.age.gt(age).or(dep.admin_id.eq(emp.id))))
-			 .groupBy(dep.title)
-			 .having(dep.title.like(title))
+		DbAggregateField<Long> emp_count = empView.getField(emp.id).count().as("emp_count");
+
+		query.select(emp_count, depView.getField(dep.title).as("dep_name"))
+			 .from(empView)
+			 .innerJoin(depView)
+			 .on(empView.getField(emp.department_id).eq(depView.getField(dep.id)))
+			 .where(empView.getField(emp.is_active).eq(isActive)
+						   .and(empView.getField(emp.age).gt(age)
+										   .or(depView.getField(dep.admin_id).eq(empView.getField(emp.id)))))
+			 .groupBy(depView.getField(dep.title))
+			 .having(depView.getField(dep.title).like(title))
 			 .limit(limit)
 			 .offset(offset)
-			 .union(unionQuery.select(uemp.id.max().as("max_id"), udep.title.as("dep_name"))
-							  .from(uemp.as("uemp"))
-							  .innerJoin(udep.as("udep"))
-							  .on(uemp.department_id.eq(udep.id))
-							  .where(udep.id.gt(departmentId))
-							  .groupBy(udep.title))
+			 .union(unionQuery.select(uempView.getField(uemp.id).max().as("max_id"),
+									  udepView.getField(udep.title).as("dep_name"))
+							  .from(uempView)
+							  .innerJoin(udepView)
+							  .on(uempView.getField(uemp.department_id).eq(udepView.getField(udep.id)))
+							  .where(udepView.getField(udep.id).gt(departmentId))
+							  .groupBy(udepView.getField(udep.title)))
 			 .orderBy(emp_count.desc());
 
 		String expectedSQL = "SELECT COUNT(emp.id) AS emp_count, dep.title AS dep_name " +
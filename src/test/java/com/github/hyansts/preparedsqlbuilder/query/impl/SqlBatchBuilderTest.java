@@ -1,14 +1,25 @@
 package com.github.hyansts.preparedsqlbuilder.query.impl;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 import com.github.hyansts.preparedsqlbuilder.db.impl.BaseDbTable;
 import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField;
 import com.github.hyansts.preparedsqlbuilder.query.SqlBatchQuery;
+import com.github.hyansts.preparedsqlbuilder.query.SqlBulkLoadWriter;
+import com.github.hyansts.preparedsqlbuilder.sql.StandardSqlDialect;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SqlBatchBuilderTest {
 
@@ -45,6 +56,28 @@ public class SqlBatchBuilderTest {
 		assertEquals(List.of(values1, values2, values3), query.getValuesBatch());
 	}
 
+	@Test
+	public void testBatchUpsert() {
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		SqlBatchQuery query = SqlQueryFactory.createQuery().batchInsert(
+				(q) ->
+						q.insertInto(tb)
+						 .values(tb.id.value(null),
+								 tb.name.value(null),
+								 tb.age.value(null))
+						 .onConflict(tb.id)
+						 .doUpdateSet(tb.name, tb.age));
+
+		query.addBatch(1, "John", 20)
+			 .addBatch(2, "Jane", 25);
+
+		String expected = "INSERT INTO employees (id, name, age) VALUES (?, ?, ?) "
+								  + "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, age = EXCLUDED.age";
+		assertEquals(expected, query.getSql());
+		assertEquals(2, query.getValuesBatch().size());
+	}
+
 	@Test
 	public void testBatchUpdate() {
 		EmployeesDbTable tb = new EmployeesDbTable();
@@ -90,4 +123,56 @@ public class SqlBatchBuilderTest {
 		assertEquals(List.of(values1, values2), query.getValuesBatch());
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testBulkLoadCsv() throws IOException {
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		SqlBatchQuery query = SqlQueryFactory.createQuery().batchInsert(
+				(q) -> q.insertInto(tb).values(tb.id.value(null), tb.name.value(null), tb.age.value(null)));
+
+		assertEquals(List.of("id", "name", "age"), query.getColumns());
+		assertEquals("COPY employees (id, name, age) FROM STDIN (FORMAT csv)", query.getLoadSql());
+
+		StringWriter output = new StringWriter();
+		try (SqlBulkLoadWriter writer = query.bulkLoad(output)) {
+			writer.writeRow(1, "John", 20)
+				  .writeRow(2, "Doe, \"Jane\"", null)
+				  .writeRow(3, "", new BigDecimal("1E+2"))
+				  .writeRow(4, "multi\nline", 40);
+			assertEquals(4, writer.getRowCount());
+			assertThrows(IllegalArgumentException.class, () -> writer.writeRow(5, "Bob"));
+		}
+		String expected = "1,John,20\n2,\"Doe, \"\"Jane\"\"\",\n3,\"\",100\n4,\"multi\nline\",40\n";
+		assertEquals(expected, output.toString());
+	}
+
+	@Test
+	public void testBulkLoadToFile(@TempDir Path tempDir) throws IOException {
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		SqlBatchQuery query = SqlQueryFactory.createQuery(StandardSqlDialect.MYSQL).batchInsert(
+				(q) -> q.insertInto(tb).values(tb.name.value(null), tb.age.value(null)));
+
+		String expectedSql = "LOAD DATA LOCAL INFILE 'stdin' INTO TABLE employees CHARACTER SET utf8mb4 "
+									 + "FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '' "
+									 + "LINES TERMINATED BY '\\n' (name, age)";
+		assertEquals(expectedSql, query.getLoadSql());
+
+		Path file = tempDir.resolve("employees.csv");
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			 SqlBulkLoadWriter writer = query.bulkLoad(channel)) {
+			writer.writeRow("Zoë", null).writeRow("NULL", 30).writeRow("C:\\temp", 40);
+			assertThrows(IllegalArgumentException.class, () -> writer.writeRow(new byte[]{1}, 50));
+		}
+		assertEquals("Zoë,NULL\n\"NULL\",30\nC:\\temp,40\n", Files.readString(file));
+
+		SqlBatchQuery delete = SqlQueryFactory.createQuery().batchDelete((q) -> q.deleteFrom(tb).where(tb.id.eq(0)));
+		assertThrows(IllegalStateException.class, () -> delete.bulkLoad(new StringWriter()));
+		assertThrows(IllegalStateException.class, delete::getLoadSql);
+
+		SqlBatchQuery sqlite = SqlQueryFactory.createQuery(StandardSqlDialect.SQLITE).batchInsert(
+				(q) -> q.insertInto(tb).values(tb.name.value(null)));
+		assertThrows(IllegalArgumentException.class, sqlite::getLoadSql);
+	}
+
+}
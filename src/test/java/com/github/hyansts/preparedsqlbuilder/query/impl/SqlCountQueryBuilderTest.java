@@ -0,0 +1,136 @@
+package com.github.hyansts.preparedsqlbuilder.query.impl;
+
+import java.util.List;
+
+import com.github.hyansts.preparedsqlbuilder.db.DbEntity;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbFieldMapping;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField;
+import com.github.hyansts.preparedsqlbuilder.db.impl.MappedDbTable;
+import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SqlCountQueryBuilderTest {
+
+	private static class Entity implements DbEntity {
+
+		private Integer id;
+		private Integer field;
+		private Integer field2;
+
+		public Integer getId() { return id; }
+		public void setId(Integer id) { this.id = id; }
+		public Integer getField() { return field; }
+		public void setField(Integer field) { this.field = field; }
+		public Integer getField2() { return field2; }
+		public void setField2(Integer field2) { this.field2 = field2; }
+	}
+
+	private static class EntityTable extends MappedDbTable<Entity, Integer, EntityTable> {
+
+		public final DbTableField<Integer> id = new DbTableField<>("id", this, Integer.class);
+		public final DbTableField<Integer> field = new DbTableField<>("field", this, Integer.class);
+		public final DbTableField<Integer> field2 = new DbTableField<>("field2", this, Integer.class);
+
+		public EntityTable() { super("table", id -> new Entity()); }
+
+		@Override
+		public void mapToTable(DbFieldMapping<Entity> fieldMapping) {
+			fieldMapping
+					.mapPrimaryKey(this.id, Entity::getId, Entity::setId)
+					.mapField(this.field, Entity::getField, Entity::setField)
+					.mapField(this.field2, Entity::getField2, Entity::setField2);
+		}
+	}
+
+	@Test
+	public void testCountQueryPrunesUnreferencedJoins() {
+		var tb = new EntityTable();
+		var t = tb.as("t");
+		var p = tb.as("p");
+		var o = tb.as("o");
+
+		PreparedSql pruned = SqlQueryFactory.createCountQuery()
+											.select(t.getField(tb.id), p.getField(tb.field))
+											.from(t)
+											.leftJoin(p).on(t.getField(tb.field).eq(p.getField(tb.id)))
+											.where(t.getField(tb.field2).gt(1))
+											.orderBy(p.getField(tb.field).asc());
+		assertEquals("SELECT COUNT(*) FROM table AS t WHERE t.field2 > ?", pruned.getSql());
+		assertEquals(List.of(1), pruned.getValues());
+
+		PreparedSql referenced = SqlQueryFactory.createCountQuery()
+												.select(t.getField(tb.id))
+												.from(t)
+												.leftJoin(p).on(t.getField(tb.field).eq(p.getField(tb.id)))
+												.leftJoin(o).on(p.getField(tb.field).eq(o.getField(tb.id)))
+												.where(o.getField(tb.field2).isNull());
+		assertEquals("SELECT COUNT(*) FROM table AS t LEFT JOIN table AS p ON t.field = p.id "
+							 + "LEFT JOIN table AS o ON p.field = o.id WHERE o.field2 IS NULL", referenced.getSql());
+
+		PreparedSql notOnPrimaryKey = SqlQueryFactory.createCountQuery()
+													 .select()
+													 .from(t)
+													 .leftJoin(p).on(t.getField(tb.id).eq(p.getField(tb.field)));
+		assertEquals("SELECT COUNT(*) FROM table AS t LEFT JOIN table AS p ON t.id = p.field", notOnPrimaryKey.getSql());
+
+		PreparedSql notAnEquality = SqlQueryFactory.createCountQuery()
+												   .select()
+												   .from(t)
+												   .leftJoin(p).on(t.getField(tb.field).eq(p.getField(tb.id))
+																	.or(t.getField(tb.field2).eq(p.getField(tb.id))));
+		assertEquals("SELECT COUNT(*) FROM table AS t LEFT JOIN table AS p ON t.field = p.id OR t.field2 = p.id",
+					 notAnEquality.getSql());
+	}
+
+	@Test
+	public void testCountQueryKeepsJoinsReferencedBySubqueries() {
+		var tb = new EntityTable();
+		var t = tb.as("t");
+		var p = tb.as("p");
+		var s = tb.as("s");
+
+		PreparedSql correlated = SqlQueryFactory.createCountQuery()
+												.select()
+												.from(t)
+												.leftJoin(p).on(t.getField(tb.field).eq(p.getField(tb.id)))
+												.where(SqlQueryFactory.<Integer>createScalarSubquery().exists(
+														q -> q.select("1").from(s).where(s.getField(tb.id).eq(p.getField(tb.field)))));
+		assertEquals("SELECT COUNT(*) FROM table AS t LEFT JOIN table AS p ON t.field = p.id "
+							 + "WHERE EXISTS (SELECT 1 FROM table AS s WHERE s.id = p.field)", correlated.getSql());
+
+		PreparedSql uncorrelated = SqlQueryFactory.createCountQuery()
+												  .select()
+												  .from(t)
+												  .leftJoin(p).on(t.getField(tb.field).eq(p.getField(tb.id)))
+												  .where(SqlQueryFactory.<Integer>createScalarSubquery().exists(
+														  q -> q.select("1").from(s).where(s.getField(tb.id).eq(t.getField(tb.field)))));
+		assertEquals("SELECT COUNT(*) FROM table AS t WHERE EXISTS (SELECT 1 FROM table AS s WHERE s.id = t.field)",
+					 uncorrelated.getSql());
+	}
+
+	@Test
+	public void testCountQueryOfGroupedAndDistinctQueries() {
+		var table = new EntityTable();
+
+		PreparedSql grouped = SqlQueryFactory.createCountQuery()
+											 .select(table.field, table.field2.count())
+											 .from(table)
+											 .groupBy(table.field)
+											 .having(table.field2.count().gt(1L))
+											 .limit(5);
+		assertEquals("SELECT COUNT(*) FROM (SELECT 1 FROM table GROUP BY field HAVING COUNT(field2) > ?) AS count_query",
+					 grouped.getSql());
+		assertEquals(List.of(1L), grouped.getValues());
+
+		PreparedSql distinct = SqlQueryFactory.createCountQuery().selectDistinct(table.field).from(table).limit(5);
+		assertEquals("SELECT COUNT(*) FROM (SELECT DISTINCT field FROM table) AS count_query", distinct.getSql());
+
+		var union = SqlQueryFactory.createCountQuery().select().from(table);
+		assertThrows(IllegalStateException.class, () -> union.union(SqlQueryFactory.createQuery().select().from(table)));
+	}
+
+}
@@ -4,11 +4,17 @@ import java.util.List;
 
 import com.github.hyansts.preparedsqlbuilder.db.impl.BaseDbTable;
 import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableView;
+import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
 import com.github.hyansts.preparedsqlbuilder.query.SqlQuery;
+import com.github.hyansts.preparedsqlbuilder.query.ValuesStep;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlHint;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlTableHint;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SqlQueryBuilderTest {
 
@@ -22,6 +28,15 @@ public class SqlQueryBuilderTest {
 		public EmployeesDbTable() { super("employees"); }
 	}
 
+	private static class DepartmentDbTable extends BaseDbTable {
+
+		public final DbTableField<Integer> id = new DbTableField<>("id", this, Integer.class);
+		public final DbTableField<String> title = new DbTableField<>("title", this, String.class);
+		public final DbTableField<Integer> manager_id = new DbTableField<>("manager_id", this, Integer.class);
+
+		public DepartmentDbTable() { super("department"); }
+	}
+
 	@Test
 	public void testSingleColumnUpdateClause() {
 
@@ -96,6 +111,18 @@ public class SqlQueryBuilderTest {
 		assertEquals(expectedValues, query.getValues());
 	}
 
+	@Test
+	public void testEmptyConditionOnUpdateAndDelete() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		assertThrows(IllegalArgumentException.class,
+					 () -> SqlQueryFactory.createQuery().deleteFrom(tb).where(tb.id.eqIfPresent(null)));
+		assertThrows(IllegalArgumentException.class,
+					 () -> SqlQueryFactory.createQuery().update(tb).set(tb.name.value("John"))
+										  .where(tb.id.inIfPresent(List.of())));
+	}
+
 	@Test
 	public void testInsertClause() {
 
@@ -119,4 +146,221 @@ public class SqlQueryBuilderTest {
 		assertEquals(expectedValues, query.getValues());
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testStatementAndTableHints() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+		DepartmentDbTable dep = new DepartmentDbTable();
+		DbTableView e = tb.as("e").withHints(SqlTableHint.forceIndex("idx_age"));
+		DbTableView d = dep.as("d").withHints(SqlTableHint.useIndex("idx_manager", "idx_title"),
+											  SqlTableHint.of("WITH (NOLOCK)"));
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.select(e.getField(tb.name), d.getField(dep.title))
+			 .from(e)
+			 .innerJoin(d).on(d.getField(dep.manager_id).eq(e.getField(tb.id)))
+			 .where(e.getField(tb.age).gt(30))
+			 .getQuery()
+			 .hint(SqlHint.leading(e, d), SqlHint.parallel(4), SqlHint.index(e, "idx_age"));
+
+		String expected = "SELECT /*+ LEADING(e d) PARALLEL(4) INDEX(e idx_age) */ e.name, d.title "
+								  + "FROM employees AS e FORCE INDEX (idx_age) "
+								  + "INNER JOIN department AS d USE INDEX (idx_manager, idx_title) WITH (NOLOCK) "
+								  + "ON d.manager_id = e.id WHERE e.age > ?";
+		assertEquals(expected, query.getSql());
+		assertEquals(List.of(30), query.getValues());
+	}
+
+	@Test
+	public void testModifyingStatementHints() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+		DepartmentDbTable dep = new DepartmentDbTable();
+
+		SqlQuery delete = SqlQueryFactory.createQuery();
+		delete.hint(SqlHint.of("NO_INDEX_MERGE", tb)).deleteFrom(tb).where(tb.id.eq(1));
+		assertEquals("DELETE /*+ NO_INDEX_MERGE(employees) */ FROM employees WHERE id = ?", delete.getSql());
+
+		SqlQuery insert = SqlQueryFactory.createQuery();
+		insert.hint(SqlHint.of("APPEND")).insertInto(dep, dep.manager_id).select(tb.id).from(tb);
+		assertEquals("INSERT /*+ APPEND */ INTO department (manager_id) SELECT id FROM employees", insert.getSql());
+
+		assertThrows(IllegalArgumentException.class, () -> SqlHint.parallel(0));
+		assertThrows(IllegalArgumentException.class, SqlTableHint::useIndex);
+	}
+
+	@Test
+	public void testExistsQuery() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+		DepartmentDbTable dep = new DepartmentDbTable();
+		DbTableView e = tb.as("e");
+		DbTableView d = dep.as("d");
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		PreparedSql exists = query.hint(SqlHint.of("FIRST_ROWS"))
+								  .select(e.getField(tb.id))
+								  .from(e)
+								  .innerJoin(d).on(d.getField(dep.manager_id).eq(e.getField(tb.id)))
+								  .where(e.getField(tb.age).gt(60))
+								  .exists();
+
+		String expected = "SELECT EXISTS (SELECT /*+ FIRST_ROWS */ e.id FROM employees AS e "
+								  + "INNER JOIN department AS d ON d.manager_id = e.id WHERE e.age > ?)";
+		assertEquals(expected, exists.getSql());
+		assertEquals(List.of(60), exists.getValues());
+	}
+
+	@Test
+	public void testInsertSelectClause() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+		DepartmentDbTable dep = new DepartmentDbTable();
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.insertInto(dep, dep.manager_id, dep.title)
+			 .select(tb.id, tb.name)
+			 .from(tb)
+			 .where(tb.age.gt(60));
+
+		String expected = "INSERT INTO department (manager_id, title) SELECT id, name FROM employees WHERE age > ?";
+		assertEquals(expected, query.getSql());
+		assertEquals(List.of(60), query.getValues());
+	}
+
+	@Test
+	public void testUpdateFromClause() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+		DepartmentDbTable dep = new DepartmentDbTable();
+		DbTableView d = dep.as("d");
+		DbTableView e = tb.as("e");
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.update(e)
+			 .set(e.getField(tb.is_active).value(false))
+			 .set(e.getField(tb.name), d.getField(dep.title))
+			 .from(d)
+			 .where(e.getField(tb.id).eq(d.getField(dep.manager_id)).and(d.getField(dep.title).ne("Board")));
+
+		String expected = "UPDATE employees AS e SET is_active = ?, name = d.title FROM department AS d "
+								  + "WHERE e.id = d.manager_id AND d.title <> ?";
+		assertEquals(expected, query.getSql());
+		assertEquals(List.of(false, "Board"), query.getValues());
+	}
+
+	@Test
+	public void testUpdateFromJoinClause() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+		EmployeesDbTable manager = new EmployeesDbTable();
+		DepartmentDbTable dep = new DepartmentDbTable();
+		DbTableView m = manager.as("m");
+		DbTableView e = tb.as("e");
+		DbTableView d = dep.as("d");
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.update(e)
+			 .set(e.getField(tb.age), m.getField(manager.age))
+			 .from(d)
+			 .innerJoin(m).on(d.getField(dep.manager_id).eq(m.getField(manager.id)))
+			 .where(e.getField(tb.id).eq(d.getField(dep.id)));
+
+		String expected = "UPDATE employees AS e SET age = m.age FROM department AS d "
+								  + "INNER JOIN employees AS m ON d.manager_id = m.id WHERE e.id = d.id";
+		assertEquals(expected, query.getSql());
+		assertEquals(List.of(), query.getValues());
+	}
+
+	@Test
+	public void testDeleteUsingClause() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+		DepartmentDbTable dep = new DepartmentDbTable();
+		DbTableView e = tb.as("e");
+		DbTableView d = dep.as("d");
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.deleteFrom(e)
+			 .using(d)
+			 .where(e.getField(tb.id).eq(d.getField(dep.manager_id)).and(d.getField(dep.title).eq("Closed")));
+
+		String expected = "DELETE FROM employees AS e USING department AS d WHERE e.id = d.manager_id AND d.title = ?";
+		assertEquals(expected, query.getSql());
+		assertEquals(List.of("Closed"), query.getValues());
+	}
+
+	@Test
+	public void testMultiRowInsertClause() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.insertInto(tb)
+			 .values(tb.id.value(1), tb.name.value("John"))
+			 .values(tb.id.value(2), tb.name.value("Jane"))
+			 .values(tb.id.value(3), tb.name.value("Bob"))
+			 .onConflict()
+			 .doNothing();
+
+		String expected = "INSERT INTO employees (id, name) VALUES (?, ?), (?, ?), (?, ?) ON CONFLICT DO NOTHING";
+		assertEquals(expected, query.getSql());
+		assertEquals(List.of(1, "John", 2, "Jane", 3, "Bob"), query.getValues());
+	}
+
+	@Test
+	public void testMultiRowInsertWithDifferentFields() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		ValuesStep values = SqlQueryFactory.createQuery().insertInto(tb).values(tb.id.value(1), tb.name.value("John"));
+
+		assertThrows(IllegalArgumentException.class, () -> values.values(tb.name.value("Jane"), tb.id.value(2)));
+		assertThrows(IllegalArgumentException.class, () -> values.values(tb.id.value(2)));
+	}
+
+	@Test
+	public void testInsertOnConflictDoUpdate() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.insertInto(tb)
+			 .values(tb.id.value(1), tb.name.value("John"), tb.age.value(30))
+			 .onConflict(tb.id)
+			 .doUpdate(tb.name.value("John"), tb.age.value(31));
+
+		String expected = "INSERT INTO employees (id, name, age) VALUES (?, ?, ?) ON CONFLICT (id) DO UPDATE SET name = ?, age = ?";
+		assertEquals(expected, query.getSql());
+		assertEquals(List.of(1, "John", 30, "John", 31), query.getValues());
+	}
+
+	@Test
+	public void testInsertOnConflictDoUpdateSet() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.insertInto(tb)
+			 .values(tb.id.value(1), tb.name.value("John"), tb.age.value(30))
+			 .onConflict(tb.id, tb.name)
+			 .doUpdateSet(tb.age);
+
+		String expected = "INSERT INTO employees (id, name, age) VALUES (?, ?, ?) "
+								  + "ON CONFLICT (id, name) DO UPDATE SET age = EXCLUDED.age";
+		assertEquals(expected, query.getSql());
+		assertEquals(List.of(1, "John", 30), query.getValues());
+	}
+
+	@Test
+	public void testInsertOnConflictDoNothing() {
+
+		EmployeesDbTable tb = new EmployeesDbTable();
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.insertInto(tb).values(tb.id.value(1)).onConflict().doNothing();
+
+		assertEquals("INSERT INTO employees (id) VALUES (?) ON CONFLICT DO NOTHING", query.getSql());
+	}
+
+}
@@ -6,8 +6,15 @@ import com.github.hyansts.preparedsqlbuilder.db.DbComparableField;
 import com.github.hyansts.preparedsqlbuilder.db.impl.BaseDbTable;
 import com.github.hyansts.preparedsqlbuilder.db.impl.DbAggregateField;
 import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableView;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbWindowField;
+import com.github.hyansts.preparedsqlbuilder.query.SqlCommonTable;
 import com.github.hyansts.preparedsqlbuilder.query.SqlQuery;
 import com.github.hyansts.preparedsqlbuilder.query.SqlSubquery;
+import com.github.hyansts.preparedsqlbuilder.query.SqlValuesTable;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlCondition;
+import com.github.hyansts.preparedsqlbuilder.sql.SqlWindow;
+import com.github.hyansts.preparedsqlbuilder.sql.StandardSqlDialect;
 
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +38,7 @@ public class SqlSubqueryBuilderTest {
 		public final DbTableField<Integer> id = new DbTableField<>("id", this, Integer.class);
 		public final DbTableField<String> title = new DbTableField<>("title", this, String.class);
 		public final DbTableField<Integer> admin_id = new DbTableField<>("admin_id", this, Integer.class);
+		public final DbTableField<Integer> parent_id = new DbTableField<>("parent_id", this, Integer.class);
 
 		public DepartmentDbTable() { super("department"); }
 	}
@@ -38,9 +46,11 @@ public class SqlSubqueryBuilderTest {
 	@Test
 	public void testDerivedTableSubquery() {
 
-		EmployeesDbTable subEmp = new EmployeesDbTable();
-		DepartmentDbTable subDep = new DepartmentDbTable();
+		EmployeesDbTable emp = new EmployeesDbTable();
 		DepartmentDbTable dep = new DepartmentDbTable();
+		DbTableView subemp = emp.as("subemp");
+		DbTableView subdep = dep.as("subdep");
+		DbTableView d = dep.as("dep");
 
 		final int departmentId = 10;
 		final String title = "A%";
@@ -51,23 +61,23 @@ public class SqlSubqueryBuilderTest {
 		SqlQuery query = SqlQueryFactory.createQuery();
 		SqlSubquery subquery = SqlQueryFactory.createSubquery();
 
-		DbAggregateField<Long> id_count = subEmp.id.count();
+		DbAggregateField<Long> id_count = subemp.getField(emp.id).count().as("id_count");
 
-		subquery.select(id_count.as("id_count"), subEmp.department_id, subDep.title.as("dep_name"))
-				.from(subEmp.as("subemp"))
-				.innerJoin(subDep.as("subdep"))
-				.on(subEmp.department_id.eq(subDep.id))
-				.where(subDep.id.gt(departmentId))
-				.groupBy(subEmp.department_id, subDep.title)
-				.having(subDep.title.like(title));
+		subquery.select(id_count, subemp.getField(emp.department_id), subdep.getField(dep.title).as("dep_name"))
+				.from(subemp)
+				.innerJoin(subdep)
+				.on(subemp.getField(emp.department_id).eq(subdep.getField(dep.id)))
+				.where(subdep.getField(dep.id).gt(departmentId))
+				.groupBy(subemp.getField(emp.department_id), subdep.getField(dep.title))
+				.having(subdep.getField(dep.title).like(title));
 
 		DbComparableField<Long> emp_count = subquery.getField(id_count);
 
-		query.select(emp_count, dep.title, dep.admin_id.as("dep_admin"))
+		query.select(emp_count, d.getField(dep.title), d.getField(dep.admin_id).as("dep_admin"))
 			 .from(subquery.as("emp"))
-			 .innerJoin(dep.as("dep"))
-			 .on(subquery.getField(subEmp.department_id).eq(dep.id))
-			 .where(dep.admin_id.ge(adminId))
+			 .innerJoin(d)
+			 .on(subquery.getField(emp.department_id).eq(d.getField(dep.id)))
+			 .where(d.getField(dep.admin_id).ge(adminId))
 			 .orderBy(emp_count.desc())
 			 .limit(limit)
 			 .offset(offset);
@@ -96,17 +106,18 @@ public class SqlSubqueryBuilderTest {
 
 		EmployeesDbTable emp = new EmployeesDbTable();
 		DepartmentDbTable dep = new DepartmentDbTable();
+		DbTableView depView = dep.as("dep");
 
 		SqlQuery query = SqlQueryFactory.createQuery();
 		SqlSubquery subquery = SqlQueryFactory.createSubquery();
 
 		DbAggregateField<Integer> maxAge = emp.age.max();
 
-		query.select(subquery.getField(emp.department_id), subquery.getField(maxAge), dep.title)
+		query.select(subquery.getField(emp.department_id), subquery.getField(maxAge), depView.getField(dep.title))
 			 .from(subquery.select(emp.department_id, maxAge.as("max_age"))
 						   .from(emp)
 						   .groupBy(emp.department_id).getQuery().as("sub"))
-			 .innerJoin(dep.as("dep")).on(subquery.getField(emp.department_id).eq(dep.id));
+			 .innerJoin(depView).on(subquery.getField(emp.department_id).eq(depView.getField(dep.id)));
 
 		String expectedSQL = "SELECT sub.department_id, sub.max_age, dep.title " +
 									 "FROM ("
@@ -123,17 +134,20 @@ public class SqlSubqueryBuilderTest {
 	public void testSubqueryChainingWithFieldAlias() {
 		EmployeesDbTable emp = new EmployeesDbTable();
 		DepartmentDbTable dep = new DepartmentDbTable();
+		DbTableView depView = dep.as("dep");
 
 		SqlQuery query = SqlQueryFactory.createQuery();
 		SqlSubquery subquery = SqlQueryFactory.createSubquery();
 
-		DbAggregateField<Integer> maxAge = emp.age.max();
+		DbTableField<Integer> departmentId = emp.department_id.as("id");
+		DbAggregateField<Integer> maxAge = emp.age.max().as("max_age");
 
-		query.select(subquery.getField(emp.department_id).as("dep_id"), subquery.getField(maxAge), dep.title.as("title"))
-			 .from(subquery.select(emp.department_id.as("id"), maxAge.as("max_age"))
+		query.select(subquery.getField(departmentId).as("dep_id"), subquery.getField(maxAge),
+					 depView.getField(dep.title).as("title"))
+			 .from(subquery.select(departmentId, maxAge)
 						   .from(emp)
 						   .groupBy(emp.department_id).getQuery().as("sub"))
-			 .innerJoin(dep.as("dep")).on(subquery.getField(emp.department_id).eq(dep.id));
+			 .innerJoin(depView).on(subquery.getField(departmentId).eq(depView.getField(dep.id)));
 
 		String expectedSQL = "SELECT sub.id AS dep_id, sub.max_age, dep.title AS title " +
 									 "FROM ("
@@ -150,6 +164,7 @@ public class SqlSubqueryBuilderTest {
 	public void testReferenceSubqueryWithNoAlias() {
 		EmployeesDbTable emp = new EmployeesDbTable();
 		DepartmentDbTable dep = new DepartmentDbTable();
+		DbTableView depView = dep.as("dep");
 
 		SqlQuery query = SqlQueryFactory.createQuery();
 		SqlSubquery subquery = SqlQueryFactory.createSubquery();
@@ -157,12 +172,12 @@ public class SqlSubqueryBuilderTest {
 		DbAggregateField<Integer> maxAge = emp.age.max();
 
 		Exception exception = assertThrows(IllegalStateException.class, () -> {
-			query.select(subquery.getField(emp.department_id), subquery.getField(maxAge), dep.title)
+			query.select(subquery.getField(emp.department_id), subquery.getField(maxAge), depView.getField(dep.title))
 				 .from(subquery.select(emp.department_id, maxAge.as("max_age"))
 							   .from(emp)
 							   .groupBy(emp.department_id)
 							   .getQuery())
-				 .innerJoin(dep.as("dep")).on(subquery.getField(emp.department_id).eq(dep.id));
+				 .innerJoin(depView).on(subquery.getField(emp.department_id).eq(depView.getField(dep.id)));
 		});
 
 		assertTrue(exception.getMessage().contains("Derived table subquery must have an alias"));
@@ -172,18 +187,22 @@ public class SqlSubqueryBuilderTest {
 	public void testSubqueryAggregateFieldWithNoAlias() {
 		EmployeesDbTable emp = new EmployeesDbTable();
 		DepartmentDbTable dep = new DepartmentDbTable();
+		DbTableView empView = emp.as("emp");
+		DbTableView depView = dep.as("dep");
 
 		SqlQuery query = SqlQueryFactory.createQuery();
 		SqlSubquery subquery = SqlQueryFactory.createSubquery();
 
 		// Default alias = aggregator_fieldName (max_age)
-		DbAggregateField<Integer> maxAge = emp.age.max();
+		DbAggregateField<Integer> maxAge = empView.getField(emp.age).max();
+		DbTableField<Integer> departmentId = empView.getField(emp.department_id).as("id");
 
-		query.select(subquery.getField(emp.department_id).as("dep_id"), subquery.getField(maxAge), dep.title.as("title"))
-			 .from(subquery.select(emp.department_id.as("id"), maxAge)
-						   .from(emp.as("emp"))
-						   .groupBy(emp.department_id).getQuery().as("sub"))
-			 .innerJoin(dep.as("dep")).on(subquery.getField(emp.department_id).eq(dep.id));
+		query.select(subquery.getField(departmentId).as("dep_id"), subquery.getField(maxAge),
+					 depView.getField(dep.title).as("title"))
+			 .from(subquery.select(departmentId, maxAge)
+						   .from(empView)
+						   .groupBy(empView.getField(emp.department_id)).getQuery().as("sub"))
+			 .innerJoin(depView).on(subquery.getField(departmentId).eq(depView.getField(dep.id)));
 
 		String expectedSQL = "SELECT sub.id AS dep_id, sub.max_age, dep.title AS title " +
 									 "FROM ("
@@ -201,18 +220,19 @@ public class SqlSubqueryBuilderTest {
 
 		EmployeesDbTable emp = new EmployeesDbTable();
 		DepartmentDbTable dep = new DepartmentDbTable();
+		DbTableView depView = dep.as("dep");
 
 		SqlQuery query = SqlQueryFactory.createQuery();
 		SqlSubquery subquery = SqlQueryFactory.createSubquery();
 
 		DbAggregateField<Integer> maxAge = emp.age.max();
 
-		query.select(subquery.getField(emp.department_id), subquery.getField(maxAge), dep.title)
-			 .from(dep.as("dep"))
+		query.select(subquery.getField(emp.department_id), subquery.getField(maxAge), depView.getField(dep.title))
+			 .from(depView)
 			 .innerJoin(subquery.select(emp.department_id, maxAge.as("max_age"))
 								.from(emp)
 								.groupBy(emp.department_id).getQuery().as("sub"))
-			 .on(subquery.getField(emp.department_id).eq(dep.id));
+			 .on(subquery.getField(emp.department_id).eq(depView.getField(dep.id)));
 
 		String expectedSQL = "SELECT sub.department_id, sub.max_age, dep.title " +
 									 "FROM department AS dep " +
@@ -335,4 +355,229 @@ public class SqlSubqueryBuilderTest {
 		assertEquals(expectedValues, subquery.getValues());
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testValuesTableJoin() {
+		EmployeesDbTable emp = new EmployeesDbTable();
+		DbTableView e = emp.as("e");
+		SqlValuesTable<Integer> ids = SqlQueryFactory.createValuesTable("id", Integer.class, List.of(1, 2, 3));
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.select(e.getField(emp.age), ids.getColumn())
+			 .from(e)
+			 .innerJoin(ids.as("ids")).on(ids.getColumn().eq(e.getField(emp.id)))
+			 .where(e.getField(emp.age).gt(18));
+
+		assertEquals("SELECT e.age, ids.id FROM employees AS e "
+							 + "INNER JOIN (VALUES (?), (?), (?)) AS ids(id) ON ids.id = e.id WHERE e.age > ?",
+					 query.getSql());
+		assertEquals(List.of(1, 2, 3, 18), query.getValues());
+	}
+
+	@Test
+	public void testValuesTableDialects() {
+		EmployeesDbTable emp = new EmployeesDbTable();
+		SqlValuesTable<Integer> ids = SqlQueryFactory.createValuesTable("id", Integer.class, List.of(1, 2));
+		ids.as("ids");
+
+		SqlQuery mysql = SqlQueryFactory.createQuery(StandardSqlDialect.MYSQL);
+		mysql.select(emp.age).from(emp).innerJoin(ids).on(ids.getColumn().eq(emp.id));
+		assertEquals("SELECT age FROM employees INNER JOIN (VALUES ROW(?), ROW(?)) AS ids(id) ON ids.id = id",
+					 mysql.getSql());
+
+		SqlQuery oracle = SqlQueryFactory.createQuery(StandardSqlDialect.ORACLE);
+		assertThrows(IllegalArgumentException.class, () -> oracle.select(emp.age).from(emp).innerJoin(ids));
+		assertThrows(IllegalArgumentException.class,
+					 () -> SqlQueryFactory.createValuesSubquery(StandardSqlDialect.SQLITE, Integer.class, List.of(1)));
+	}
+
+	@Test
+	public void testInValuesTableThreshold() {
+		EmployeesDbTable table = new EmployeesDbTable();
+
+		SqlCondition below = SqlQueryFactory.createInCondition(table.id, List.of(1, 2), 2);
+		assertEquals("id IN (?, ?)", below.getSql());
+
+		SqlCondition above = SqlQueryFactory.createInCondition(table.id, List.of(1, 2, 3), 2);
+		assertEquals("id IN (SELECT in_list.val FROM (VALUES (?), (?), (?)) AS in_list(val))", above.getSql());
+		assertEquals(List.of(1, 2, 3), above.getComparedValues());
+
+		SqlCondition notIn = SqlQueryFactory.createNotInCondition(table.id, List.of(1, 2, 3), 2);
+		assertEquals("id NOT IN (SELECT in_list.val FROM (VALUES (?), (?), (?)) AS in_list(val))", notIn.getSql());
+
+		SqlQuery oracle = SqlQueryFactory.createQuery(StandardSqlDialect.ORACLE);
+		assertThrows(IllegalArgumentException.class, () -> oracle.select().from(table).where(above));
+
+		SqlCondition mysql = table.id.in(SqlQueryFactory.createValuesSubquery(StandardSqlDialect.MYSQL, Integer.class,
+																				List.of(1, 2)));
+		assertEquals("id IN (SELECT in_list.val FROM (VALUES ROW(?), ROW(?)) AS in_list(val))", mysql.getSql());
+	}
+
+	@Test
+	public void testValuesTableRequiresValues() {
+		assertThrows(IllegalArgumentException.class,
+					 () -> SqlQueryFactory.createValuesTable("id", Integer.class, List.of()));
+	}
+
+	@Test
+	public void testCommonTableExpressions() {
+		EmployeesDbTable emp = new EmployeesDbTable();
+		DepartmentDbTable dep = new DepartmentDbTable();
+		SqlCommonTable adults = SqlQueryFactory.createCommonTable("adults");
+		SqlCommonTable departments = SqlQueryFactory.createCommonTable("departments");
+		DbTableField<String> depTitle = dep.title.as("dep_title");
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.with(adults, SqlQueryFactory.createSubquery()
+										  .select(emp.id, emp.department_id)
+										  .from(emp)
+										  .where(emp.age.ge(18))
+										  .getQuery())
+			 .with(departments, SqlQueryFactory.createSubquery()
+											   .select(dep.id, depTitle)
+											   .from(dep)
+											   .where(dep.admin_id.eq(1000))
+											   .getQuery())
+			 .select(adults.getField(emp.id), departments.getField(depTitle))
+			 .from(adults.as("a"))
+			 .innerJoin(departments.as("d")).on(adults.getField(emp.department_id).eq(departments.getField(dep.id)))
+			 .where(adults.getField(emp.id).gt(5));
+
+		assertEquals("WITH adults AS (SELECT id, department_id FROM employees WHERE age >= ?), "
+							 + "departments AS (SELECT id, title AS dep_title FROM department WHERE admin_id = ?) "
+							 + "SELECT a.id, d.dep_title FROM adults AS a "
+							 + "INNER JOIN departments AS d ON a.department_id = d.id WHERE a.id > ?",
+					 query.getSql());
+		assertEquals(List.of(18, 1000, 5), query.getValues());
+	}
+
+	@Test
+	public void testRecursiveCommonTableExpression() {
+		DepartmentDbTable dep = new DepartmentDbTable();
+		DepartmentDbTable child = new DepartmentDbTable();
+		DbTableView c = child.as("c");
+		SqlCommonTable tree = SqlQueryFactory.createCommonTable("tree");
+		SqlCommonTable roots = SqlQueryFactory.createCommonTable("roots");
+
+		SqlSubquery rootsQuery = SqlQueryFactory.createSubquery();
+		rootsQuery.select(dep.id).from(dep).where(dep.parent_id.isNull());
+
+		SqlSubquery treeQuery = SqlQueryFactory.createSubquery();
+		treeQuery.select(dep.id, dep.title).from(dep).where(dep.admin_id.eq(1000))
+				 .unionAll(SqlQueryFactory.createSubquery()
+										  .select(c.getField(child.id), c.getField(child.title))
+										  .from(c)
+										  .innerJoin(tree.as("t")).on(c.getField(child.parent_id).eq(tree.getField(dep.id)))
+										  .getQuery());
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.with(roots, rootsQuery)
+			 .withRecursive(tree, treeQuery)
+			 .select(tree.getField(dep.title))
+			 .from(tree)
+			 .limit(50);
+
+		assertEquals("WITH RECURSIVE roots AS (SELECT id FROM department WHERE parent_id IS NULL), "
+							 + "tree AS (SELECT id, title FROM department WHERE admin_id = ? "
+							 + "UNION ALL SELECT c.id, c.title FROM department AS c INNER JOIN tree AS t ON c.parent_id = t.id) "
+							 + "SELECT t.title FROM tree AS t LIMIT ?",
+					 query.getSql());
+		assertEquals(List.of(1000, 50), query.getValues());
+	}
+
+	@Test
+	public void testCommonTableExpressionAfterStatement() {
+		EmployeesDbTable emp = new EmployeesDbTable();
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.select(emp.id).from(emp);
+
+		SqlCommonTable adults = SqlQueryFactory.createCommonTable("adults");
+		assertThrows(IllegalStateException.class, () -> query.with(adults, SqlQueryFactory.createSubquery()));
+		assertThrows(IllegalArgumentException.class, () -> SqlQueryFactory.createCommonTable(" "));
+	}
+
+	@Test
+	public void testWindowFunctions() {
+		EmployeesDbTable emp = new EmployeesDbTable();
+		DbTableView e = emp.as("e");
+		SqlWindow byAge = SqlWindow.partitionBy(e.getField(emp.department_id))
+								   .orderBy(e.getField(emp.age).asc(), e.getField(emp.id).asc());
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.select(e.getField(emp.id),
+					 e.getField(emp.age).lag(byAge),
+					 e.getField(emp.age).lead(2, byAge).as("next_age"),
+					 e.getField(emp.age).sum().over(SqlWindow.empty().orderBy(e.getField(emp.id).asc())),
+					 e.getField(emp.id).rank(SqlWindow.empty().orderBy(e.getField(emp.age).desc())),
+					 e.getField(emp.id).count().over(SqlWindow.empty()))
+			 .from(e);
+
+		assertEquals("SELECT e.id, "
+							 + "LAG(e.age, 1) OVER (PARTITION BY e.department_id ORDER BY e.age ASC, e.id ASC) AS lag_age, "
+							 + "LEAD(e.age, 2) OVER (PARTITION BY e.department_id ORDER BY e.age ASC, e.id ASC) AS next_age, "
+							 + "SUM(e.age) OVER (ORDER BY e.id ASC) AS sum_age, "
+							 + "RANK() OVER (ORDER BY e.age DESC) AS rank_id, "
+							 + "COUNT(e.id) OVER () AS count_id "
+							 + "FROM employees AS e",
+					 query.getSql());
+	}
+
+	@Test
+	public void testWindowFunctionFilteredThroughDerivedTable() {
+		EmployeesDbTable emp = new EmployeesDbTable();
+		DbWindowField<Long> rowNumber = emp.id.rowNumber(SqlWindow.partitionBy(emp.department_id).orderBy(emp.age.desc()))
+											  .as("rn");
+
+		SqlSubquery ranked = SqlQueryFactory.createSubquery();
+		ranked.select(emp.id, emp.department_id, rowNumber).from(emp).getQuery().as("r");
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.select(ranked.getField(emp.id), ranked.getField(emp.department_id))
+			 .from(ranked)
+			 .where(ranked.getField(rowNumber).le(3L))
+			 .orderBy(ranked.getField(rowNumber).asc());
+
+		assertEquals("SELECT r.id, r.department_id FROM (SELECT id, department_id, "
+							 + "ROW_NUMBER() OVER (PARTITION BY department_id ORDER BY age DESC) AS rn "
+							 + "FROM employees) AS r WHERE r.rn <= ? ORDER BY r.rn ASC",
+					 query.getSql());
+		assertEquals(List.of(3L), query.getValues());
+	}
+
+	@Test
+	public void testLateralJoins() {
+		DepartmentDbTable dep = new DepartmentDbTable();
+		EmployeesDbTable emp = new EmployeesDbTable();
+		DbTableView d = dep.as("d");
+
+		SqlSubquery oldest = SqlQueryFactory.createSubquery();
+		oldest.select(emp.id, emp.age)
+			  .from(emp)
+			  .where(emp.department_id.eq(d.getField(dep.id)).and(emp.age.gt(18)))
+			  .orderBy(emp.age.desc())
+			  .limit(3)
+			  .getQuery().as("o");
+
+		SqlQuery query = SqlQueryFactory.createQuery();
+		query.select(d.getField(dep.title), oldest.getField(emp.id), oldest.getField(emp.age))
+			 .from(d)
+			 .leftJoinLateral(oldest)
+			 .where(d.getField(dep.admin_id).eq(1000));
+
+		assertEquals("SELECT d.title, o.id, o.age FROM department AS d LEFT JOIN LATERAL (SELECT id, age FROM employees "
+							 + "WHERE department_id = d.id AND age > ? ORDER BY age DESC LIMIT ?) AS o ON TRUE "
+							 + "WHERE d.admin_id = ?",
+					 query.getSql());
+		assertEquals(List.of(18, 3, 1000), query.getValues());
+
+		SqlSubquery admin = SqlQueryFactory.createSubquery();
+		admin.select(emp.age).from(emp).where(emp.id.eq(d.getField(dep.admin_id))).getQuery().as("a");
+
+		SqlQuery crossQuery = SqlQueryFactory.createQuery();
+		crossQuery.select(d.getField(dep.title), admin.getField(emp.age)).from(d).crossJoinLateral(admin);
+
+		assertEquals("SELECT d.title, a.age FROM department AS d "
+							 + "CROSS JOIN LATERAL (SELECT age FROM employees WHERE id = d.admin_id) AS a",
+					 crossQuery.getSql());
+	}
+
+}
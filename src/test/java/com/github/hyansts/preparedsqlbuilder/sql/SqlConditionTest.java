@@ -7,6 +7,10 @@ import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SqlConditionTest {
 
@@ -100,4 +104,153 @@ public class SqlConditionTest {
 		assertEquals(expectedValues, result.getComparedValues());
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testRowValueIn() {
+		DbTableField<Integer> field1 = new DbTableField<>("field1", null, Integer.class);
+		DbTableField<Integer> field2 = new DbTableField<>("field2", null, Integer.class);
+
+		SqlCondition result = new SqlCondition(List.of(field1, field2), SqlConditionOperator.IN,
+											   List.of(List.of(1, 2), List.of(3, 4)));
+
+		String expected = "(field1, field2) IN ((?, ?), (?, ?))";
+		List<Object> expectedValues = List.of(1, 2, 3, 4);
+		assertEquals(expected, result.getSql());
+		assertEquals(expectedValues, result.getComparedValues());
+	}
+
+	@Test
+	public void testRowValueInSingleField() {
+		DbTableField<Integer> field1 = new DbTableField<>("field1", null, Integer.class);
+
+		SqlCondition result = new SqlCondition(List.of(field1), SqlConditionOperator.NOT_IN,
+											   List.of(List.of(1), List.of(2)));
+
+		assertEquals("field1 NOT IN (?, ?)", result.getSql());
+		assertEquals(List.of(1, 2), result.getComparedValues());
+	}
+
+	@Test
+	public void testOptimizeMergesEqualitiesIntoIn() {
+		DbTableField<Integer> field1 = new DbTableField<>("field1", null, Integer.class);
+		DbTableField<Integer> field2 = new DbTableField<>("field2", null, Integer.class);
+
+		SqlCondition condition = field1.eq(1).or(field2.eq(5)).or(field1.eq(2)).or(field1.in(List.of(2, 3)));
+
+		SqlCondition result = condition.optimize();
+
+		assertEquals("field1 IN (?, ?, ?) OR field2 = ?", result.getSql());
+		assertEquals(List.of(1, 2, 3, 5), result.getComparedValues());
+		assertEquals("field1 = ? OR field2 = ? OR field1 = ? OR field1 IN (?, ?)", condition.getSql());
+	}
+
+	@Test
+	public void testOptimizeFlattensAndDeduplicates() {
+		DbTableField<Integer> field1 = new DbTableField<>("field1", null, Integer.class);
+		DbTableField<Integer> field2 = new DbTableField<>("field2", null, Integer.class);
+		DbTableField<Integer> field3 = new DbTableField<>("field3", null, Integer.class);
+
+		SqlCondition condition = field1.eq(1).and(field2.gt(2).and(field3.lt(3).and(field1.eq(1))));
+
+		SqlCondition result = condition.optimize();
+
+		assertEquals("field1 = ? AND field2 > ? AND (field3 < ? AND field1 = ?)", condition.getSql());
+		assertEquals("field1 = ? AND field2 > ? AND field3 < ?", result.getSql());
+		assertEquals(List.of(1, 2, 3), result.getComparedValues());
+	}
+
+	@Test
+	public void testOptimizeSingleElementIn() {
+		DbTableField<Integer> field1 = new DbTableField<>("field1", null, Integer.class);
+		DbTableField<Integer> field2 = new DbTableField<>("field2", null, Integer.class);
+
+		SqlCondition result = field1.in(List.of(1)).and(field2.notIn(List.of(2))).optimize();
+
+		assertEquals("field1 = ? AND field2 <> ?", result.getSql());
+		assertEquals(List.of(1, 2), result.getComparedValues());
+	}
+
+	@Test
+	public void testOptimizeKeepsPrecedence() {
+		DbTableField<Integer> field1 = new DbTableField<>("field1", null, Integer.class);
+		DbTableField<Integer> field2 = new DbTableField<>("field2", null, Integer.class);
+		DbTableField<Integer> field3 = new DbTableField<>("field3", null, Integer.class);
+
+		SqlCondition condition = field3.gt(0).and(field1.eq(1).or(field2.eq(3).and(field3.eq(4))).or(field1.eq(2)));
+
+		SqlCondition result = condition.optimize();
+
+		assertEquals("field3 > ? AND (field1 = ? OR (field2 = ? AND field3 = ?) OR field1 = ?)", condition.getSql());
+		assertEquals("field3 > ? AND (field1 IN (?, ?) OR (field2 = ? AND field3 = ?))", result.getSql());
+		assertEquals(List.of(0, 1, 2, 3, 4), result.getComparedValues());
+
+		SqlCondition combined = field2.eq(1).and(result);
+		assertEquals("field2 = ? AND (field3 > ? AND (field1 IN (?, ?) OR (field2 = ? AND field3 = ?)))",
+					 combined.getSql());
+	}
+
+	@Test
+	public void testOptimizeIgnoresLaterChangesToOperands() {
+		DbTableField<Integer> field1 = new DbTableField<>("field1", null, Integer.class);
+		DbTableField<Integer> field2 = new DbTableField<>("field2", null, Integer.class);
+
+		SqlCondition operand = field1.eq(2);
+		SqlCondition condition = field1.eq(1).or(operand);
+		operand.and(field2.eq(3));
+
+		SqlCondition result = condition.optimize();
+
+		assertEquals("field1 = ? OR field1 = ?", condition.getSql());
+		assertEquals("field1 IN (?, ?)", result.getSql());
+		assertEquals(List.of(1, 2), result.getComparedValues());
+	}
+
+	@Test
+	public void testDisjunction() {
+		DbTableField<Integer> field1 = new DbTableField<>("field1", null, Integer.class);
+		DbTableField<Integer> field2 = new DbTableField<>("field2", null, Integer.class);
+
+		assertFalse(field1.eq(1).and(field2.eq(2)).isDisjunction());
+		assertFalse(field1.eq(1).and(field2.eq(2).or(field1.eq(3))).isDisjunction());
+		assertTrue(field1.eq(1).or(field2.eq(2)).isDisjunction());
+		SqlCondition nested = field1.eq(1).and(field2.eq(2).or(field1.eq(3)).and(field2.eq(4).or(field1.eq(5))));
+		assertEquals("field1 = ? AND field2 = ? OR field1 = ? AND (field2 = ? OR field1 = ?)", nested.getSql());
+		assertTrue(nested.isDisjunction());
+		assertFalse(field1.eq(3).and(field1.eq(1).or(field2.eq(2)).optimize()).isDisjunction());
+	}
+
+	@Test
+	public void testReferencedFields() {
+		DbTableField<Integer> field1 = new DbTableField<>("field1", null, Integer.class);
+		DbTableField<Integer> field2 = new DbTableField<>("field2", null, Integer.class);
+		DbTableField<Integer> field3 = new DbTableField<>("field3", null, Integer.class);
+
+		assertEquals(List.of(field1, field2), field1.eq(field2).getEquatedFields());
+		assertEquals(List.of(), field1.gt(field2).getEquatedFields());
+		assertEquals(List.of(), field1.eq(field2).and(field3.eq(1)).getEquatedFields());
+
+		SqlCondition condition = field1.eq(1).and(field2.eq(2).or(field3.isNull()));
+		assertEquals(List.of(field1, field2, field3), condition.getReferencedFields());
+		assertEquals(List.of(field1, field2, field3), condition.optimize().getReferencedFields());
+	}
+
+	@Test
+	public void testEmptyCondition() {
+		DbTableField<Integer> field1 = new DbTableField<>("field1", null, Integer.class);
+		DbTableField<String> field2 = new DbTableField<>("field2", null, String.class);
+
+		SqlCondition result = field1.eqIfPresent(null)
+									.and(field2.likeIfPresent("A%"))
+									.and(field1.inIfPresent(List.of()))
+									.or(field1.gtIfPresent(3));
+
+		assertEquals("field2 LIKE ? OR field1 > ?", result.getSql());
+		assertEquals(List.of("A%", 3), result.getComparedValues());
+
+		SqlCondition none = field1.eqIfPresent(null).and(field2.eqIfPresent(null)).or(field1.inIfPresent(null));
+		assertSame(SqlCondition.empty(), none);
+		assertTrue(none.isEmpty());
+		assertEquals("", SqlCondition.empty().getSql());
+		assertThrows(UnsupportedOperationException.class, () -> SqlCondition.empty().getComparedValues().add(1));
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SqlInListPaddingTest {
+
+	@Test
+	void powersOfTwo() {
+		SqlInListPadding padding = SqlInListPadding.POWERS_OF_TWO;
+		assertEquals(0, padding.bucketSize(0));
+		assertEquals(1, padding.bucketSize(1));
+		assertEquals(2, padding.bucketSize(2));
+		assertEquals(8, padding.bucketSize(5));
+		assertEquals(8, padding.bucketSize(8));
+		assertEquals(1024, padding.bucketSize(1000));
+	}
+
+	@Test
+	void customLadder() {
+		SqlInListPadding padding = SqlInListPadding.of(10, 50, 100);
+		assertEquals(10, padding.bucketSize(1));
+		assertEquals(50, padding.bucketSize(11));
+		assertEquals(100, padding.bucketSize(100));
+		assertEquals(300, padding.bucketSize(201));
+	}
+
+	@Test
+	void pad() {
+		assertEquals(List.of("a", "b", "c", "c"), SqlInListPadding.POWERS_OF_TWO.pad(List.of("a", "b", "c")));
+		assertEquals(List.of(), SqlInListPadding.POWERS_OF_TWO.pad(List.of()));
+	}
+
+	@Test
+	void invalidLadder() {
+		assertThrows(IllegalArgumentException.class, SqlInListPadding::of);
+		assertThrows(IllegalArgumentException.class, () -> SqlInListPadding.of(10, 5));
+		assertThrows(IllegalArgumentException.class, () -> SqlInListPadding.of(0, 5));
+	}
+
+}
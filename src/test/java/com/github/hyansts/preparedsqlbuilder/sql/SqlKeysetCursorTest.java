@@ -0,0 +1,40 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SqlKeysetCursorTest {
+
+	@Test
+	void encodeDecode() {
+		UUID uuid = UUID.randomUUID();
+		SqlKeysetCursor cursor = SqlKeysetCursor.of("John", 10, 20L, new BigDecimal("1.50"), true, uuid,
+													LocalDateTime.of(2024, 5, 1, 10, 30));
+
+		SqlKeysetCursor decoded = SqlKeysetCursor.decode(cursor.encode());
+
+		assertEquals(cursor, decoded);
+		assertEquals(List.of("John", 10, 20L, new BigDecimal("1.50"), true, uuid, LocalDateTime.of(2024, 5, 1, 10, 30)),
+					 decoded.getValues());
+	}
+
+	@Test
+	void unsupportedType() {
+		assertThrows(IllegalArgumentException.class, () -> SqlKeysetCursor.of(new Object()));
+		assertThrows(IllegalArgumentException.class, SqlKeysetCursor::of);
+	}
+
+	@Test
+	void invalidToken() {
+		assertThrows(IllegalArgumentException.class, () -> SqlKeysetCursor.decode("not a cursor"));
+		assertThrows(IllegalArgumentException.class, () -> SqlKeysetCursor.decode("AQBv"));
+	}
+
+}
@@ -0,0 +1,306 @@
+package com.github.hyansts.preparedsqlbuilder.sql;
+
+import java.util.List;
+import java.util.Map;
+
+import com.github.hyansts.preparedsqlbuilder.db.impl.BaseDbTable;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableField;
+import com.github.hyansts.preparedsqlbuilder.db.impl.DbTableView;
+import com.github.hyansts.preparedsqlbuilder.query.PreparedSql;
+import com.github.hyansts.preparedsqlbuilder.query.SqlQuery;
+import com.github.hyansts.preparedsqlbuilder.query.SqlSubquery;
+import com.github.hyansts.preparedsqlbuilder.query.impl.SqlQueryFactory;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StandardSqlDialectTest {
+
+	private static class EmployeesDbTable extends BaseDbTable {
+
+		public final DbTableField<Integer> id = new DbTableField<>("id", this, Integer.class);
+		public final DbTableField<String> name = new DbTableField<>("name", this, String.class);
+		public final DbTableField<Integer> age = new DbTableField<>("age", this, Integer.class);
+
+		public EmployeesDbTable() { super("employees"); }
+	}
+
+	@Test
+	public void testPagination() {
+		var tb = new EmployeesDbTable();
+
+		PreparedSql mysql = SqlQueryFactory.createQuery(StandardSqlDialect.MYSQL)
+										   .select().from(tb).orderBy(tb.id.asc()).limit(10).offset(20);
+		assertEquals("SELECT * FROM employees ORDER BY id ASC LIMIT ? OFFSET ?", mysql.getSql());
+		assertEquals(List.of(10, 20), mysql.getValues());
+
+		PreparedSql oracle = SqlQueryFactory.createQuery(StandardSqlDialect.ORACLE)
+											.select().from(tb).where(tb.age.gt(18)).orderBy(tb.id.asc()).limit(10).offset(20);
+		assertEquals("SELECT * FROM employees WHERE age > ? ORDER BY id ASC OFFSET ? ROWS FETCH NEXT ? ROWS ONLY",
+					 oracle.getSql());
+		assertEquals(List.of(18, 20, 10), oracle.getValues());
+
+		PreparedSql h2 = SqlQueryFactory.createQuery(StandardSqlDialect.H2).select().from(tb).limit(1);
+		assertEquals("SELECT * FROM employees FETCH NEXT ? ROWS ONLY", h2.getSql());
+
+		PreparedSql sqlServer = SqlQueryFactory.createQuery(StandardSqlDialect.SQL_SERVER).select().from(tb).limit(5);
+		assertEquals("SELECT * FROM employees ORDER BY (SELECT NULL) OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY",
+					 sqlServer.getSql());
+		assertEquals(List.of(5), sqlServer.getValues());
+
+		PreparedSql orderedSqlServer = SqlQueryFactory.createQuery(StandardSqlDialect.SQL_SERVER)
+													  .select().from(tb).orderBy(tb.name.desc()).limit(5).offset(10);
+		assertEquals("SELECT * FROM employees ORDER BY name DESC OFFSET ? ROWS FETCH NEXT ? ROWS ONLY",
+					 orderedSqlServer.getSql());
+		assertEquals(List.of(10, 5), orderedSqlServer.getValues());
+	}
+
+	@Test
+	public void testOnDuplicateKeyUpsert() {
+		var tb = new EmployeesDbTable();
+
+		SqlQuery update = SqlQueryFactory.createQuery(StandardSqlDialect.MYSQL);
+		update.insertInto(tb).values(tb.id.value(1), tb.name.value("John")).onConflict(tb.id).doUpdateSet(tb.name);
+		assertEquals("INSERT INTO employees (id, name) VALUES (?, ?) ON DUPLICATE KEY UPDATE name = VALUES(name)",
+					 update.getSql());
+
+		SqlQuery skip = SqlQueryFactory.createQuery(StandardSqlDialect.MYSQL);
+		skip.insertInto(tb).values(tb.id.value(1), tb.name.value("John")).onConflict().doNothing();
+		assertEquals("INSERT INTO employees (id, name) VALUES (?, ?) ON DUPLICATE KEY UPDATE id = id", skip.getSql());
+	}
+
+	@Test
+	public void testMergeUpsert() {
+		var tb = new EmployeesDbTable();
+
+		SqlQuery sqlServer = SqlQueryFactory.createQuery(StandardSqlDialect.SQL_SERVER);
+		sqlServer.insertInto(tb)
+				 .values(tb.id.value(1), tb.name.value("John"), tb.age.value(30))
+				 .values(tb.id.value(2), tb.name.value("Jane"), tb.age.value(25))
+				 .onConflict(tb.id)
+				 .doUpdate(tb.age.value(40));
+		assertEquals("MERGE INTO employees AS t USING (VALUES (?, ?, ?), (?, ?, ?)) AS s (id, name, age) ON t.id = s.id "
+							 + "WHEN MATCHED THEN UPDATE SET age = ? "
+							 + "WHEN NOT MATCHED THEN INSERT (id, name, age) VALUES (s.id, s.name, s.age);",
+					 sqlServer.getSql());
+		assertEquals(List.of(1, "John", 30, 2, "Jane", 25, 40), sqlServer.getValues());
+
+		SqlQuery oracle = SqlQueryFactory.createQuery(StandardSqlDialect.ORACLE);
+		oracle.insertInto(tb).values(tb.id.value(1), tb.name.value("John")).onConflict(tb.id).doNothing();
+		assertEquals("MERGE INTO employees t USING (SELECT ? AS id, ? AS name FROM DUAL) s ON (t.id = s.id) "
+							 + "WHEN NOT MATCHED THEN INSERT (id, name) VALUES (s.id, s.name)", oracle.getSql());
+
+		SqlQuery h2 = SqlQueryFactory.createQuery(StandardSqlDialect.H2);
+		h2.insertInto(tb).values(tb.id.value(1), tb.name.value("John")).onConflict(tb.id).doUpdateSet(tb.name);
+		assertEquals("MERGE INTO employees (id, name) KEY (id) VALUES (?, ?)", h2.getSql());
+
+		SqlQuery partialH2 = SqlQueryFactory.createQuery(StandardSqlDialect.H2);
+		partialH2.insertInto(tb)
+				 .values(tb.id.value(1), tb.name.value("John"), tb.age.value(30))
+				 .onConflict(tb.id)
+				 .doUpdateSet(tb.age);
+		assertEquals("MERGE INTO employees AS t USING (VALUES (?, ?, ?)) AS s (id, name, age) ON t.id = s.id "
+							 + "WHEN MATCHED THEN UPDATE SET age = s.age "
+							 + "WHEN NOT MATCHED THEN INSERT (id, name, age) VALUES (s.id, s.name, s.age)",
+					 partialH2.getSql());
+
+		var withoutTarget = SqlQueryFactory.createQuery(StandardSqlDialect.ORACLE)
+										   .insertInto(tb).values(tb.id.value(1)).onConflict();
+		assertThrows(IllegalArgumentException.class, withoutTarget::doNothing);
+	}
+
+	@Test
+	public void testExistsAndTokens() {
+		var tb = new EmployeesDbTable();
+
+		PreparedSql oracle = SqlQueryFactory.createQuery(StandardSqlDialect.ORACLE)
+											.select("1").from(tb).where(tb.age.gt(60)).exists();
+		assertEquals("SELECT CASE WHEN EXISTS (SELECT 1 FROM employees WHERE age > ?) THEN 1 ELSE 0 END FROM DUAL",
+					 oracle.getSql());
+
+		PreparedSql minus = SqlQueryFactory.createQuery(StandardSqlDialect.ORACLE)
+										   .select(tb.id).from(tb)
+										   .except(SqlQueryFactory.createQuery(StandardSqlDialect.ORACLE).select(tb.id).from(tb).where(tb.age.lt(18)));
+		assertEquals("SELECT id FROM employees MINUS SELECT id FROM employees WHERE age < ?", minus.getSql());
+		assertEquals("1 = 1", StandardSqlDialect.SQL_SERVER.token(SqlKeyword.TRUE));
+	}
+
+	@Test
+	public void testSubqueriesAndAliases() {
+		var tb = new EmployeesDbTable();
+		DbTableView e = tb.as("e");
+
+		SqlSubquery subquery = SqlQueryFactory.createSubquery(StandardSqlDialect.ORACLE);
+		subquery.select(tb.id).from(tb).orderBy(tb.id.asc()).limit(3).getQuery().as("s");
+		PreparedSql oracle = SqlQueryFactory.createQuery(StandardSqlDialect.ORACLE).select().from(subquery).limit(3);
+		assertEquals("SELECT * FROM (SELECT id FROM employees ORDER BY id ASC FETCH NEXT ? ROWS ONLY) s "
+							 + "FETCH NEXT ? ROWS ONLY", oracle.getSql());
+
+		PreparedSql aliased = SqlQueryFactory.createQuery(StandardSqlDialect.ORACLE).select(e.getField(tb.id)).from(e);
+		assertEquals("SELECT e.id FROM employees e", aliased.getSql());
+
+		SqlSubquery generic = SqlQueryFactory.createSubquery();
+		generic.select(tb.id).from(tb).getQuery().as("g");
+		assertThrows(IllegalArgumentException.class,
+					 () -> SqlQueryFactory.createQuery(StandardSqlDialect.ORACLE).select().from(generic));
+	}
+
+	@Test
+	public void testLateralJoinHintsAndSeek() {
+		var tb = new EmployeesDbTable();
+		DbTableView e = tb.as("e");
+
+		SqlSubquery older = SqlQueryFactory.createSubquery(StandardSqlDialect.SQL_SERVER);
+		older.select(tb.id).from(tb).where(tb.age.gt(e.getField(tb.age))).getQuery().as("o");
+		PreparedSql lateral = SqlQueryFactory.createQuery(StandardSqlDialect.SQL_SERVER)
+											 .select().from(e).leftJoinLateral(older);
+		assertEquals("SELECT * FROM employees AS e OUTER APPLY (SELECT id FROM employees WHERE age > e.age) AS o",
+					 lateral.getSql());
+
+		PreparedSql sqlServerHints = SqlQueryFactory.createQuery(StandardSqlDialect.SQL_SERVER)
+													.hint(SqlHint.parallel(4))
+													.select().from(tb.withHints(SqlTableHint.forceIndex("idx_age")));
+		assertEquals("SELECT * FROM employees WITH (INDEX(idx_age))", sqlServerHints.getSql());
+
+		PreparedSql mysqlHints = SqlQueryFactory.createQuery(StandardSqlDialect.MYSQL)
+												.hint(SqlHint.parallel(4))
+												.select().from(tb.withHints(SqlTableHint.forceIndex("idx_age")));
+		assertEquals("SELECT * FROM employees FORCE INDEX (idx_age)", mysqlHints.getSql());
+
+		PreparedSql seek = SqlQueryFactory.createQuery(StandardSqlDialect.SQL_SERVER)
+										  .select().from(tb).orderBy(tb.name.asc(), tb.id.asc()).seekAfter("John", 10);
+		assertEquals("SELECT * FROM employees WHERE name > ? OR (name = ? AND id > ?) ORDER BY name ASC, id ASC",
+					 seek.getSql());
+		assertEquals(List.of("John", "John", 10), seek.getValues());
+	}
+
+	@Test
+	public void testStatementHints() {
+		var tb = new EmployeesDbTable();
+		var managers = new EmployeesDbTable();
+		DbTableView e = tb.as("e");
+		DbTableView m = managers.as("m");
+		SqlHint[] hints = {SqlHint.leading(e, m), SqlHint.parallel(4), SqlHint.parallel(e, 2),
+						   SqlHint.index(e, "idx_age", "idx_name"), SqlHint.of("NO_MERGE")};
+
+		String oracleHints = "/*+ LEADING(e m) PARALLEL(4) PARALLEL(e 2) INDEX(e idx_age idx_name) NO_MERGE */ ";
+		String pgHintPlanHints = "/*+ Leading((e m)) Parallel(e 2) IndexScan(e idx_age idx_name) NO_MERGE */ ";
+		Map<StandardSqlDialect, String> expected = Map.of(
+				StandardSqlDialect.GENERIC, oracleHints,
+				StandardSqlDialect.ORACLE, oracleHints,
+				StandardSqlDialect.POSTGRESQL, pgHintPlanHints,
+				StandardSqlDialect.MYSQL, "/*+ JOIN_ORDER(e, m) INDEX(e idx_age, idx_name) NO_MERGE */ ",
+				StandardSqlDialect.SQLITE, "",
+				StandardSqlDialect.H2, "",
+				StandardSqlDialect.SQL_SERVER, "");
+		expected.forEach((dialect, comment) -> {
+			PreparedSql query = SqlQueryFactory.createQuery(dialect).hint(hints).select(e.getField(tb.id)).from(e)
+											   .innerJoin(m).on(e.getField(tb.age).eq(m.getField(managers.age)));
+			String as = dialect.token(SqlKeyword.TABLE_AS);
+			assertEquals("SELECT " + comment + "e.id FROM employees" + as + "e INNER JOIN employees" + as + "m "
+								 + "ON e.age = m.age", query.getSql());
+		});
+
+		PreparedSql single = SqlQueryFactory.createQuery(StandardSqlDialect.POSTGRESQL)
+											.hint(SqlHint.leading(e), SqlHint.parallel(4)).select().from(e);
+		assertEquals("SELECT * FROM employees AS e", single.getSql());
+		PreparedSql nested = SqlQueryFactory.createQuery(StandardSqlDialect.POSTGRESQL)
+											.hint(SqlHint.leading(e, m, tb)).select().from(e);
+		assertEquals("SELECT /*+ Leading(((e m) employees)) */ * FROM employees AS e", nested.getSql());
+	}
+
+	@Test
+	public void testPlaceholdersAndQuoting() {
+		var tb = new EmployeesDbTable();
+
+		PreparedSql query = SqlQueryFactory.createQuery(StandardSqlDialect.POSTGRESQL_NATIVE)
+										   .select("'?' AS mark", tb.id)
+										   .from(tb)
+										   .where(tb.age.between(18, 30))
+										   .limit(10);
+		assertEquals("SELECT '?' AS mark, id FROM employees WHERE age BETWEEN $1 AND $2 LIMIT $3", query.getSql());
+
+		assertEquals("\"order\"", StandardSqlDialect.POSTGRESQL.quote("order"));
+		assertEquals("`order`", StandardSqlDialect.MYSQL.quote("order"));
+		assertEquals("[odd]]name]", StandardSqlDialect.SQL_SERVER.quote("odd]name"));
+	}
+
+	@Test
+	public void testArrayComparison() {
+		var tb = new EmployeesDbTable();
+
+		for (StandardSqlDialect dialect : List.of(StandardSqlDialect.GENERIC, StandardSqlDialect.POSTGRESQL,
+												  StandardSqlDialect.POSTGRESQL_NATIVE, StandardSqlDialect.H2)) {
+			PreparedSql query = SqlQueryFactory.createQuery(dialect).select().from(tb).where(tb.id.inArray(List.of(1, 2)));
+			assertEquals(dialect == StandardSqlDialect.POSTGRESQL_NATIVE ? "SELECT * FROM employees WHERE id = ANY($1)"
+								 : "SELECT * FROM employees WHERE id = ANY(?)", query.getSql());
+		}
+		for (StandardSqlDialect dialect : List.of(StandardSqlDialect.MYSQL, StandardSqlDialect.SQLITE,
+												  StandardSqlDialect.ORACLE, StandardSqlDialect.SQL_SERVER)) {
+			SqlQuery query = SqlQueryFactory.createQuery(dialect);
+			assertThrows(IllegalArgumentException.class,
+						 () -> query.select().from(tb).where(tb.name.eq("A").or(tb.id.notInArray(List.of(1)))));
+		}
+	}
+
+	@Test
+	public void testMultiTableModifications() {
+		var tb = new EmployeesDbTable();
+		var managers = new EmployeesDbTable();
+		DbTableView e = tb.as("e");
+		DbTableView m = managers.as("m");
+
+		for (StandardSqlDialect dialect : List.of(StandardSqlDialect.GENERIC, StandardSqlDialect.POSTGRESQL,
+												  StandardSqlDialect.SQLITE)) {
+			PreparedSql query = SqlQueryFactory.createQuery(dialect).update(e)
+											   .set(e.getField(tb.age), m.getField(managers.age))
+											   .from(m).where(e.getField(tb.id).eq(m.getField(managers.id)));
+			assertEquals("UPDATE employees AS e SET age = m.age FROM employees AS m WHERE e.id = m.id", query.getSql());
+		}
+		for (StandardSqlDialect dialect : List.of(StandardSqlDialect.MYSQL, StandardSqlDialect.H2,
+												  StandardSqlDialect.ORACLE, StandardSqlDialect.SQL_SERVER)) {
+			SqlQuery query = SqlQueryFactory.createQuery(dialect);
+			var set = query.update(tb).set(tb.age.value(1));
+			Exception ex = assertThrows(IllegalArgumentException.class, () -> set.from(m));
+			assertEquals("UPDATE ... FROM can't be rendered in the " + dialect + " dialect", ex.getMessage());
+		}
+
+		for (StandardSqlDialect dialect : List.of(StandardSqlDialect.GENERIC, StandardSqlDialect.POSTGRESQL)) {
+			PreparedSql query = SqlQueryFactory.createQuery(dialect).deleteFrom(e).using(m)
+											   .where(e.getField(tb.age).eq(m.getField(managers.age)));
+			assertEquals("DELETE FROM employees AS e USING employees AS m WHERE e.age = m.age", query.getSql());
+		}
+		for (StandardSqlDialect dialect : List.of(StandardSqlDialect.MYSQL, StandardSqlDialect.SQLITE,
+												  StandardSqlDialect.H2, StandardSqlDialect.ORACLE,
+												  StandardSqlDialect.SQL_SERVER)) {
+			var delete = SqlQueryFactory.createQuery(dialect).deleteFrom(tb);
+			assertThrows(IllegalArgumentException.class, () -> delete.using(m));
+		}
+	}
+
+	@Test
+	public void testUsingRejectsSubqueryOfAnotherDialect() {
+		var tb = new EmployeesDbTable();
+		SqlSubquery subquery = SqlQueryFactory.createSubquery(StandardSqlDialect.MYSQL);
+		subquery.select(tb.id).from(tb).getQuery().as("s");
+
+		var delete = SqlQueryFactory.createQuery(StandardSqlDialect.POSTGRESQL).deleteFrom(tb);
+		assertThrows(IllegalArgumentException.class, () -> delete.using(subquery));
+	}
+
+	@Test
+	public void testSelectedDialect() {
+		var tb = new EmployeesDbTable();
+		SqlQueryFactory.setDialect(StandardSqlDialect.ORACLE);
+		try {
+			assertEquals("SELECT * FROM employees FETCH NEXT ? ROWS ONLY",
+						 SqlQueryFactory.createQuery().select().from(tb).limit(1).getSql());
+		} finally {
+			SqlQueryFactory.setDialect(StandardSqlDialect.GENERIC);
+		}
+		assertEquals("SELECT * FROM employees LIMIT ?", SqlQueryFactory.createQuery().select().from(tb).limit(1).getSql());
+	}
+
+}